@@ -39,6 +39,38 @@ public abstract class AreaDescriptor {
      */
     public abstract List<BlockPos> getContainedPositions(BlockPos masterPos);
 
+    /**
+     * Visits every block position contained within this area without allocating a
+     * position per block. Visits positions in the same order as {@link #getContainedPositions}.
+     *
+     * <p>The same mutable position is passed for every call; visitors must call
+     * {@link BlockPos#immutable()} on it before keeping it.</p>
+     *
+     * @param masterPos The position of the master ritual stone
+     * @param visitor   Called for each position; returns false to stop iterating
+     * @return true if every position was visited, false if the visitor stopped early
+     */
+    public boolean forEachPosition(BlockPos masterPos, PositionVisitor visitor) {
+        BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+        for (BlockPos pos : getContainedPositions(masterPos)) {
+            if (!visitor.visit(mutablePos.set(pos))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates a cursor over this area's positions in chunk section order, so that
+     * consecutive positions share the same chunk and section as much as possible.
+     *
+     * @param masterPos The position of the master ritual stone
+     * @return A new cursor positioned before the first contained position
+     */
+    public PositionCursor cursor(BlockPos masterPos) {
+        return new PositionCursor(this, masterPos);
+    }
+
     /**
      * Gets the axis-aligned bounding box for this area.
      *
@@ -103,6 +135,174 @@ public abstract class AreaDescriptor {
      */
     public abstract AreaDescriptor offset(BlockPos offset);
 
+    /**
+     * Callback for {@link #forEachPosition}.
+     */
+    @FunctionalInterface
+    public interface PositionVisitor {
+        /**
+         * @param pos The current position; only valid for the duration of the call
+         * @return true to continue iterating, false to stop
+         */
+        boolean visit(BlockPos.MutableBlockPos pos);
+    }
+
+    /**
+     * Allocation-free cursor over an area's contained positions, ordered by chunk
+     * section: all positions of one 16x16x16 section are returned before moving on,
+     * and the sections of one chunk column are visited together.
+     *
+     * <p>The cursor's place is the last returned position, which can be read with
+     * {@link #getLastOffset()} and restored with {@link #seekAfter(int, int, int)},
+     * so a scan can be spread over several ticks. Shapes other than a rectangle walk
+     * their bounding box and skip positions outside the area.</p>
+     */
+    public static final class PositionCursor {
+        private final AreaDescriptor area;
+        private final int masterX, masterY, masterZ;
+        private final int minX, minY, minZ;
+        private final int maxX, maxY, maxZ;
+        private final BlockPos.MutableBlockPos relative = new BlockPos.MutableBlockPos();
+        private int x, y, z;
+        private boolean started = false;
+        private boolean finished;
+
+        private PositionCursor(AreaDescriptor area, BlockPos masterPos) {
+            this.area = area;
+            this.masterX = masterPos.getX();
+            this.masterY = masterPos.getY();
+            this.masterZ = masterPos.getZ();
+            AABB box = area.getAABB(masterPos);
+            this.minX = (int) Math.floor(box.minX);
+            this.minY = (int) Math.floor(box.minY);
+            this.minZ = (int) Math.floor(box.minZ);
+            this.maxX = (int) Math.ceil(box.maxX) - 1;
+            this.maxY = (int) Math.ceil(box.maxY) - 1;
+            this.maxZ = (int) Math.ceil(box.maxZ) - 1;
+            this.finished = minX > maxX || minY > maxY || minZ > maxZ;
+        }
+
+        /**
+         * Advances to the next contained position.
+         *
+         * @param out Receives the position
+         * @return false if there are no more positions
+         */
+        public boolean next(BlockPos.MutableBlockPos out) {
+            while (advance()) {
+                relative.set(x - masterX, y - masterY, z - masterZ);
+                if (area.isWithinArea(relative)) {
+                    out.set(x, y, z);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Moves to the next cell of the bounding box in section order.
+         */
+        private boolean advance() {
+            if (finished) {
+                return false;
+            }
+            if (!started) {
+                started = true;
+                x = minX;
+                y = minY;
+                z = minZ;
+                return true;
+            }
+
+            // Within a section: x, then z, then y
+            if (x < maxX && ((x + 1) & 15) != 0) {
+                x++;
+                return true;
+            }
+            int sectionMinX = Math.max(minX, x & ~15);
+            if (z < maxZ && ((z + 1) & 15) != 0) {
+                x = sectionMinX;
+                z++;
+                return true;
+            }
+            int sectionMinZ = Math.max(minZ, z & ~15);
+            if (y < maxY && ((y + 1) & 15) != 0) {
+                x = sectionMinX;
+                z = sectionMinZ;
+                y++;
+                return true;
+            }
+
+            // Next section: up the chunk column, then along x, then along z
+            int sectionMaxX = Math.min(maxX, x | 15);
+            int sectionMaxZ = Math.min(maxZ, z | 15);
+            if (y < maxY) {
+                x = sectionMinX;
+                z = sectionMinZ;
+                y++;
+                return true;
+            }
+            if (sectionMaxX < maxX) {
+                x = sectionMaxX + 1;
+                z = sectionMinZ;
+                y = minY;
+                return true;
+            }
+            if (sectionMaxZ < maxZ) {
+                x = minX;
+                z = sectionMaxZ + 1;
+                y = minY;
+                return true;
+            }
+
+            finished = true;
+            return false;
+        }
+
+        /**
+         * Whether every position has been returned.
+         */
+        public boolean isFinished() {
+            return finished;
+        }
+
+        /**
+         * Gets the last returned position relative to the master stone, or null if
+         * nothing has been returned yet.
+         */
+        public BlockPos getLastOffset() {
+            return started && !finished ? new BlockPos(x - masterX, y - masterY, z - masterZ) : null;
+        }
+
+        /**
+         * Resumes the cursor so that the next call to {@link #next} returns the position
+         * following the given offset (relative to the master stone). Offsets outside the
+         * area's bounding box restart the cursor from the beginning.
+         */
+        public void seekAfter(int offsetX, int offsetY, int offsetZ) {
+            int seekX = masterX + offsetX;
+            int seekY = masterY + offsetY;
+            int seekZ = masterZ + offsetZ;
+            if (seekX < minX || seekX > maxX || seekY < minY || seekY > maxY || seekZ < minZ || seekZ > maxZ) {
+                reset();
+                return;
+            }
+            x = seekX;
+            y = seekY;
+            z = seekZ;
+            started = true;
+            finished = false;
+        }
+
+        /**
+         * Moves the cursor back before the first position.
+         */
+        public void reset() {
+            started = false;
+            finished = minX > maxX || minY > maxY || minZ > maxZ;
+        }
+    }
+
     // Aliases for legacy compatibility
     public void writeToNBT(CompoundTag tag) { saveToNBT(tag); }
     public void readFromNBT(CompoundTag tag) { loadFromNBT(tag); }
@@ -168,16 +368,31 @@ public abstract class AreaDescriptor {
             }
 
             List<BlockPos> positions = new ArrayList<>();
-            for (BlockPos pos : BlockPos.betweenClosed(
-                    masterPos.offset(minimumOffset),
-                    masterPos.offset(maximumOffset))) {
-                positions.add(pos.immutable());
-            }
+            forEachPosition(masterPos, pos -> positions.add(pos.immutable()));
             cachedPositions = positions;
             cachedMasterPos = masterPos;
             return positions;
         }
 
+        @Override
+        public boolean forEachPosition(BlockPos masterPos, PositionVisitor visitor) {
+            BlockPos min = masterPos.offset(minimumOffset);
+            BlockPos max = masterPos.offset(maximumOffset);
+            BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+
+            // Same order as BlockPos.betweenClosed: x, then y, then z
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int y = min.getY(); y <= max.getY(); y++) {
+                    for (int x = min.getX(); x <= max.getX(); x++) {
+                        if (!visitor.visit(pos.set(x, y, z))) {
+                            return false;
+                        }
+                    }
+                }
+            }
+            return true;
+        }
+
         @Override
         public AABB getAABB(BlockPos masterPos) {
             BlockPos min = masterPos.offset(minimumOffset);
@@ -302,22 +517,29 @@ public abstract class AreaDescriptor {
             }
 
             List<BlockPos> positions = new ArrayList<>();
+            forEachPosition(masterPos, pos -> positions.add(pos.immutable()));
+            cachedPositions = positions;
+            cachedMasterPos = masterPos;
+            return positions;
+        }
+
+        @Override
+        public boolean forEachPosition(BlockPos masterPos, PositionVisitor visitor) {
             BlockPos center = masterPos.offset(centerOffset);
+            BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
             int radiusSq = radius * radius;
 
             for (int x = -radius; x <= radius; x++) {
                 for (int y = 0; y <= radius; y++) {
                     for (int z = -radius; z <= radius; z++) {
-                        if (x * x + y * y + z * z <= radiusSq) {
-                            positions.add(center.offset(x, y, z));
+                        if (x * x + y * y + z * z <= radiusSq
+                                && !visitor.visit(pos.setWithOffset(center, x, y, z))) {
+                            return false;
                         }
                     }
                 }
             }
-
-            cachedPositions = positions;
-            cachedMasterPos = masterPos;
-            return positions;
+            return true;
         }
 
         @Override
@@ -425,23 +647,33 @@ public abstract class AreaDescriptor {
             }
 
             List<BlockPos> positions = new ArrayList<>();
+            forEachPosition(masterPos, pos -> positions.add(pos.immutable()));
+            cachedPositions = positions;
+            cachedMasterPos = masterPos;
+            return positions;
+        }
+
+        @Override
+        public boolean forEachPosition(BlockPos masterPos, PositionVisitor visitor) {
             BlockPos center = masterPos.offset(centerOffset);
+            BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
 
             for (int y = 0; y < height; y++) {
                 // Center column
-                positions.add(center.offset(0, y, 0));
+                if (!visitor.visit(pos.setWithOffset(center, 0, y, 0))) {
+                    return false;
+                }
                 // Arms in each direction
                 for (int i = 1; i <= length; i++) {
-                    positions.add(center.offset(i, y, 0));
-                    positions.add(center.offset(-i, y, 0));
-                    positions.add(center.offset(0, y, i));
-                    positions.add(center.offset(0, y, -i));
+                    if (!visitor.visit(pos.setWithOffset(center, i, y, 0))
+                            || !visitor.visit(pos.setWithOffset(center, -i, y, 0))
+                            || !visitor.visit(pos.setWithOffset(center, 0, y, i))
+                            || !visitor.visit(pos.setWithOffset(center, 0, y, -i))) {
+                        return false;
+                    }
                 }
             }
-
-            cachedPositions = positions;
-            cachedMasterPos = masterPos;
-            return positions;
+            return true;
         }
 
         @Override
@@ -89,6 +89,7 @@ public class NeoVitae {
         CuriosCompat.init(modBus);
 
         container.registerConfig(ModConfig.Type.SERVER, SERVER_CONFIG_SPEC);
+        modBus.addListener(ServerConfig::onConfigChanged);
 
         modBus.addListener(this::commonSetup);
         modBus.addListener(BMPayloads::register);
@@ -1,8 +1,11 @@
 package com.breakinblocks.neovitae;
 
+import net.neoforged.fml.config.ModConfig;
+import net.neoforged.fml.event.config.ModConfigEvent;
 import net.neoforged.neoforge.common.ModConfigSpec;
 import com.breakinblocks.neovitae.common.datacomponent.EnumWillType;
 
+import java.util.Arrays;
 import java.util.EnumMap;
 
 public class ServerConfig {
@@ -17,6 +20,23 @@ public class ServerConfig {
     public final ModConfigSpec.DoubleValue WILL_MAX_DESTRUCTIVE;
     public final ModConfigSpec.DoubleValue WILL_MAX_VENGEFUL;
     public final ModConfigSpec.DoubleValue WILL_MAX_STEADFAST;
+    public final ModConfigSpec.DoubleValue WILL_SYNC_EPSILON;
+    public final ModConfigSpec.IntValue WILL_SYNC_INTERVAL;
+    public final ModConfigSpec.IntValue PYLON_TRANSFER_INTERVAL;
+
+    // Base maximum will per type, by ordinal. Defaults apply until the config is loaded.
+    private final double[] baseMaxWill = new double[EnumWillType.values().length];
+
+    // Blood Altar Configuration
+    public final ModConfigSpec.BooleanValue ALTAR_INCREMENTAL_STRUCTURE;
+    public final ModConfigSpec.IntValue ALTAR_FALLBACK_SCAN_INTERVAL;
+
+    // Ritual Configuration
+    public final ModConfigSpec.IntValue RITUAL_SCAN_BLOCKS_PER_TICK;
+    public final ModConfigSpec.IntValue RITUAL_TICK_BUDGET_MICROS;
+
+    // Block Protection Configuration
+    public final ModConfigSpec.IntValue PROTECTION_CACHE_TTL;
 
     // Demon Crystal Growth Configuration
     public final ModConfigSpec.DoubleValue CRYSTAL_WILL_TO_FORM;
@@ -29,6 +49,8 @@ public class ServerConfig {
     public final ModConfigSpec.IntValue CRYSTAL_MAX_COUNT;
 
     protected ServerConfig(ModConfigSpec.Builder builder) {
+        Arrays.fill(baseMaxWill, 100.0);
+
         SELF_SACRIFICE_CONVERSION = builder.define("self_sacrifice_conversion", 100);
         DEFAULT_UPGRADE_POINTS = builder.define("default_upgrade_points", 100);
         EVOLUTION_UPGRADE_POINTS = builder.define("evolution_upgrade_points", 300);
@@ -54,6 +76,61 @@ public class ServerConfig {
         WILL_MAX_STEADFAST = builder
                 .comment("Base maximum Steadfast demon will per chunk")
                 .defineInRange("max_steadfast_will", 100.0, 1.0, 10000.0);
+        WILL_SYNC_EPSILON = builder
+                .comment("Smallest change of a chunk's will (of any type) that is sent to clients.",
+                        "Smaller changes are held back until they add up to this amount.")
+                .defineInRange("sync_epsilon", 0.05, 0.0, 100.0);
+        WILL_SYNC_INTERVAL = builder
+                .comment("Minimum time (in ticks) between two will aura updates sent to the same player.",
+                        "Changes made in between are merged into one update.")
+                .defineInRange("sync_interval", 10, 1, 200);
+        PYLON_TRANSFER_INTERVAL = builder
+                .comment("Interval (in ticks) between two transfers of a Demon Pylon.",
+                        "Each transfer moves as much will as the pylon would have moved tick by tick over the interval.")
+                .defineInRange("pylon_transfer_interval", 5, 1, 100);
+
+        builder.pop();
+
+        builder.comment("Blood Altar Configuration",
+                "Controls how Blood Altars detect changes to their structure.");
+        builder.push("blood_altar");
+
+        ALTAR_INCREMENTAL_STRUCTURE = builder
+                .comment("If true, altars only recheck their tier and runes when a block in their structure changes.",
+                        "If false, altars rescan their whole structure every 5 seconds.")
+                .define("incremental_structure_tracking", true);
+        ALTAR_FALLBACK_SCAN_INTERVAL = builder
+                .comment("Interval (in ticks) of the safety rescan performed in incremental mode.",
+                        "Catches runes whose stats change without a block change. 0 disables it.")
+                .defineInRange("fallback_scan_interval", 1200, 0, 72000);
+
+        builder.pop();
+
+        builder.comment("Ritual Configuration",
+                "Controls how much work rituals do per tick.");
+        builder.push("rituals");
+
+        RITUAL_SCAN_BLOCKS_PER_TICK = builder
+                .comment("Number of blocks an area-scanning ritual (Felling, Harvest, Filler, ...) may inspect per tick.",
+                        "Each cycle checks this many blocks per tick of the ritual's refresh time and resumes where",
+                        "the previous cycle stopped. 0 scans the whole area every cycle.")
+                .defineInRange("scan_blocks_per_tick", 256, 0, 65536);
+        RITUAL_TICK_BUDGET_MICROS = builder
+                .comment("Time (in microseconds) all rituals in a dimension may spend per tick.",
+                        "Rituals that are due once the budget is spent wait for the next tick, in order.",
+                        "At least one ritual always runs per tick. 0 disables the limit.")
+                .defineInRange("tick_budget_micros", 5000, 0, 1000000);
+
+        builder.pop();
+
+        builder.comment("Block Protection Configuration",
+                "Controls how rituals and machines check protection mods (chunk claims) before breaking blocks.");
+        builder.push("block_protection");
+
+        PROTECTION_CACHE_TTL = builder
+                .comment("Time (in ticks) a break permission decision is reused for the same owner and chunk.",
+                        "Higher values mean fewer protection checks but slower reaction to claim changes. 0 disables caching.")
+                .defineInRange("permission_cache_ttl", 100, 0, 12000);
 
         builder.pop();
 
@@ -97,6 +174,10 @@ public class ServerConfig {
      * @return The base maximum will for that type
      */
     public double getBaseMaxWill(EnumWillType type) {
+        return baseMaxWill[type.ordinal()];
+    }
+
+    private double readBaseMaxWill(EnumWillType type) {
         return switch (type) {
             case DEFAULT -> WILL_MAX_DEFAULT.get();
             case CORROSIVE -> WILL_MAX_CORROSIVE.get();
@@ -106,6 +187,23 @@ public class ServerConfig {
         };
     }
 
+    /**
+     * Re-reads the values cached for hot paths. Called whenever the server config loads or reloads.
+     */
+    public void refreshCachedValues() {
+        for (EnumWillType type : EnumWillType.values()) {
+            baseMaxWill[type.ordinal()] = readBaseMaxWill(type);
+        }
+    }
+
+    public static void onConfigChanged(ModConfigEvent event) {
+        if (event.getConfig().getType() == ModConfig.Type.SERVER
+                && NeoVitae.MODID.equals(event.getConfig().getModId())
+                && !(event instanceof ModConfigEvent.Unloading)) {
+            NeoVitae.SERVER_CONFIG.refreshCachedValues();
+        }
+    }
+
     /**
      * Gets all base maximum will values as an EnumMap.
      *
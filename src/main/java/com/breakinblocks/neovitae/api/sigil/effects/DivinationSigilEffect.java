@@ -19,7 +19,6 @@ import com.breakinblocks.neovitae.api.sigil.SigilEffect;
 import com.breakinblocks.neovitae.common.blockentity.BloodAltarTile;
 import com.breakinblocks.neovitae.common.datacomponent.Binding;
 import com.breakinblocks.neovitae.common.datacomponent.BMDataComponents;
-import com.breakinblocks.neovitae.common.datacomponent.SoulNetwork;
 import com.breakinblocks.neovitae.registry.SigilEffectRegistry;
 import com.breakinblocks.neovitae.util.helper.NumeralHelper;
 import com.breakinblocks.neovitae.util.helper.SoulNetworkHelper;
@@ -78,14 +77,11 @@ public record DivinationSigilEffect(boolean isSeer) implements SigilEffect {
     private void showNetworkInfo(Player player, ItemStack stack) {
         Binding binding = stack.get(BMDataComponents.BINDING.get());
         if (binding != null) {
-            SoulNetwork network = SoulNetworkHelper.getSoulNetwork(binding);
-            if (network != null) {
-                int currentLP = network.getCurrentEssence();
-                if (!binding.uuid().equals(player.getGameProfile().getId())) {
-                    player.sendSystemMessage(Component.translatable(TOOLTIP_BASE + "otherNetwork", binding.name()));
-                }
-                player.sendSystemMessage(Component.translatable(TOOLTIP_BASE + "currentNetworkLP", currentLP));
+            int currentLP = SoulNetworkHelper.getCurrentEssence(binding.uuid());
+            if (!binding.uuid().equals(player.getGameProfile().getId())) {
+                player.sendSystemMessage(Component.translatable(TOOLTIP_BASE + "otherNetwork", binding.name()));
             }
+            player.sendSystemMessage(Component.translatable(TOOLTIP_BASE + "currentNetworkLP", currentLP));
         }
     }
 
@@ -12,6 +12,7 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.AABB;
 import com.breakinblocks.neovitae.api.sigil.SigilEffect;
 import com.breakinblocks.neovitae.common.damagesource.BMDamageSources;
+import com.breakinblocks.neovitae.common.world.PlayerProximityIndex;
 import com.breakinblocks.neovitae.registry.SigilEffectRegistry;
 import com.breakinblocks.neovitae.util.helper.PlayerHelper;
 
@@ -58,7 +59,7 @@ public record FastMinerSigilEffect(int amplifier) implements SigilEffect {
         int potionPotency = 2;
 
         AABB bb = new AABB(pos).inflate(radius);
-        List<Player> playerList = level.getEntitiesOfClass(Player.class, bb);
+        List<Player> playerList = PlayerProximityIndex.getPlayers(level, bb);
 
         for (Player player : playerList) {
             if (!player.hasEffect(MobEffects.DIG_SPEED) ||
@@ -61,9 +61,7 @@ public class DemonWillHandler implements IDemonWillHandler {
         WillChunk willChunk = chunk.getData(BMDataAttachments.WILL_CHUNK);
         willChunk.setMaxBonus(type, bonus);
 
-        // Create a copy to ensure NeoForge detects the change
-        WillChunk newWillChunk = willChunk.copy();
-        chunk.setData(BMDataAttachments.WILL_CHUNK, newWillChunk);
+        // Mutated in place; only the chunk needs to be flagged for saving
         chunk.setUnsaved(true);
     }
 
@@ -77,9 +75,7 @@ public class DemonWillHandler implements IDemonWillHandler {
         WillChunk willChunk = chunk.getData(BMDataAttachments.WILL_CHUNK);
         double newBonus = willChunk.addMaxBonus(type, amount);
 
-        // Create a copy to ensure NeoForge detects the change
-        WillChunk newWillChunk = willChunk.copy();
-        chunk.setData(BMDataAttachments.WILL_CHUNK, newWillChunk);
+        // Mutated in place; only the chunk needs to be flagged for saving
         chunk.setUnsaved(true);
 
         return newBonus;
@@ -8,10 +8,9 @@ import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.LayeredDraw;
 import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.world.item.ItemStack;
 import com.breakinblocks.neovitae.NeoVitae;
 import com.breakinblocks.neovitae.common.datacomponent.EnumWillType;
-import com.breakinblocks.neovitae.common.item.BMItems;
+import com.breakinblocks.neovitae.common.item.DemonWillGaugeItem;
 import com.breakinblocks.neovitae.will.WorldDemonWillHandler;
 
 import java.util.List;
@@ -47,7 +46,7 @@ public class DemonWillGaugeOverlay implements LayeredDraw.Layer {
         }
 
         // Check if player has the gauge in their inventory
-        if (!hasGaugeInInventory(player)) {
+        if (!DemonWillGaugeItem.hasGauge(player)) {
             return;
         }
 
@@ -101,14 +100,4 @@ public class DemonWillGaugeOverlay implements LayeredDraw.Layer {
             }
         }
     }
-
-    private boolean hasGaugeInInventory(LocalPlayer player) {
-        for (int i = 0; i < player.getInventory().getContainerSize(); i++) {
-            ItemStack stack = player.getInventory().getItem(i);
-            if (stack.is(BMItems.DEMON_WILL_GAUGE.get())) {
-                return true;
-            }
-        }
-        return false;
-    }
 }
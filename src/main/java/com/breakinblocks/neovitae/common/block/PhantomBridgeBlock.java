@@ -2,21 +2,19 @@ package com.breakinblocks.neovitae.common.block;
 
 import com.mojang.serialization.MapCodec;
 import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.BaseEntityBlock;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
-import com.breakinblocks.neovitae.common.blockentity.BMTiles;
 import com.breakinblocks.neovitae.common.blockentity.PhantomBridgeTile;
-import com.breakinblocks.neovitae.util.helper.BlockEntityHelper;
+import com.breakinblocks.neovitae.common.world.TemporaryBlockTimers;
 
 import javax.annotation.Nullable;
 
@@ -51,15 +49,6 @@ public class PhantomBridgeBlock extends BaseEntityBlock {
         return new PhantomBridgeTile(pos, state);
     }
 
-    @Nullable
-    @Override
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state, BlockEntityType<T> blockEntityType) {
-        if (level.isClientSide()) {
-            return null;
-        }
-        return BlockEntityHelper.getTicker(blockEntityType, BMTiles.PHANTOM_BRIDGE_TYPE.get(), PhantomBridgeTile::tick);
-    }
-
     @Override
     public VoxelShape getShape(BlockState state, BlockGetter level, BlockPos pos, CollisionContext context) {
         return SHAPE;
@@ -87,8 +76,9 @@ public class PhantomBridgeBlock extends BaseEntityBlock {
 
     @Override
     protected void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean movedByPiston) {
-        if (!state.is(newState.getBlock())) {
-            // Block is being replaced - tile entity will handle cleanup
+        if (!state.is(newState.getBlock()) && level instanceof ServerLevel serverLevel) {
+            // Replaced or expired - its timer must not restore anything over the new block
+            TemporaryBlockTimers.get(serverLevel).cancel(pos);
         }
         super.onRemove(state, level, pos, newState, movedByPiston);
     }
@@ -59,6 +59,25 @@ public class ARCTile extends BaseTile implements MenuProvider {
 
     // Reusable list for bucket handling to avoid allocations every tick
     private final List<ItemStack> tempBucketList = new ArrayList<>(1);
+    // Reloaded from the output slots every tick
+    private final ARCOutputHandler outputHandler = new ARCOutputHandler(NUM_OUTPUTS, 64);
+
+    // Bumped whenever the inventory or a tank changes; nothing is re-evaluated until it does
+    private int revision = 0;
+    private int slotsRevision = -1;
+    private int recipeRevision = -1;
+    @Nullable
+    private RecipeManager recipeManager = null;
+    @Nullable
+    private RecipeHolder<? extends AbstractCookingRecipe> furnaceRecipe = null;
+    @Nullable
+    private RecipeHolder<ARCRecipe> arcRecipe = null;
+    // Whether a recipe was resolved and its outputs fit
+    private boolean outputsFit = false;
+    private double progressPerTick = 0;
+    // Set after a tick without progress; the next ticks are skipped until the revision changes
+    private boolean idle = false;
+    private int idleRevision = -1;
 
     private final RecipeManager.CachedCheck<SingleRecipeInput, ? extends AbstractCookingRecipe> quickSmelting;
     private final RecipeManager.CachedCheck<SingleRecipeInput, ? extends AbstractCookingRecipe> quickBlasting;
@@ -80,6 +99,7 @@ public class ARCTile extends BaseTile implements MenuProvider {
     public final ItemStackHandler arcInv = new ItemStackHandler(OUTPUT_SLOT + NUM_OUTPUTS) {
         @Override
         protected void onContentsChanged(int slot) {
+            revision++;
             setChanged();
         }
 
@@ -120,6 +140,7 @@ public class ARCTile extends BaseTile implements MenuProvider {
     public final FluidTank inputTank = new FluidTank(20 * FluidType.BUCKET_VOLUME) {
         @Override
         protected void onContentsChanged() {
+            revision++;
             setChanged();
         }
     };
@@ -127,6 +148,7 @@ public class ARCTile extends BaseTile implements MenuProvider {
     public final FluidTank outputTank = new FluidTank(20 * FluidType.BUCKET_VOLUME) {
         @Override
         protected void onContentsChanged() {
+            revision++;
             setChanged();
         }
     };
@@ -144,6 +166,7 @@ public class ARCTile extends BaseTile implements MenuProvider {
         inputTank.readFromNBT(registries, tag.getCompound("inputtank"));
         outputTank.readFromNBT(registries, tag.getCompound("outputtank"));
         progress = tag.getDouble("arcprogress");
+        revision++;
     }
 
     @Override
@@ -160,6 +183,14 @@ public class ARCTile extends BaseTile implements MenuProvider {
         tag.putDouble("arcprogress", progress);
     }
 
+    /**
+     * Called by menu slots whose stack was changed in place, which the inventory does not notice.
+     */
+    public void onSlotChanged() {
+        revision++;
+        setChanged();
+    }
+
     @Nullable
     @Override
     public AbstractContainerMenu createMenu(int containerId, Inventory playerInventory, Player player) {
@@ -178,48 +209,42 @@ public class ARCTile extends BaseTile implements MenuProvider {
             return;
         }
 
-        ItemStack[] outputItems = {
-                arcTile.arcInv.getStackInSlot(OUTPUT_SLOT),
-                arcTile.arcInv.getStackInSlot(OUTPUT_SLOT + 1),
-                arcTile.arcInv.getStackInSlot(OUTPUT_SLOT + 2),
-                arcTile.arcInv.getStackInSlot(OUTPUT_SLOT + 3),
-                arcTile.arcInv.getStackInSlot(OUTPUT_SLOT + 4)
-        };
-        ARCOutputHandler itemOutputHandler = new ARCOutputHandler(outputItems, 64);
-        boolean outputChanged = arcTile.handleSlots(itemOutputHandler);
+        RecipeManager manager = level.getRecipeManager();
+        if (arcTile.idle && arcTile.idleRevision == arcTile.revision && arcTile.recipeManager == manager) {
+            return;
+        }
+
+        ARCOutputHandler itemOutputHandler = arcTile.outputHandler;
+        itemOutputHandler.loadFrom(arcTile.arcInv, OUTPUT_SLOT);
+        boolean outputChanged = false;
+        if (arcTile.slotsRevision != arcTile.revision) {
+            // Changes made by handleSlots bump the revision, so it runs again next tick
+            arcTile.slotsRevision = arcTile.revision;
+            outputChanged = arcTile.handleSlots(itemOutputHandler);
+        }
         arcTile.updateType();
+        if (arcTile.recipeRevision != arcTile.revision || arcTile.recipeManager != manager) {
+            arcTile.recipeRevision = arcTile.revision;
+            arcTile.recipeManager = manager;
+            arcTile.updateRecipe(level, itemOutputHandler);
+        }
+
         ItemStack toolStack = arcTile.arcInv.getStackInSlot(TOOL_SLOT);
         ItemStack inputStack = arcTile.arcInv.getStackInSlot(INPUT_SLOT);
         boolean didProgress = false;
-        if (toolStack.is(BMTags.Items.ARC_TOOL)) {
-            if (toolStack.is(BMTags.Items.ARC_FURNACE)) {
-                Optional<? extends RecipeHolder<? extends AbstractCookingRecipe>> recipe = Optional.empty();
-                SingleRecipeInput input = new SingleRecipeInput(inputStack);
-                if (toolStack.is(BMTags.Items.ARC_SMELTING)) {
-                     recipe = arcTile.quickSmelting.getRecipeFor(input, level);
-                } else if (toolStack.is(BMTags.Items.ARC_BLASTING)) {
-                    recipe = arcTile.quickBlasting.getRecipeFor(input, level);
-                } else if (toolStack.is(BMTags.Items.ARC_SMOKING)) {
-                    recipe = arcTile.quickSmoking.getRecipeFor(input, level);
-                }
-                if (arcTile.canCraftFurnace(recipe, itemOutputHandler)) {
-                    arcTile.progress += DEFAULT_SPEED * ((double) recipe.get().value().getCookingTime() / 200D) * toolStack.getOrDefault(BMDataComponents.ARC_SPEED, 1D);
-                    didProgress = true;
-                    if (arcTile.progress >= 1) {
-                        arcTile.craftFurnace(recipe.get().value(), input, itemOutputHandler);
-                        outputChanged = true;
-                    }
+        if (arcTile.outputsFit) {
+            arcTile.progress += arcTile.progressPerTick;
+            didProgress = true;
+            if (arcTile.furnaceRecipe != null) {
+                if (arcTile.progress >= 1) {
+                    arcTile.craftFurnace(arcTile.furnaceRecipe.value(), new SingleRecipeInput(inputStack), itemOutputHandler);
+                    outputChanged = true;
                 }
-            } else {
-                ARCRecipeInput input = new ARCRecipeInput(toolStack, inputStack, arcTile.inputTank.getFluidInTank(0));
-                Optional<RecipeHolder<ARCRecipe>> recipe = arcTile.quickARC.getRecipeFor(input, level);
-                if (arcTile.canCraft(recipe, itemOutputHandler)) {
-                    arcTile.progress += DEFAULT_SPEED * toolStack.getOrDefault(BMDataComponents.ARC_SPEED, 1D);
-                    didProgress = true;
-                    if (arcTile.progress >= 1) {
-                        arcTile.craft(recipe.get().value(), input, itemOutputHandler);
-                        outputChanged = true;
-                    }
+            } else if (arcTile.arcRecipe != null) {
+                if (arcTile.progress >= 1) {
+                    ARCRecipeInput input = new ARCRecipeInput(toolStack, inputStack, arcTile.inputTank.getFluidInTank(0));
+                    arcTile.craft(arcTile.arcRecipe.value(), input, itemOutputHandler);
+                    outputChanged = true;
                 }
             }
         }
@@ -234,8 +259,48 @@ public class ARCTile extends BaseTile implements MenuProvider {
                 arcTile.arcInv.setStackInSlot(OUTPUT_SLOT + i, itemOutputHandler.getStackInSlot(i));
             }
         }
+
+        arcTile.idle = !didProgress;
+        arcTile.idleRevision = arcTile.revision;
     }
 
+    /**
+     * Resolves the recipe for the current tool, input and fluid, and whether its outputs fit.
+     */
+    private void updateRecipe(Level level, ARCOutputHandler outputHandler) {
+        furnaceRecipe = null;
+        arcRecipe = null;
+        outputsFit = false;
+
+        ItemStack toolStack = arcInv.getStackInSlot(TOOL_SLOT);
+        ItemStack inputStack = arcInv.getStackInSlot(INPUT_SLOT);
+        if (!toolStack.is(BMTags.Items.ARC_TOOL)) {
+            return;
+        }
+
+        if (toolStack.is(BMTags.Items.ARC_FURNACE)) {
+            Optional<? extends RecipeHolder<? extends AbstractCookingRecipe>> recipe = Optional.empty();
+            SingleRecipeInput input = new SingleRecipeInput(inputStack);
+            if (toolStack.is(BMTags.Items.ARC_SMELTING)) {
+                recipe = quickSmelting.getRecipeFor(input, level);
+            } else if (toolStack.is(BMTags.Items.ARC_BLASTING)) {
+                recipe = quickBlasting.getRecipeFor(input, level);
+            } else if (toolStack.is(BMTags.Items.ARC_SMOKING)) {
+                recipe = quickSmoking.getRecipeFor(input, level);
+            }
+            furnaceRecipe = recipe.orElse(null);
+            outputsFit = canCraftFurnace(recipe, outputHandler);
+            if (outputsFit) {
+                progressPerTick = DEFAULT_SPEED * ((double) furnaceRecipe.value().getCookingTime() / 200D) * toolStack.getOrDefault(BMDataComponents.ARC_SPEED, 1D);
+            }
+        } else {
+            ARCRecipeInput input = new ARCRecipeInput(toolStack, inputStack, inputTank.getFluidInTank(0));
+            Optional<RecipeHolder<ARCRecipe>> recipe = quickARC.getRecipeFor(input, level);
+            arcRecipe = recipe.orElse(null);
+            outputsFit = canCraft(recipe, outputHandler);
+            progressPerTick = DEFAULT_SPEED * toolStack.getOrDefault(BMDataComponents.ARC_SPEED, 1D);
+        }
+    }
 
     private boolean canCraftFurnace(Optional<? extends RecipeHolder<? extends AbstractCookingRecipe>> recipe, ARCOutputHandler outputHandler) {
         if (recipe.isEmpty()) {
@@ -283,6 +348,8 @@ public class ARCTile extends BaseTile implements MenuProvider {
         }
         arcInv.getStackInSlot(INPUT_SLOT).shrink(1);
         progress = 0;
+        // The input and tool are changed in place
+        revision++;
 
         ItemStack toolStack = arcInv.getStackInSlot(TOOL_SLOT);
         if (!toolStack.has(DataComponents.UNBREAKABLE)) {
@@ -381,7 +448,8 @@ public class ARCTile extends BaseTile implements MenuProvider {
         }
 
         ItemStack toolStack = arcInv.getStackInSlot(TOOL_SLOT).copy();
-        if (toolStack.getDamageValue() >= toolStack.getMaxDamage()) {
+        // An empty slot also passes the damage check; clearing it again would only re-sync the tile
+        if (!toolStack.isEmpty() && toolStack.getDamageValue() >= toolStack.getMaxDamage()) {
             tempBucketList.clear();
             toolStack.setDamageValue(toolStack.getMaxDamage());
             tempBucketList.add(toolStack);
@@ -12,6 +12,7 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
 import net.neoforged.neoforge.items.ItemStackHandler;
@@ -23,7 +24,7 @@ import com.breakinblocks.neovitae.common.item.BloodOrbItem;
 import com.breakinblocks.neovitae.common.menu.AlchemyTableMenu;
 import com.breakinblocks.neovitae.common.datacomponent.EffectHolder;
 import com.breakinblocks.neovitae.common.item.potion.ItemAlchemyFlask;
-import com.breakinblocks.neovitae.common.recipe.BMRecipes;
+import com.breakinblocks.neovitae.common.recipe.ShapelessRecipeIndex;
 import com.breakinblocks.neovitae.common.recipe.alchemytable.AlchemyTableInput;
 import com.breakinblocks.neovitae.common.recipe.alchemytable.AlchemyTableRecipe;
 import com.breakinblocks.neovitae.common.recipe.flask.FlaskInput;
@@ -33,7 +34,6 @@ import com.breakinblocks.neovitae.util.helper.SoulNetworkHelper;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 public class AlchemyTableTile extends BaseTile implements MenuProvider {
     public static final int ORB_SLOT = 6;
@@ -49,6 +49,12 @@ public class AlchemyTableTile extends BaseTile implements MenuProvider {
     private FlaskRecipe cachedFlaskRecipe = null;
     private int flaskSlot = -1; // Slot containing the flask for flask recipes
 
+    // Bumped on every input change; recipes are only looked up again after one
+    private int inventoryVersion = 0;
+    private int matchedVersion = -1;
+    @Nullable
+    private RecipeManager matchedManager = null;
+
     public final ItemStackHandler inv = new ItemStackHandler(8) {
         @Override
         public boolean isItemValid(int slot, ItemStack stack) {
@@ -65,9 +71,7 @@ public class AlchemyTableTile extends BaseTile implements MenuProvider {
             }
             // Invalidate cached recipe on input change
             if (slot != OUTPUT_SLOT) {
-                cachedRecipe = null;
-                cachedFlaskRecipe = null;
-                flaskSlot = -1;
+                inventoryVersion++;
             }
         }
     };
@@ -85,6 +89,7 @@ public class AlchemyTableTile extends BaseTile implements MenuProvider {
         ticksRequired = tag.getInt("ticksRequired");
         connectedPos = new BlockPos(tag.getInt("connectedX"), tag.getInt("connectedY"), tag.getInt("connectedZ"));
         inv.deserializeNBT(registries, tag.getCompound("inventory"));
+        inventoryVersion++;
     }
 
     @Override
@@ -126,10 +131,11 @@ public class AlchemyTableTile extends BaseTile implements MenuProvider {
         ItemStack orbStack = inv.getStackInSlot(ORB_SLOT);
         int orbTier = getOrbTier(orbStack);
 
+        updateRecipes();
+
         // Check for flask recipes first (they take priority when a flask is present)
-        Optional<FlaskRecipe> flaskRecipeOpt = getFlaskRecipe();
-        if (flaskRecipeOpt.isPresent()) {
-            FlaskRecipe flaskRecipe = flaskRecipeOpt.get();
+        if (cachedFlaskRecipe != null) {
+            FlaskRecipe flaskRecipe = cachedFlaskRecipe;
             ticksRequired = flaskRecipe.getTicks();
 
             if (orbTier < flaskRecipe.getMinimumTier()) {
@@ -161,13 +167,12 @@ public class AlchemyTableTile extends BaseTile implements MenuProvider {
         }
 
         // Check regular alchemy table recipes
-        Optional<AlchemyTableRecipe> recipeOpt = getRecipe();
-        if (recipeOpt.isEmpty()) {
+        if (cachedRecipe == null) {
             burnTime = 0;
             return;
         }
 
-        AlchemyTableRecipe recipe = recipeOpt.get();
+        AlchemyTableRecipe recipe = cachedRecipe;
         ticksRequired = recipe.getTicks();
 
         if (orbTier < recipe.getMinimumTier()) {
@@ -246,9 +251,8 @@ public class AlchemyTableTile extends BaseTile implements MenuProvider {
             currentOutput.grow(output.getCount());
         }
 
-        cachedRecipe = null;
-        cachedFlaskRecipe = null;
-        flaskSlot = -1;
+        // Stacks were also shrunk in place
+        inventoryVersion++;
     }
 
     private void craftFlaskItem(FlaskRecipe recipe) {
@@ -285,65 +289,65 @@ public class AlchemyTableTile extends BaseTile implements MenuProvider {
         inv.setStackInSlot(flaskSlot, ItemStack.EMPTY);
         inv.setStackInSlot(OUTPUT_SLOT, output);
 
-        cachedFlaskRecipe = null;
-        flaskSlot = -1;
+        // Stacks were also shrunk in place
+        inventoryVersion++;
+    }
+
+    /**
+     * Looks the flask and alchemy table recipes up again if the inputs or the recipes changed
+     * since the last lookup.
+     */
+    private void updateRecipes() {
+        RecipeManager manager = level.getRecipeManager();
+        if (matchedVersion == inventoryVersion && matchedManager == manager) {
+            return;
+        }
+        matchedVersion = inventoryVersion;
+        matchedManager = manager;
+
+        cachedFlaskRecipe = findFlaskRecipe();
+        cachedRecipe = cachedFlaskRecipe == null ? findRecipe() : null;
     }
 
-    private Optional<FlaskRecipe> getFlaskRecipe() {
+    @Nullable
+    private FlaskRecipe findFlaskRecipe() {
         // Find a flask in the input slots
-        int foundFlaskSlot = -1;
+        flaskSlot = -1;
         ItemStack flaskStack = ItemStack.EMPTY;
 
         for (int i = 0; i < 6; i++) {
             ItemStack stack = inv.getStackInSlot(i);
             if (stack.getItem() instanceof ItemAlchemyFlask) {
-                foundFlaskSlot = i;
+                flaskSlot = i;
                 flaskStack = stack;
                 break;
             }
         }
 
-        if (foundFlaskSlot < 0) {
-            cachedFlaskRecipe = null;
-            flaskSlot = -1;
-            return Optional.empty();
-        }
-
-        // Check cached recipe
-        if (cachedFlaskRecipe != null && flaskSlot == foundFlaskSlot) {
-            FlaskInput input = createFlaskInput(foundFlaskSlot, flaskStack);
-            if (cachedFlaskRecipe.matches(input, level)) {
-                return Optional.of(cachedFlaskRecipe);
-            }
+        if (flaskSlot < 0) {
+            return null;
         }
 
         // Find matching flask recipe (choose highest priority)
-        FlaskInput input = createFlaskInput(foundFlaskSlot, flaskStack);
-        List<EffectHolder> flaskEffects = ItemAlchemyFlask.getEffectHolders(flaskStack);
+        FlaskInput input = createFlaskInput(flaskSlot, flaskStack);
+        List<EffectHolder> flaskEffects = input.flaskEffects();
 
         FlaskRecipe bestRecipe = null;
         int bestPriority = Integer.MIN_VALUE;
 
-        for (var holder : level.getRecipeManager().getAllRecipesFor(BMRecipes.FLASK_TYPE.get())) {
+        for (var holder : ShapelessRecipeIndex.FLASK.findAll(level, input)) {
             FlaskRecipe recipe = holder.value();
-            if (recipe.matches(input, level)) {
-                int priority = recipe.getPriority(flaskEffects);
-                if (priority > bestPriority) {
-                    bestPriority = priority;
-                    bestRecipe = recipe;
-                }
+            int priority = recipe.getPriority(flaskEffects);
+            if (priority > bestPriority) {
+                bestPriority = priority;
+                bestRecipe = recipe;
             }
         }
 
-        if (bestRecipe != null) {
-            cachedFlaskRecipe = bestRecipe;
-            flaskSlot = foundFlaskSlot;
-            return Optional.of(bestRecipe);
+        if (bestRecipe == null) {
+            flaskSlot = -1;
         }
-
-        cachedFlaskRecipe = null;
-        flaskSlot = -1;
-        return Optional.empty();
+        return bestRecipe;
     }
 
     private FlaskInput createFlaskInput(int flaskSlotIndex, ItemStack flaskStack) {
@@ -359,21 +363,11 @@ public class AlchemyTableTile extends BaseTile implements MenuProvider {
         return new FlaskInput(items, flaskStack, flaskEffects, getOrbTier(inv.getStackInSlot(ORB_SLOT)));
     }
 
-    private Optional<AlchemyTableRecipe> getRecipe() {
-        if (cachedRecipe != null) {
-            AlchemyTableInput input = createInput();
-            if (cachedRecipe.matches(input, level)) {
-                return Optional.of(cachedRecipe);
-            }
-        }
-
-        AlchemyTableInput input = createInput();
-        Optional<AlchemyTableRecipe> recipe = level.getRecipeManager()
-                .getRecipeFor(BMRecipes.ALCHEMY_TABLE_TYPE.get(), input, level)
-                .map(holder -> holder.value());
-
-        recipe.ifPresent(r -> cachedRecipe = r);
-        return recipe;
+    @Nullable
+    private AlchemyTableRecipe findRecipe() {
+        return ShapelessRecipeIndex.ALCHEMY_TABLE.find(level, createInput())
+                .map(holder -> holder.value())
+                .orElse(null);
     }
 
     private AlchemyTableInput createInput() {
@@ -2,7 +2,6 @@ package com.breakinblocks.neovitae.common.blockentity;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
-import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.nbt.CompoundTag;
@@ -26,7 +25,7 @@ import com.breakinblocks.neovitae.api.altar.rune.AltarRuneModifiers;
 import com.breakinblocks.neovitae.api.altar.rune.IAltarRuneType;
 import com.breakinblocks.neovitae.api.altar.rune.RuneInstance;
 import com.breakinblocks.neovitae.api.event.AltarRuneEvent;
-import com.breakinblocks.neovitae.common.datamap.AltarRuneStats;
+import com.breakinblocks.neovitae.common.datamap.AltarRuneStatTable;
 import com.breakinblocks.neovitae.common.datacomponent.BMDataComponents;
 import com.breakinblocks.neovitae.common.datacomponent.Binding;
 import com.breakinblocks.neovitae.common.datamap.BMDataMaps;
@@ -34,10 +33,13 @@ import com.breakinblocks.neovitae.common.datamap.BloodOrb;
 import com.breakinblocks.neovitae.common.event.BloodAltarCraftEvent;
 import com.breakinblocks.neovitae.common.event.NeoVitaeCraftedEvent;
 import com.breakinblocks.neovitae.common.fluid.BMFluids;
-import com.breakinblocks.neovitae.common.recipe.BMRecipes;
+import com.breakinblocks.neovitae.common.recipe.bloodaltar.BloodAltarRecipeIndex;
 import com.breakinblocks.neovitae.api.recipe.BloodAltarInput;
 import com.breakinblocks.neovitae.api.recipe.BloodAltarRecipe;
+import com.breakinblocks.neovitae.common.structure.BMMultiblock;
 import com.breakinblocks.neovitae.common.tag.BMTags;
+import com.breakinblocks.neovitae.common.world.BlockChangeTracker;
+import com.breakinblocks.neovitae.NeoVitae;
 import com.breakinblocks.neovitae.api.altar.IBloodAltar;
 import com.breakinblocks.neovitae.util.AltarScanResult;
 import com.breakinblocks.neovitae.util.AltarUtil;
@@ -72,6 +74,13 @@ public class BloodAltarTile extends BaseTile implements IFluidHandler, IBloodAlt
     private int previousIOCapacity = 0;
     private int previousChargingCapacity = 0;
 
+    // Incremental structure tracking: rescan only when a block the structure depends on changes
+    @Nullable
+    private BlockChangeTracker.Watch structureWatch = null;
+    private int trackedStructureGeneration = -1;
+    private int trackedRuneStatsGeneration = -1;
+    private boolean structureDirty = true;
+
     public ItemStackHandler inv = new ItemStackHandler(1) {
         @Override
         protected void onContentsChanged(int slot) {
@@ -99,7 +108,7 @@ public class BloodAltarTile extends BaseTile implements IFluidHandler, IBloodAlt
      * Calculates altar stats from runes using the datamap system.
      *
      * <p>This method looks up each rune block's stats from the {@code altar_rune_stats}
-     * datamap and accumulates the bonuses. After calculating base stats, it fires the
+     * datamap (via {@link AltarRuneStatTable}) and accumulates the bonuses. After calculating base stats, it fires the
      * {@link AltarRuneEvent.CalculateStats} event to allow dynamic modifications.</p>
      *
      * <h2>Static vs Dynamic Runes</h2>
@@ -125,39 +134,31 @@ public class BloodAltarTile extends BaseTile implements IFluidHandler, IBloodAlt
         double efficiencyMultiplier = 1.0;
         int chargingRuneCount = 0;
 
-        // Look up each rune block's stats from the datamap
+        // Look up each rune block's stats from the datamap snapshot
+        AltarRuneStatTable table = AltarRuneStatTable.get();
         for (RuneInstance instance : runeInstances) {
-            AltarRuneStats stats = BuiltInRegistries.BLOCK.wrapAsHolder(instance.block()).getData(BMDataMaps.ALTAR_RUNE_STATS);
-            if (stats != null) {
-                // Additive stats
-                totalCapacityMod += stats.getCapacityMod(0);
-                totalConsumptionMod += stats.getConsumptionMod(0);
-                totalSacrificeMod += stats.getSacrificeMod(0);
-                totalSelfSacrificeMod += stats.getSelfSacrificeMod(0);
-                totalOrbCapacityMod += stats.getOrbCapacityMod(0);
-                totalAccelerationMod += stats.getAccelerationMod(0);
-                totalChargeAmountMod += stats.getChargeAmountMod(0);
-
-                // Multiplicative stats (compound)
-                double augPower = stats.getAugmentedCapacityPower(1.0);
-                if (augPower != 1.0) {
-                    augCapacityMultiplier *= augPower;
-                }
-
-                double disPower = stats.getDislocationPower(1.0);
-                if (disPower != 1.0) {
-                    dislocationMultiplier *= disPower;
-                }
-
-                double effPower = stats.getEfficiencyPower(1.0);
-                if (effPower != 1.0) {
-                    efficiencyMultiplier *= effPower;
-                }
+            int id = table.indexOf(instance.block());
+            if (id < 0 || !table.hasStats(id)) {
+                continue;
+            }
 
-                // Track charging rune count for charge capacity calculation
-                if (stats.chargeAmountMod().isPresent()) {
-                    chargingRuneCount++;
-                }
+            // Additive stats
+            totalCapacityMod += table.capacityMod(id);
+            totalConsumptionMod += table.consumptionMod(id);
+            totalSacrificeMod += table.sacrificeMod(id);
+            totalSelfSacrificeMod += table.selfSacrificeMod(id);
+            totalOrbCapacityMod += table.orbCapacityMod(id);
+            totalAccelerationMod += table.accelerationMod(id);
+            totalChargeAmountMod += table.chargeAmountMod(id);
+
+            // Multiplicative stats (compound); absent values are stored as 1.0
+            augCapacityMultiplier *= table.augmentedCapacityPower(id);
+            dislocationMultiplier *= table.dislocationPower(id);
+            efficiencyMultiplier *= table.efficiencyPower(id);
+
+            // Track charging rune count for charge capacity calculation
+            if (table.isCharging(id)) {
+                chargingRuneCount++;
             }
         }
 
@@ -222,7 +223,12 @@ public class BloodAltarTile extends BaseTile implements IFluidHandler, IBloodAlt
             tile.decrementCapacityGraceTicks();
         }
 
-        if (tile.getTicks() % AltarConstants.STRUCTURE_CHECK_INTERVAL == 0) {
+        // The grace period can run out long before the next structure rescan
+        if (tile.getCapacityGraceTicks() == 0 && tile.enforceCapacity()) {
+            tile.setChanged();
+        }
+
+        if (tile.shouldRescanStructure((ServerLevel) level)) {
             int newTier = AltarUtil.getTier(level, pos);
             tile.setTier(newTier); // Update the stored tier
 
@@ -257,16 +263,17 @@ public class BloodAltarTile extends BaseTile implements IFluidHandler, IBloodAlt
 
             // Only enforce capacity limits when grace period is over
             if (tile.getCapacityGraceTicks() == 0) {
-                tile.setMainTank(Math.min(tile.getMainTank(), newMainCapacity));
-                tile.setInputTank(Math.min(tile.getInputTank(), newIOCapacity));
-                tile.setOutputTank(Math.min(tile.getOutputTank(), newIOCapacity));
-                tile.setChargingTank(Math.min(tile.getChargingTank(), newChargingCapacity));
+                tile.enforceCapacity();
             }
 
             tile.setChanged();
             if (tile.isActive() || tile.getCooldownAfterCrafting() <= 0) {
                 tile.checkAction();
             }
+        } else if (tile.getTicks() % AltarConstants.STRUCTURE_CHECK_INTERVAL == 0
+                && (tile.isActive() || tile.getCooldownAfterCrafting() <= 0)) {
+            // Structure unchanged, but keep picking up inventory changes at the usual cadence
+            tile.checkAction();
         }
 
         if (tile.getTicks() % Math.max(tile.tickRate, 1) == 0) {
@@ -396,6 +403,85 @@ public class BloodAltarTile extends BaseTile implements IFluidHandler, IBloodAlt
         tile.setChanged();
     }
 
+    /**
+     * Clamps every tank to its current capacity.
+     * @return Whether any tank was over capacity
+     */
+    private boolean enforceCapacity() {
+        int mainCapacity = getMainCapacity();
+        int ioCapacity = getIOCapacity();
+        int chargingCapacity = getChargingCapacity();
+        if (mainTank <= mainCapacity && inputTank <= ioCapacity && outputTank <= ioCapacity && chargingTank <= chargingCapacity) {
+            return false;
+        }
+
+        setMainTank(Math.min(mainTank, mainCapacity));
+        setInputTank(Math.min(inputTank, ioCapacity));
+        setOutputTank(Math.min(outputTank, ioCapacity));
+        setChargingTank(Math.min(chargingTank, chargingCapacity));
+        return true;
+    }
+
+    /**
+     * Decides whether the tier and runes need to be rescanned this tick.
+     *
+     * <p>In incremental mode the altar watches every position its tier validators read and
+     * only rescans after one of them changed, plus an optional slow safety rescan for runes
+     * whose stats depend on state the tracker cannot see. Otherwise it falls back to the
+     * fixed {@link AltarConstants#STRUCTURE_CHECK_INTERVAL}.</p>
+     */
+    private boolean shouldRescanStructure(ServerLevel serverLevel) {
+        if (!NeoVitae.SERVER_CONFIG.ALTAR_INCREMENTAL_STRUCTURE.get()) {
+            stopStructureTracking();
+            return ticks % AltarConstants.STRUCTURE_CHECK_INTERVAL == 0;
+        }
+
+        // Tier definitions are loaded after spawn-chunk altars, and may be reloaded later
+        if (structureWatch == null || structureWatch.isRemoved()
+                || trackedStructureGeneration != BMMultiblock.getGeneration()) {
+            startStructureTracking(serverLevel);
+        }
+
+        // Rune stats were reloaded, so the computed modifiers may be stale
+        if (trackedRuneStatsGeneration != AltarRuneStatTable.getGeneration()) {
+            trackedRuneStatsGeneration = AltarRuneStatTable.getGeneration();
+            structureDirty = true;
+        }
+
+        if (structureDirty) {
+            structureDirty = false;
+            return true;
+        }
+
+        int fallbackInterval = NeoVitae.SERVER_CONFIG.ALTAR_FALLBACK_SCAN_INTERVAL.get();
+        return fallbackInterval > 0 && ticks % fallbackInterval == 0;
+    }
+
+    private void startStructureTracking(ServerLevel serverLevel) {
+        BlockChangeTracker.unwatch(structureWatch);
+        structureWatch = BlockChangeTracker.watch(serverLevel, AltarUtil.collectStructurePositions(worldPosition),
+                (changedPos, oldState, newState) -> structureDirty = true);
+        trackedStructureGeneration = BMMultiblock.getGeneration();
+        structureDirty = true;
+    }
+
+    private void stopStructureTracking() {
+        BlockChangeTracker.unwatch(structureWatch);
+        structureWatch = null;
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        stopStructureTracking();
+    }
+
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        stopStructureTracking();
+    }
+
     public void sacrificialDaggerCall(int lpAdded, boolean isSacrifice) {
         setMainTank(getMainTank() + Math.min((getMainCapacity() - getMainTank()), (int) ((isSacrifice ? 1 + sacrificeMod : 1 + selfSacMod) * lpAdded)));
         setChanged();
@@ -408,13 +494,15 @@ public class BloodAltarTile extends BaseTile implements IFluidHandler, IBloodAlt
 
         ItemStack inputStack = inv.getStackInSlot(0);
         Binding inputBinding = inputStack.get(BMDataComponents.BINDING);
-        Optional<RecipeHolder<com.breakinblocks.neovitae.api.recipe.BloodAltarRecipe>> optionalHolder = level.getRecipeManager().getRecipeFor(BMRecipes.BLOOD_ALTAR_TYPE.get(), new BloodAltarInput(inputStack, getTier()), level);
         if (!(inputBinding == null || inputBinding.isEmpty())) {
             setCanFill(true);
             setActive(true);
             setCurrentRecipe(null);
             return;
-        } else if (optionalHolder.isPresent()) {
+        }
+
+        Optional<RecipeHolder<com.breakinblocks.neovitae.api.recipe.BloodAltarRecipe>> optionalHolder = BloodAltarRecipeIndex.find(level, new BloodAltarInput(inputStack, getTier()));
+        if (optionalHolder.isPresent()) {
             setCurrentRecipe(optionalHolder.get().value());
             setActive(true);
             setCanFill(false);
@@ -431,7 +519,7 @@ public class BloodAltarTile extends BaseTile implements IFluidHandler, IBloodAlt
             if (binding.isEmpty() || orb == null) {
                 return 0;
             }
-            float current = SoulNetworkHelper.getSoulNetwork(binding).getCurrentEssence();
+            float current = SoulNetworkHelper.getCurrentEssence(binding.uuid());
             float max = (int) ((float) orb.capacity() * (1 + orbCapMod));
             return Mth.lerpDiscrete(current / max, 0, 15);
         }
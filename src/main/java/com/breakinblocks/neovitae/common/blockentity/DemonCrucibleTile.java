@@ -11,7 +11,9 @@ import com.breakinblocks.neovitae.common.datacomponent.EnumWillType;
 import com.breakinblocks.neovitae.common.item.DemonCrystalItem;
 import com.breakinblocks.neovitae.will.IDemonWill;
 import com.breakinblocks.neovitae.will.IDemonWillGem;
-import com.breakinblocks.neovitae.will.WorldDemonWillHandler;
+import com.breakinblocks.neovitae.will.WillChunkAccess;
+
+import javax.annotation.Nullable;
 
 /**
  * Demon Crucible - manages demon will between items and chunk aura.
@@ -45,6 +47,9 @@ public class DemonCrucibleTile extends BaseTile {
     };
 
     private int internalCounter = 0;
+    // Will of the crucible's chunk, valid while the chunk stays loaded
+    @Nullable
+    private WillChunkAccess chunkWill = null;
 
     public DemonCrucibleTile(BlockPos pos, BlockState state) {
         super(BMTiles.DEMON_CRUCIBLE_TYPE.get(), pos, state);
@@ -65,6 +70,11 @@ public class DemonCrucibleTile extends BaseTile {
             return;
         }
 
+        chunkWill = WillChunkAccess.refresh(chunkWill, level, worldPosition);
+        if (chunkWill == null) {
+            return;
+        }
+
         // Check for redstone signal
         boolean isPowered = level.hasNeighborSignal(worldPosition);
 
@@ -93,8 +103,8 @@ public class DemonCrucibleTile extends BaseTile {
     private void handleGemDrain(IDemonWillGem gem, ItemStack stack) {
         // Loop through all will types like 1.20.1 does
         for (EnumWillType type : EnumWillType.values()) {
-            double currentChunkWill = WorldDemonWillHandler.getCurrentWill(level, worldPosition, type);
-            double maxWillInChunk = WorldDemonWillHandler.getMaxWill(level, worldPosition, type);
+            double currentChunkWill = chunkWill.get(type);
+            double maxWillInChunk = chunkWill.getMax(type);
 
             // Only drain if chunk isn't full
             if (currentChunkWill >= maxWillInChunk) {
@@ -111,7 +121,7 @@ public class DemonCrucibleTile extends BaseTile {
                 double drained = gem.drainWill(type, stack, canDrain, true);
                 if (drained > 0) {
                     // Add to chunk aura
-                    WorldDemonWillHandler.addWillToChunk(level, worldPosition, type, drained);
+                    chunkWill.add(type, drained);
                     setChanged();
                 }
             }
@@ -124,7 +134,7 @@ public class DemonCrucibleTile extends BaseTile {
     private void handleGemFill(IDemonWillGem gem, ItemStack stack) {
         // Loop through all will types
         for (EnumWillType type : EnumWillType.values()) {
-            double currentChunkWill = WorldDemonWillHandler.getCurrentWill(level, worldPosition, type);
+            double currentChunkWill = chunkWill.get(type);
             if (currentChunkWill <= 0) {
                 continue;
             }
@@ -135,7 +145,7 @@ public class DemonCrucibleTile extends BaseTile {
             double canFill = gem.fillWill(type, stack, fillAmount, false);
             if (canFill > 0) {
                 // Drain from aura
-                double drained = WorldDemonWillHandler.drainWillFromChunk(level, worldPosition, type, canFill);
+                double drained = chunkWill.drain(type, canFill);
                 if (drained > 0) {
                     // Fill into gem
                     gem.fillWill(type, stack, drained, true);
@@ -150,8 +160,8 @@ public class DemonCrucibleTile extends BaseTile {
      */
     private void handleWillItem(IDemonWill will, ItemStack stack) {
         EnumWillType type = will.getType(stack);
-        double currentChunkWill = WorldDemonWillHandler.getCurrentWill(level, worldPosition, type);
-        double maxWillInChunk = WorldDemonWillHandler.getMaxWill(level, worldPosition, type);
+        double currentChunkWill = chunkWill.get(type);
+        double maxWillInChunk = chunkWill.getMax(type);
 
         // Only consume if chunk isn't full
         if (currentChunkWill >= maxWillInChunk) {
@@ -166,7 +176,7 @@ public class DemonCrucibleTile extends BaseTile {
             double toAdd = Math.min(willAmount, spaceInChunk);
             double drained = will.drainWill(type, stack, toAdd);
             if (drained > 0) {
-                WorldDemonWillHandler.addWillToChunk(level, worldPosition, type, drained);
+                chunkWill.add(type, drained);
                 if (stack.isEmpty() || stack.getCount() <= 0) {
                     inventory.setStackInSlot(0, ItemStack.EMPTY);
                 }
@@ -180,11 +190,11 @@ public class DemonCrucibleTile extends BaseTile {
      */
     private void handleCrystal(DemonCrystalItem crystal, ItemStack stack) {
         EnumWillType type = crystal.getWillType();
-        double currentChunkWill = WorldDemonWillHandler.getCurrentWill(level, worldPosition, type);
+        double currentChunkWill = chunkWill.get(type);
 
         // Only consume crystals when will drops below threshold
         if (currentChunkWill < CRYSTAL_CONSUME_THRESHOLD) {
-            double added = WorldDemonWillHandler.addWillToChunk(level, worldPosition, type, WILL_PER_CRYSTAL);
+            double added = chunkWill.add(type, WILL_PER_CRYSTAL);
             if (added > 0) {
                 stack.shrink(1);
                 setChanged();
@@ -11,7 +11,9 @@ import net.minecraft.world.level.block.state.BlockState;
 import com.breakinblocks.neovitae.NeoVitae;
 import com.breakinblocks.neovitae.common.block.BlockDemonCrystal;
 import com.breakinblocks.neovitae.common.datacomponent.EnumWillType;
-import com.breakinblocks.neovitae.will.WorldDemonWillHandler;
+import com.breakinblocks.neovitae.will.WillChunkAccess;
+
+import javax.annotation.Nullable;
 
 /**
  * Tile entity for demon crystals.
@@ -57,6 +59,10 @@ public class DemonCrystalTile extends BaseTile {
     public double speedModifier = 1;
     public double appliedConversionRate = 0; // 0 means use default from config
 
+    // Will of the crystal's chunk, valid while the chunk stays loaded
+    @Nullable
+    private WillChunkAccess chunkWill = null;
+
     // Crystal type
     public EnumWillType willType;
 
@@ -80,10 +86,11 @@ public class DemonCrystalTile extends BaseTile {
         if (tile.internalCounter % 20 == 0) {
             int crystalCount = tile.getCrystalCount();
             int maxCrystals = getMaxCrystalCount();
-            if (crystalCount < maxCrystals) {
+            WillChunkAccess chunkWill = tile.getChunkWill();
+            if (crystalCount < maxCrystals && chunkWill != null) {
                 EnumWillType type = tile.getWillType();
 
-                double value = WorldDemonWillHandler.getCurrentWill(level, pos, type);
+                double value = chunkWill.get(type);
                 double sameRate = getSameWillConversionRate();
                 double appliedRate = tile.appliedConversionRate > 0 ? tile.appliedConversionRate : sameRate;
 
@@ -98,7 +105,7 @@ public class DemonCrystalTile extends BaseTile {
                     }
 
                     double willToDrain = nextProgress * conversionRate;
-                    double drained = WorldDemonWillHandler.drainWillFromChunk(level, pos, type, willToDrain);
+                    double drained = chunkWill.drain(type, willToDrain);
                     nextProgress = Math.min(drained / conversionRate, nextProgress);
                     tile.progressToNextCrystal += nextProgress;
 
@@ -111,12 +118,12 @@ public class DemonCrystalTile extends BaseTile {
                     }
                 } else if (type != EnumWillType.DEFAULT) {
                     // Try using DEFAULT will if own type is not available
-                    value = WorldDemonWillHandler.getCurrentWill(level, pos, EnumWillType.DEFAULT);
+                    value = chunkWill.get(EnumWillType.DEFAULT);
                     if (value > 0.5) {
                         double differentRate = getDifferentWillConversionRate();
                         double nextProgress = tile.getCrystalGrowthPerSecond(value) * getWrongWillDelay();
-                        tile.progressToNextCrystal += WorldDemonWillHandler.drainWillFromChunk(level, pos,
-                                EnumWillType.DEFAULT, nextProgress * differentRate)
+                        tile.progressToNextCrystal += chunkWill.drain(EnumWillType.DEFAULT,
+                                nextProgress * differentRate)
                                 / differentRate;
                     }
                 }
@@ -155,14 +162,19 @@ public class DemonCrystalTile extends BaseTile {
             return 0;
         }
 
+        WillChunkAccess aura = getChunkWill();
+        if (aura == null) {
+            return 0;
+        }
+
         EnumWillType type = this.getWillType();
-        double value = WorldDemonWillHandler.getCurrentWill(getLevel(), worldPosition, type);
+        double value = aura.get(type);
         double percentDrain = willDrain <= 0 ? 1 : Math.min(1, value / willDrain);
         if (percentDrain <= 0) {
             return 0;
         }
 
-        WorldDemonWillHandler.drainWillFromChunk(getLevel(), worldPosition, type, percentDrain * willDrain);
+        aura.drain(type, percentDrain * willDrain);
         progressToNextCrystal += percentDrain * progressPercentage;
 
         checkAndGrowCrystal();
@@ -170,6 +182,15 @@ public class DemonCrystalTile extends BaseTile {
         return percentDrain * progressPercentage;
     }
 
+    /**
+     * Gets the will of the crystal's chunk, or null on the client.
+     */
+    @Nullable
+    private WillChunkAccess getChunkWill() {
+        chunkWill = WillChunkAccess.refresh(chunkWill, level, worldPosition);
+        return chunkWill;
+    }
+
     public EnumWillType getWillType() {
         return willType;
     }
@@ -4,8 +4,11 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
-import com.breakinblocks.neovitae.common.datacomponent.EnumWillType;
-import com.breakinblocks.neovitae.will.WorldDemonWillHandler;
+import com.breakinblocks.neovitae.NeoVitae;
+import com.breakinblocks.neovitae.will.WillChunkAccess;
+import com.breakinblocks.neovitae.will.WillDiffusionStep;
+
+import javax.annotation.Nullable;
 
 /**
  * Demon Pylon - pulls will from 16 blocks away in each cardinal direction.
@@ -14,14 +17,25 @@ import com.breakinblocks.neovitae.will.WorldDemonWillHandler;
  *
  * - Checks positions 16 blocks away in N/S/E/W directions
  * - Pulls will towards the pylon if the remote position has more
- * - Transfer rate: min((remoteAmount - localAmount) / 2, drainRate)
+ * - Runs every {@code demon_will.pylon_transfer_interval} ticks, staggered by position
+ * - Transfer amount: min((remoteAmount - localAmount) / 2, drainRate * interval)
  * - drainRate = 1.0 per tick
+ * - Chunks are accessed through cached {@link WillChunkAccess} handles; unloaded remote chunks are skipped
+ * - Transfers are applied at the end of the tick by {@link WillDiffusionStep}, together with every other pylon's;
+ *   pylons pulling between the same two chunks share one budget of half the difference
  */
 public class DemonPylonTile extends BaseTile {
 
     public static final int PULL_DISTANCE = 16;
     public static final double DRAIN_RATE = 1.0;
 
+    @Nullable
+    private WillChunkAccess localWill = null;
+    private final WillChunkAccess[] sideWill = new WillChunkAccess[4];
+    private final double[] localAmounts = new double[WillChunkAccess.TYPE_COUNT];
+    private final double[] sideAmounts = new double[WillChunkAccess.TYPE_COUNT];
+    private final double[] transfer = new double[WillChunkAccess.TYPE_COUNT];
+
     public DemonPylonTile(BlockPos pos, BlockState state) {
         super(BMTiles.DEMON_PYLON_TYPE.get(), pos, state);
     }
@@ -31,29 +45,44 @@ public class DemonPylonTile extends BaseTile {
             return;
         }
 
-        // For each will type, check all 4 cardinal directions
-        for (EnumWillType type : EnumWillType.values()) {
-            double currentAmount = WorldDemonWillHandler.getCurrentWill(level, pos, type);
-
-            // Check each cardinal direction (N, S, E, W)
-            for (int i = 0; i < 4; i++) {
-                Direction side = Direction.from2DDataValue(i);
-                BlockPos offsetPos = pos.relative(side, PULL_DISTANCE);
+        int interval = NeoVitae.SERVER_CONFIG.PYLON_TRANSFER_INTERVAL.get();
+        if (Math.floorMod(level.getGameTime() + pos.asLong(), interval) != 0) {
+            return;
+        }
 
-                double sideAmount = WorldDemonWillHandler.getCurrentWill(level, offsetPos, type);
+        tile.localWill = WillChunkAccess.refresh(tile.localWill, level, pos);
+        if (tile.localWill == null) {
+            return;
+        }
+        double maxDrain = DRAIN_RATE * interval;
 
-                // Only pull will if the remote position has more than our position
-                if (sideAmount > currentAmount) {
-                    // Calculate transfer amount: half the difference, capped by drain rate
-                    double drainAmount = Math.min((sideAmount - currentAmount) / 2, DRAIN_RATE);
+        // Only an upper bound: the step caps it against the will both chunks hold when it runs
+        tile.localWill.readAll(tile.localAmounts);
 
-                    // Drain from remote position and fill at pylon position
-                    double drained = WorldDemonWillHandler.drainWillFromChunk(level, offsetPos, type, drainAmount);
-                    if (drained > 0) {
-                        WorldDemonWillHandler.addWillToChunk(level, pos, type, drained);
-                    }
+        // Check each cardinal direction (N, S, E, W)
+        for (int i = 0; i < 4; i++) {
+            WillChunkAccess side = tile.sideWill[i];
+            if (side == null || !side.isValid()) {
+                side = WillChunkAccess.get(level, pos.relative(Direction.from2DDataValue(i), PULL_DISTANCE));
+                tile.sideWill[i] = side;
+                if (side == null) {
+                    continue;
                 }
             }
+
+            side.readAll(tile.sideAmounts);
+            boolean any = false;
+            for (int type = 0; type < WillChunkAccess.TYPE_COUNT; type++) {
+                // Only pull will if the remote position has more than our position,
+                // half the difference, capped by the drain rate over the interval
+                double difference = tile.sideAmounts[type] - tile.localAmounts[type];
+                tile.transfer[type] = difference > 0 ? Math.min(difference / 2, maxDrain) : 0;
+                any |= difference > 0;
+            }
+
+            if (any) {
+                WillDiffusionStep.request(side, tile.localWill, tile.transfer);
+            }
         }
     }
 }
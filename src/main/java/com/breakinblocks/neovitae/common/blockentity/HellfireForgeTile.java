@@ -13,6 +13,7 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
 import net.neoforged.neoforge.common.NeoForge;
@@ -23,7 +24,7 @@ import com.breakinblocks.neovitae.common.datacomponent.BMDataComponents;
 import com.breakinblocks.neovitae.common.event.NeoVitaeCraftedEvent;
 import com.breakinblocks.neovitae.common.item.BMItems;
 import com.breakinblocks.neovitae.common.menu.SoulForgeMenu;
-import com.breakinblocks.neovitae.common.recipe.BMRecipes;
+import com.breakinblocks.neovitae.common.recipe.ShapelessRecipeIndex;
 import com.breakinblocks.neovitae.common.recipe.forge.ForgeInput;
 import com.breakinblocks.neovitae.common.recipe.forge.ForgeRecipe;
 import com.breakinblocks.neovitae.common.tag.BMTags;
@@ -31,7 +32,6 @@ import com.breakinblocks.neovitae.common.tag.BMTags;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 public class HellfireForgeTile extends BaseTile implements MenuProvider {
     public ItemStackHandler inv = new ItemStackHandler(6) {
@@ -51,6 +51,7 @@ public class HellfireForgeTile extends BaseTile implements MenuProvider {
         @Override
         protected void onContentsChanged(int slot) {
             super.onContentsChanged(slot);
+            inventoryVersion++;
             setChanged();
         }
     };
@@ -67,6 +68,14 @@ public class HellfireForgeTile extends BaseTile implements MenuProvider {
     public static final int MAX_PROGRESS = 100;
     protected int progress = 0;
 
+    // Bumped on every inventory change; the recipe is only looked up again after one
+    private int inventoryVersion = 0;
+    private int matchedVersion = -1;
+    @Nullable
+    private RecipeManager matchedManager = null;
+    @Nullable
+    private RecipeHolder<ForgeRecipe> matchedRecipe = null;
+
     public HellfireForgeTile(BlockPos pos, BlockState blockState) {
         super(BMTiles.HELLFIRE_FORGE_TYPE.get(), pos, blockState);
     }
@@ -76,9 +85,8 @@ public class HellfireForgeTile extends BaseTile implements MenuProvider {
             return;
         }
 
-        ForgeInput input = tile.getInput();
-        Optional<RecipeHolder<ForgeRecipe>> recipeOptional = level.getRecipeManager().getRecipeFor(BMRecipes.SOUL_FORGE_TYPE.get(), input, level);
-        if (recipeOptional.isEmpty()) {
+        RecipeHolder<ForgeRecipe> holder = tile.getRecipe(level);
+        if (holder == null) {
             if (tile.progress > 0) {
                 tile.progress = 0;
                 tile.setChanged();
@@ -86,7 +94,8 @@ public class HellfireForgeTile extends BaseTile implements MenuProvider {
             return;
         }
 
-        ForgeRecipe recipe = recipeOptional.get().value();
+        ForgeInput input = tile.getInput();
+        ForgeRecipe recipe = holder.value();
         ItemStack output = recipe.assemble(input, level.registryAccess());
         if (output.isEmpty()) {
             if (tile.progress > 0) {
@@ -149,10 +158,23 @@ public class HellfireForgeTile extends BaseTile implements MenuProvider {
             currentOutput.grow(event.getOutput().getCount());
         }
 
+        // Stacks were also shrunk in place
+        tile.inventoryVersion++;
         tile.progress = 0;
         tile.setChanged();
     }
 
+    @Nullable
+    private RecipeHolder<ForgeRecipe> getRecipe(Level level) {
+        RecipeManager manager = level.getRecipeManager();
+        if (matchedVersion != inventoryVersion || matchedManager != manager) {
+            matchedRecipe = ShapelessRecipeIndex.FORGE.find(level, getInput()).orElse(null);
+            matchedVersion = inventoryVersion;
+            matchedManager = manager;
+        }
+        return matchedRecipe;
+    }
+
     public ForgeInput getInput() {
         ItemStack gemStack = inv.getStackInSlot(GEM_SLOT);
         List<ItemStack> stacks = new ArrayList<>();
@@ -172,6 +194,7 @@ public class HellfireForgeTile extends BaseTile implements MenuProvider {
     protected void loadAdditional(CompoundTag tag, HolderLookup.Provider registries) {
         super.loadAdditional(tag, registries);
         inv.deserializeNBT(registries, tag.getCompound("inventory"));
+        inventoryVersion++;
         progress = tag.getInt("progress");
     }
 
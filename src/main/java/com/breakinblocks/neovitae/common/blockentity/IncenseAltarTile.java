@@ -1,5 +1,8 @@
 package com.breakinblocks.neovitae.common.blockentity;
 
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
@@ -11,47 +14,68 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.AABB;
+import com.breakinblocks.neovitae.common.world.BlockChangeTracker;
+import com.breakinblocks.neovitae.common.world.PlayerProximityIndex;
 import com.breakinblocks.neovitae.incense.EnumTranquilityType;
 import com.breakinblocks.neovitae.incense.IncenseAltarHandler;
 import com.breakinblocks.neovitae.incense.IncenseHelper;
 import com.breakinblocks.neovitae.incense.TranquilityRegistry;
 import com.breakinblocks.neovitae.incense.TranquilityStack;
 
-import java.util.HashMap;
+import javax.annotation.Nullable;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Block entity for the Incense Altar.
- * Periodically scans for road rings and calculates tranquility bonus.
+ * Scans for road rings and calculates tranquility bonus, rescanning only the rings
+ * affected by block changes.
  * Players within range accumulate incense, which boosts self-sacrifice.
  */
 public class IncenseAltarTile extends BlockEntity {
     public static final int MAX_CHECK_RANGE = 5; // Vertical range to check for roads
     public static final int MAX_ROAD_DISTANCE = 12; // Maximum road ring distance
 
-    private Map<EnumTranquilityType, Double> tranquilityMap = new HashMap<>();
+    private static final int FIRST_RING_DISTANCE = 2;
+    private static final int RING_COUNT = MAX_ROAD_DISTANCE; // Distances 2 to 13
+    private static final int TRANQUILITY_TYPES = EnumTranquilityType.values().length;
 
     private double incenseAddition = 0; // Self-sacrifice is multiplied by (1 + this value)
     private double tranquility = 0;
     private int roadDistance = 0; // Number of road rings found
 
+    // Per-ring scan results, valid for rings below roadDistance
+    private final int[] ringYOffset = new int[RING_COUNT];
+    private final double[][] ringTranquility = new double[RING_COUNT][TRANQUILITY_TYPES];
+    // Positions each scanned ring read, including the first broken ring
+    private final LongArrayList[] ringReads = new LongArrayList[RING_COUNT];
+    private int scannedRings = 0;
+
+    // Incremental tracking: only rings reading a changed block (and the rings after them) are rescanned
+    @Nullable
+    private BlockChangeTracker.Watch constructionWatch = null;
+    private final Long2IntOpenHashMap readByRing = new Long2IntOpenHashMap();
+    private int dirtyFromRing = 0;
+    private int trackedGeneration = -1;
+
     public IncenseAltarTile(BlockPos pos, BlockState state) {
         super(BMTiles.INCENSE_ALTAR_TYPE.get(), pos, state);
+        for (int i = 0; i < RING_COUNT; i++) {
+            ringReads[i] = new LongArrayList();
+        }
     }
 
     public static void serverTick(Level level, BlockPos pos, BlockState state, IncenseAltarTile tile) {
         // Check for players in the incense area
         AABB playerArea = new AABB(pos).inflate(5, 5, 5);
-        List<Player> players = level.getEntitiesOfClass(Player.class, playerArea);
-
-        if (players.isEmpty()) {
+        if (!PlayerProximityIndex.anyPlayerWithin(level, playerArea)) {
             return;
         }
+        List<Player> players = PlayerProximityIndex.getPlayers(level, playerArea);
 
-        // Periodically recheck the construction
-        if (level.getGameTime() % 100 == 0) {
-            tile.recheckConstruction();
+        // Recheck the rings that read a changed block
+        if (level.getGameTime() % 20 == 0 && tile.needsRecheck()) {
+            tile.updateConstruction();
         }
 
         boolean hasPerformed = false;
@@ -71,18 +95,41 @@ public class IncenseAltarTile extends BlockEntity {
         }
     }
 
+    private boolean needsRecheck() {
+        if (trackedGeneration != TranquilityRegistry.getGeneration()) {
+            trackedGeneration = TranquilityRegistry.getGeneration();
+            dirtyFromRing = 0;
+        }
+        return dirtyFromRing < RING_COUNT || constructionWatch == null || constructionWatch.isRemoved();
+    }
+
     /**
-     * Rescans the area around the altar to check for valid road rings and tranquility.
+     * Rescans the whole area around the altar to check for valid road rings and tranquility.
      */
     public void recheckConstruction() {
-        int maxLength = MAX_ROAD_DISTANCE - 1; // Max path rings to check
-        int yOffset = 0;
+        dirtyFromRing = 0;
+        updateConstruction();
+    }
 
-        Map<EnumTranquilityType, Double> newTranquilityMap = new HashMap<>();
-        int foundRoads = 0;
+    /**
+     * Rescans the road rings from the first one that read a changed block, reusing the
+     * results of the rings inside it, then watches every position the scan read.
+     */
+    private void updateConstruction() {
+        int fromRing = Math.min(dirtyFromRing, Math.min(roadDistance, scannedRings));
+        dirtyFromRing = RING_COUNT;
+
+        int yOffset = fromRing > 0 ? ringYOffset[fromRing - 1] : 0;
+        int foundRoads = fromRing;
+        scannedRings = fromRing;
+
+        for (int ring = fromRing; ring < RING_COUNT; ring++) {
+            int currentDistance = ring + FIRST_RING_DISTANCE;
+            int requiredLevel = currentDistance - 2; // Level 0 for distance 2, etc.
+            LongArrayList reads = ringReads[ring];
+            reads.clear();
+            scannedRings = ring + 1;
 
-        // Start checking from distance 2 (first ring around the altar)
-        for (int currentDistance = 2; currentDistance <= 2 + maxLength; currentDistance++) {
             boolean canFormRoad = false;
 
             // Check different Y levels to find roads
@@ -99,12 +146,9 @@ public class IncenseAltarTile extends BlockEntity {
                     // Each side of the ring needs 3 blocks
                     for (int j = -1; j <= 1; j++) {
                         BlockPos offsetPos = facingOffsetPos.relative(horizontalFacing.getClockWise(), j);
-                        BlockState state = level.getBlockState(offsetPos);
-
-                        int pathLevel = TranquilityRegistry.getPathLevel(state);
-                        int requiredLevel = currentDistance - 2; // Level 0 for distance 2, etc.
+                        reads.add(offsetPos.asLong());
 
-                        if (pathLevel < requiredLevel) {
+                        if (TranquilityRegistry.getPathLevel(level.getBlockState(offsetPos)) < requiredLevel) {
                             canFormRoad = false;
                             break directionLoop;
                         }
@@ -117,42 +161,50 @@ public class IncenseAltarTile extends BlockEntity {
                 }
             }
 
-            if (canFormRoad) {
-                foundRoads++;
+            if (!canFormRoad) {
+                // Road ring broken - stop checking further
+                break;
+            }
 
-                // Calculate tranquility from blocks at this distance
-                for (int i = -currentDistance; i <= currentDistance; i++) {
-                    for (int j = -currentDistance; j <= currentDistance; j++) {
-                        // Only check the perimeter at this distance
-                        if (Math.abs(i) != currentDistance && Math.abs(j) != currentDistance) {
-                            continue;
-                        }
+            foundRoads++;
+            ringYOffset[ring] = yOffset;
+            double[] values = ringTranquility[ring];
+            Arrays.fill(values, 0);
+
+            // Calculate tranquility from blocks at this distance
+            BlockPos.MutableBlockPos offsetPos = new BlockPos.MutableBlockPos();
+            for (int i = -currentDistance; i <= currentDistance; i++) {
+                for (int j = -currentDistance; j <= currentDistance; j++) {
+                    // Only check the perimeter at this distance
+                    if (Math.abs(i) != currentDistance && Math.abs(j) != currentDistance) {
+                        continue;
+                    }
 
-                        // Check 3 vertical levels above the road
-                        for (int y = yOffset; y <= 2 + yOffset; y++) {
-                            BlockPos offsetPos = worldPosition.offset(i, y, j);
-                            BlockState state = level.getBlockState(offsetPos);
+                    // Check 3 vertical levels above the road
+                    for (int y = yOffset; y <= 2 + yOffset; y++) {
+                        offsetPos.setWithOffset(worldPosition, i, y, j);
+                        reads.add(offsetPos.asLong());
 
-                            TranquilityStack stack = TranquilityRegistry.getTranquility(level, offsetPos, state);
-                            if (stack != null) {
-                                newTranquilityMap.merge(stack.type, stack.value, Double::sum);
-                            }
+                        TranquilityStack stack = TranquilityRegistry.getTranquility(level, offsetPos, level.getBlockState(offsetPos));
+                        if (stack != null) {
+                            values[stack.type.ordinal()] += stack.value;
                         }
                     }
                 }
-            } else {
-                // Road ring broken - stop checking further
-                break;
             }
         }
 
         this.roadDistance = foundRoads;
-        this.tranquilityMap = newTranquilityMap;
+        watchReadPositions();
 
         // Calculate total and applied tranquility
+        double[] totals = new double[TRANQUILITY_TYPES];
         double totalTranquility = 0;
-        for (Double value : tranquilityMap.values()) {
-            totalTranquility += value;
+        for (int ring = 0; ring < foundRoads; ring++) {
+            for (int type = 0; type < TRANQUILITY_TYPES; type++) {
+                totals[type] += ringTranquility[ring][type];
+                totalTranquility += ringTranquility[ring][type];
+            }
         }
 
         if (totalTranquility < 0) {
@@ -161,7 +213,7 @@ public class IncenseAltarTile extends BlockEntity {
 
         // Applied tranquility uses sqrt of each type's total
         double appliedTranquility = 0;
-        for (Double value : tranquilityMap.values()) {
+        for (double value : totals) {
             appliedTranquility += Math.sqrt(value);
         }
 
@@ -173,6 +225,46 @@ public class IncenseAltarTile extends BlockEntity {
         setChanged();
     }
 
+    private void watchReadPositions() {
+        BlockChangeTracker.unwatch(constructionWatch);
+        constructionWatch = null;
+        readByRing.clear();
+        if (!(level instanceof ServerLevel serverLevel)) {
+            return;
+        }
+
+        // Rings are visited in order, so each position maps to the first ring reading it
+        LongOpenHashSet positions = new LongOpenHashSet();
+        for (int ring = 0; ring < scannedRings; ring++) {
+            LongArrayList reads = ringReads[ring];
+            for (int i = 0; i < reads.size(); i++) {
+                long pos = reads.getLong(i);
+                if (positions.add(pos)) {
+                    readByRing.put(pos, ring);
+                }
+            }
+        }
+        constructionWatch = BlockChangeTracker.watch(serverLevel, positions,
+                (changedPos, oldState, newState) -> dirtyFromRing = Math.min(dirtyFromRing, readByRing.get(changedPos.asLong())));
+    }
+
+    private void stopConstructionTracking() {
+        BlockChangeTracker.unwatch(constructionWatch);
+        constructionWatch = null;
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        stopConstructionTracking();
+    }
+
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        stopConstructionTracking();
+    }
+
     public double getIncenseAddition() {
         return incenseAddition;
     }
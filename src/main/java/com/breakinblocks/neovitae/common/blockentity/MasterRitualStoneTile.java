@@ -6,6 +6,7 @@ import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
@@ -25,6 +26,7 @@ import com.breakinblocks.neovitae.util.helper.SoulNetworkHelper;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -44,6 +46,7 @@ public class MasterRitualStoneTile extends BaseTile implements IMasterRitualSton
     private EnumWillType activeWillConfig = EnumWillType.DEFAULT;
 
     private Map<String, AreaDescriptor> blockRanges = new HashMap<>();
+    private final Map<String, BlockPos> scanCursors = new HashMap<>();
 
     public MasterRitualStoneTile(BlockPos pos, BlockState state) {
         super(BMTiles.MASTER_RITUAL_STONE_TYPE.get(), pos, state);
@@ -63,8 +66,11 @@ public class MasterRitualStoneTile extends BaseTile implements IMasterRitualSton
         if (tile.active && tile.currentRitual != null) {
             tile.runningTime++;
 
-            if (tile.runningTime % tile.currentRitual.getRefreshTime() == 0) {
-                tile.performRitual();
+            // Refresh at a per-stone phase and let the scheduler spread the work out
+            int refreshTime = Math.max(1, tile.currentRitual.getRefreshTime());
+            if ((tile.runningTime + RitualScheduler.getPhase(pos, refreshTime)) % refreshTime == 0
+                    && level instanceof ServerLevel serverLevel) {
+                RitualScheduler.schedule(serverLevel, tile);
             }
         }
     }
@@ -95,6 +101,13 @@ public class MasterRitualStoneTile extends BaseTile implements IMasterRitualSton
         return currentRitual;
     }
 
+    /**
+     * Gets the registry id of the active ritual, or null if none is active.
+     */
+    public ResourceLocation getCurrentRitualId() {
+        return currentRitualId;
+    }
+
     @Override
     public boolean isActive() {
         return active;
@@ -196,6 +209,7 @@ public class MasterRitualStoneTile extends BaseTile implements IMasterRitualSton
 
         // Copy default ranges
         blockRanges.clear();
+        scanCursors.clear();
         for (Map.Entry<String, AreaDescriptor> entry : ritual.getModifiableRanges().entrySet()) {
             blockRanges.put(entry.getKey(), entry.getValue().copy());
         }
@@ -234,6 +248,7 @@ public class MasterRitualStoneTile extends BaseTile implements IMasterRitualSton
 
         // Copy default ranges
         blockRanges.clear();
+        scanCursors.clear();
         for (Map.Entry<String, AreaDescriptor> entry : ritual.getModifiableRanges().entrySet()) {
             blockRanges.put(entry.getKey(), entry.getValue().copy());
         }
@@ -288,6 +303,7 @@ public class MasterRitualStoneTile extends BaseTile implements IMasterRitualSton
         active = false;
         runningTime = 0;
         blockRanges.clear();
+        scanCursors.clear();
         setChanged();
     }
 
@@ -359,15 +375,30 @@ public class MasterRitualStoneTile extends BaseTile implements IMasterRitualSton
     @Override
     public void setBlockRange(String key, AreaDescriptor descriptor) {
         blockRanges.put(key, descriptor);
+        scanCursors.remove(key);
         setChanged();
     }
 
     @Override
     public void setBlockRanges(Map<String, AreaDescriptor> ranges) {
         this.blockRanges = new HashMap<>(ranges);
+        scanCursors.clear();
         setChanged();
     }
 
+    @Override
+    public BlockPos getScanCursor(String key) {
+        return scanCursors.get(key);
+    }
+
+    @Override
+    public void setScanCursor(String key, BlockPos offset) {
+        BlockPos previous = offset != null ? scanCursors.put(key, offset) : scanCursors.remove(key);
+        if (!Objects.equals(previous, offset)) {
+            setChanged();
+        }
+    }
+
     @Override
     public EnumWillType getActiveWillConfig() {
         return activeWillConfig;
@@ -459,6 +490,15 @@ public class MasterRitualStoneTile extends BaseTile implements IMasterRitualSton
                 rangesTag.put(entry.getKey(), rangeTag);
             }
             tag.put("blockRanges", rangesTag);
+
+            // Save where area scans stopped
+            if (!scanCursors.isEmpty()) {
+                CompoundTag cursorsTag = new CompoundTag();
+                for (Map.Entry<String, BlockPos> entry : scanCursors.entrySet()) {
+                    cursorsTag.putLong(entry.getKey(), entry.getValue().asLong());
+                }
+                tag.put("scanCursors", cursorsTag);
+            }
         }
     }
 
@@ -517,6 +557,14 @@ public class MasterRitualStoneTile extends BaseTile implements IMasterRitualSton
                         blockRanges.put(entry.getKey(), entry.getValue().copy());
                     }
                 }
+
+                scanCursors.clear();
+                if (tag.contains("scanCursors")) {
+                    CompoundTag cursorsTag = tag.getCompound("scanCursors");
+                    for (String key : cursorsTag.getAllKeys()) {
+                        scanCursors.put(key, BlockPos.of(cursorsTag.getLong(key)));
+                    }
+                }
             } else {
                 // Ritual not found in registry - clear active state
                 active = false;
@@ -5,14 +5,15 @@ import net.minecraft.core.HolderLookup;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtUtils;
-import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.Block;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
+import com.breakinblocks.neovitae.common.world.TemporaryBlockTimers;
 
 /**
- * Phantom Bridge Tile Entity - tracks duration and the original block state.
- * When duration expires, the phantom bridge block is removed (replaced with air or original block).
+ * Phantom Bridge Tile Entity - holds the original block state.
+ * Expiry is handled by {@link TemporaryBlockTimers}: when the duration runs out, the phantom
+ * bridge block is removed (replaced with air or original block). The tile does not tick.
  */
 public class PhantomBridgeTile extends BaseTile {
 
@@ -20,22 +21,21 @@ public class PhantomBridgeTile extends BaseTile {
     public static final int MAX_DURATION = 200; // 10 seconds max
 
     private BlockState containedBlockState = Blocks.AIR.defaultBlockState();
-    private int duration = DEFAULT_DURATION;
+    // Only read from tiles saved before expiry moved to TemporaryBlockTimers
+    private int legacyDuration = DEFAULT_DURATION;
 
     public PhantomBridgeTile(BlockPos pos, BlockState state) {
         super(BMTiles.PHANTOM_BRIDGE_TYPE.get(), pos, state);
     }
 
-    public static void tick(Level level, BlockPos pos, BlockState state, PhantomBridgeTile tile) {
-        if (level.isClientSide()) {
-            return;
-        }
-
-        tile.duration--;
-
-        if (tile.duration <= 0) {
-            // Remove the phantom bridge block
-            tile.removeBlock();
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (level instanceof ServerLevel serverLevel) {
+            TemporaryBlockTimers timers = TemporaryBlockTimers.get(serverLevel);
+            if (!timers.has(worldPosition)) {
+                timers.schedule(serverLevel, worldPosition, getBlockState().getBlock(), containedBlockState, legacyDuration);
+            }
         }
     }
 
@@ -43,14 +43,9 @@ public class PhantomBridgeTile extends BaseTile {
      * Removes this phantom bridge block and restores the original block if any.
      */
     public void removeBlock() {
-        if (level != null && !level.isClientSide()) {
-            BlockState toRestore = containedBlockState;
-            if (toRestore != null && !toRestore.isAir()) {
-                level.setBlock(worldPosition, toRestore, Block.UPDATE_ALL);
-            } else {
-                // Replace with air
-                level.removeBlock(worldPosition, false);
-            }
+        if (level instanceof ServerLevel serverLevel) {
+            TemporaryBlockTimers.get(serverLevel).cancel(worldPosition);
+            TemporaryBlockTimers.restore(serverLevel, worldPosition, containedBlockState);
         }
     }
 
@@ -60,6 +55,11 @@ public class PhantomBridgeTile extends BaseTile {
     public void setContainedBlockState(BlockState state) {
         this.containedBlockState = state;
         setChanged();
+        if (level instanceof ServerLevel serverLevel) {
+            TemporaryBlockTimers timers = TemporaryBlockTimers.get(serverLevel);
+            int remaining = timers.getRemaining(serverLevel, worldPosition);
+            timers.schedule(serverLevel, worldPosition, getBlockState().getBlock(), state, remaining > 0 ? remaining : DEFAULT_DURATION);
+        }
     }
 
     /**
@@ -73,29 +73,35 @@ public class PhantomBridgeTile extends BaseTile {
      * Resets the duration timer to default. Called by the sigil/ritual to keep the block active.
      */
     public void resetDuration() {
-        this.duration = DEFAULT_DURATION;
-        setChanged();
+        resetDuration(DEFAULT_DURATION);
     }
 
     /**
      * Resets the duration with a specific value.
      */
     public void resetDuration(int newDuration) {
-        this.duration = Math.min(newDuration, MAX_DURATION);
-        setChanged();
+        if (level instanceof ServerLevel serverLevel) {
+            int duration = Math.min(newDuration, MAX_DURATION);
+            TemporaryBlockTimers timers = TemporaryBlockTimers.get(serverLevel);
+            if (!timers.refresh(serverLevel, worldPosition, duration)) {
+                timers.schedule(serverLevel, worldPosition, getBlockState().getBlock(), containedBlockState, duration);
+            }
+        }
     }
 
     /**
-     * Gets the remaining duration.
+     * Gets the remaining duration. Always 0 on the client.
      */
     public int getDuration() {
-        return duration;
+        if (level instanceof ServerLevel serverLevel) {
+            return TemporaryBlockTimers.get(serverLevel).getRemaining(serverLevel, worldPosition);
+        }
+        return 0;
     }
 
     @Override
     protected void saveAdditional(CompoundTag tag, HolderLookup.Provider registries) {
         super.saveAdditional(tag, registries);
-        tag.putInt("duration", duration);
         if (containedBlockState != null) {
             tag.put("containedState", NbtUtils.writeBlockState(containedBlockState));
         }
@@ -104,7 +110,9 @@ public class PhantomBridgeTile extends BaseTile {
     @Override
     protected void loadAdditional(CompoundTag tag, HolderLookup.Provider registries) {
         super.loadAdditional(tag, registries);
-        duration = tag.getInt("duration");
+        if (tag.contains("duration")) {
+            legacyDuration = tag.getInt("duration");
+        }
         if (tag.contains("containedState")) {
             containedBlockState = NbtUtils.readBlockState(BuiltInRegistries.BLOCK.asLookup(), tag.getCompound("containedState"));
         }
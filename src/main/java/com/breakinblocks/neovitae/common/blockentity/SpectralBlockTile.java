@@ -6,14 +6,15 @@ import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtUtils;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.Block;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
+import com.breakinblocks.neovitae.common.world.TemporaryBlockTimers;
 
 /**
- * Spectral Block Tile Entity - tracks the original fluid state and duration.
- * When duration expires, restores the original fluid.
+ * Spectral Block Tile Entity - holds the original fluid state.
+ * Expiry is handled by {@link TemporaryBlockTimers}: when the duration runs out, the original
+ * fluid is restored. The tile does not tick.
  */
 public class SpectralBlockTile extends BaseTile {
 
@@ -21,22 +22,21 @@ public class SpectralBlockTile extends BaseTile {
     public static final int MAX_DURATION = 100; // 5 seconds max
 
     private BlockState containedBlockState = Blocks.WATER.defaultBlockState();
-    private int duration = DEFAULT_DURATION;
+    // Only read from tiles saved before expiry moved to TemporaryBlockTimers
+    private int legacyDuration = DEFAULT_DURATION;
 
     public SpectralBlockTile(BlockPos pos, BlockState state) {
         super(BMTiles.SPECTRAL_BLOCK_TYPE.get(), pos, state);
     }
 
-    public static void tick(Level level, BlockPos pos, BlockState state, SpectralBlockTile tile) {
-        if (level.isClientSide()) {
-            return;
-        }
-
-        tile.duration--;
-
-        if (tile.duration <= 0) {
-            // Restore the original block
-            tile.restoreContainedBlock();
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (level instanceof ServerLevel serverLevel) {
+            TemporaryBlockTimers timers = TemporaryBlockTimers.get(serverLevel);
+            if (!timers.has(worldPosition)) {
+                timers.schedule(serverLevel, worldPosition, getBlockState().getBlock(), containedBlockState, legacyDuration);
+            }
         }
     }
 
@@ -44,14 +44,9 @@ public class SpectralBlockTile extends BaseTile {
      * Restores the original fluid block and removes this spectral block.
      */
     public void restoreContainedBlock() {
-        if (level != null && !level.isClientSide()) {
-            BlockState toRestore = containedBlockState;
-            if (toRestore != null && !toRestore.isAir()) {
-                level.setBlock(worldPosition, toRestore, Block.UPDATE_ALL);
-            } else {
-                // If no contained state, just remove
-                level.removeBlock(worldPosition, false);
-            }
+        if (level instanceof ServerLevel serverLevel) {
+            TemporaryBlockTimers.get(serverLevel).cancel(worldPosition);
+            TemporaryBlockTimers.restore(serverLevel, worldPosition, containedBlockState);
         }
     }
 
@@ -61,6 +56,11 @@ public class SpectralBlockTile extends BaseTile {
     public void setContainedBlockState(BlockState state) {
         this.containedBlockState = state;
         setChanged();
+        if (level instanceof ServerLevel serverLevel) {
+            TemporaryBlockTimers timers = TemporaryBlockTimers.get(serverLevel);
+            int remaining = timers.getRemaining(serverLevel, worldPosition);
+            timers.schedule(serverLevel, worldPosition, getBlockState().getBlock(), state, remaining > 0 ? remaining : DEFAULT_DURATION);
+        }
     }
 
     /**
@@ -74,29 +74,35 @@ public class SpectralBlockTile extends BaseTile {
      * Resets the duration timer. Called by the sigil to keep the block suppressed.
      */
     public void resetDuration() {
-        this.duration = DEFAULT_DURATION;
-        setChanged();
+        resetDuration(DEFAULT_DURATION);
     }
 
     /**
      * Resets the duration with a specific value.
      */
     public void resetDuration(int newDuration) {
-        this.duration = Math.min(newDuration, MAX_DURATION);
-        setChanged();
+        if (level instanceof ServerLevel serverLevel) {
+            int duration = Math.min(newDuration, MAX_DURATION);
+            TemporaryBlockTimers timers = TemporaryBlockTimers.get(serverLevel);
+            if (!timers.refresh(serverLevel, worldPosition, duration)) {
+                timers.schedule(serverLevel, worldPosition, getBlockState().getBlock(), containedBlockState, duration);
+            }
+        }
     }
 
     /**
-     * Gets the remaining duration.
+     * Gets the remaining duration. Always 0 on the client.
      */
     public int getDuration() {
-        return duration;
+        if (level instanceof ServerLevel serverLevel) {
+            return TemporaryBlockTimers.get(serverLevel).getRemaining(serverLevel, worldPosition);
+        }
+        return 0;
     }
 
     @Override
     protected void saveAdditional(CompoundTag tag, HolderLookup.Provider registries) {
         super.saveAdditional(tag, registries);
-        tag.putInt("duration", duration);
         if (containedBlockState != null) {
             tag.put("containedState", NbtUtils.writeBlockState(containedBlockState));
         }
@@ -105,7 +111,9 @@ public class SpectralBlockTile extends BaseTile {
     @Override
     protected void loadAdditional(CompoundTag tag, HolderLookup.Provider registries) {
         super.loadAdditional(tag, registries);
-        duration = tag.getInt("duration");
+        if (tag.contains("duration")) {
+            legacyDuration = tag.getInt("duration");
+        }
         if (tag.contains("containedState")) {
             containedBlockState = NbtUtils.readBlockState(BuiltInRegistries.BLOCK.asLookup(), tag.getCompound("containedState"));
         }
@@ -15,7 +15,14 @@ import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.neoforged.neoforge.capabilities.Capabilities;
 import net.neoforged.neoforge.items.IItemHandler;
+import com.breakinblocks.neovitae.common.item.routing.IItemFilterProvider;
+import com.breakinblocks.neovitae.common.routing.CompiledItemFilter;
+import com.breakinblocks.neovitae.common.routing.IItemFilter;
+import com.breakinblocks.neovitae.common.routing.InventoryCountIndex;
 import com.breakinblocks.neovitae.util.Constants;
+import com.breakinblocks.neovitae.util.Utils;
+
+import javax.annotation.Nullable;
 
 /**
  * Filtered routing node with a filter slot per direction and priority settings.
@@ -26,6 +33,12 @@ public class FilteredRoutingNodeTile extends RoutingNodeTile implements Containe
     private int currentActiveSlot = -1;
     public int[] priorities = new int[6];
 
+    // Compiled filters per side, kept until the filter stack's components change
+    private final CompiledItemFilter[] compiledFilters = new CompiledItemFilter[6];
+    private final ItemStack[] compiledFilterStacks = new ItemStack[6];
+    private final boolean[] compiledAsOutput = new boolean[6];
+    private final InventoryCountIndex[] countIndexes = new InventoryCountIndex[6];
+
     public FilteredRoutingNodeTile(BlockEntityType<?> type, int size, BlockPos pos, BlockState state) {
         super(type, pos, state);
         this.items = NonNullList.withSize(size, ItemStack.EMPTY);
@@ -36,6 +49,59 @@ public class FilteredRoutingNodeTile extends RoutingNodeTile implements Containe
         return getItem(index);
     }
 
+    /**
+     * Gets the compiled form of the filter on the given side, recompiling it only if the
+     * filter stack's item or data components changed since the last call.
+     * @return The compiled filter, or null if the side has no item filter
+     */
+    @Nullable
+    public CompiledItemFilter getCompiledFilter(Direction side, boolean isFilterOutput) {
+        int index = side.get3DDataValue();
+        ItemStack filterStack = getFilterStack(side);
+        if (filterStack.isEmpty() || !(filterStack.getItem() instanceof IItemFilterProvider filter)) {
+            compiledFilters[index] = null;
+            compiledFilterStacks[index] = null;
+            return null;
+        }
+
+        CompiledItemFilter compiled = compiledFilters[index];
+        if (compiled == null || compiled.isStale() || compiledAsOutput[index] != isFilterOutput
+                || !ItemStack.isSameItemSameComponents(filterStack, compiledFilterStacks[index])) {
+            compiled = filter.compileItemFilter(filterStack, isFilterOutput);
+            compiledFilters[index] = compiled;
+            compiledFilterStacks[index] = filterStack.copy();
+            compiledAsOutput[index] = isFilterOutput;
+        }
+        return compiled;
+    }
+
+    /**
+     * Creates this tick's item filter for the inventory on the given side, reusing the
+     * side's compiled filter and inventory count index.
+     */
+    @Nullable
+    protected IItemFilter getItemFilterForSide(Direction side, boolean isFilterOutput) {
+        BlockEntity tile = getLevel().getBlockEntity(worldPosition.relative(side));
+        if (tile == null) {
+            return null;
+        }
+        IItemHandler handler = Utils.getInventory(tile, side.getOpposite());
+        if (handler == null) {
+            return null;
+        }
+
+        CompiledItemFilter compiled = getCompiledFilter(side, isFilterOutput);
+        if (compiled == null) {
+            return null;
+        }
+
+        int index = side.get3DDataValue();
+        if (countIndexes[index] == null) {
+            countIndexes[index] = new InventoryCountIndex();
+        }
+        return compiled.createFilter(tile, handler, countIndexes[index], isFilterOutput);
+    }
+
     public int getCurrentActiveSlot() {
         if (currentActiveSlot == -1 && level != null) {
             currentActiveSlot = 0;
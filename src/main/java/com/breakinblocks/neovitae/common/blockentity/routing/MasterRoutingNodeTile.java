@@ -53,6 +53,13 @@ public class MasterRoutingNodeTile extends BlockEntity implements IMasterRouting
 
     protected NonNullList<ItemStack> items = NonNullList.withSize(2, ItemStack.EMPTY);
 
+    // Cached topology: nodes that currently have an enabled path to this master.
+    // Rebuilt lazily after connection changes, redstone toggles or node (un)loads.
+    private boolean topologyDirty = true;
+    private final Set<BlockPos> reachableNodes = new HashSet<>();
+    // Nodes that were not loaded during the last rebuild; the topology is rebuilt once any of them loads
+    private final List<BlockPos> unloadedNodes = new ArrayList<>();
+
     public MasterRoutingNodeTile(BlockEntityType<?> type, BlockPos pos, BlockState state) {
         super(type, pos, state);
     }
@@ -67,7 +74,11 @@ public class MasterRoutingNodeTile extends BlockEntity implements IMasterRouting
             return;
         }
 
-        currentInput = level.getDirectSignalTo(pos);
+        int newInput = level.getDirectSignalTo(pos);
+        if (newInput != currentInput) {
+            currentInput = newInput;
+            invalidateTopology();
+        }
 
         // Calculate effective tick rate based on block's datamap stats and upgrades
         int tickMod = RoutingNodeHelper.getEffectiveTickRate(
@@ -78,27 +89,39 @@ public class MasterRoutingNodeTile extends BlockEntity implements IMasterRouting
             return;
         }
 
-        // Reuse a single HashSet for connectivity checking (performance optimization)
-        Set<BlockPos> visitedNodes = new HashSet<>();
+        updateTopology(level);
+
+        // Inventories touched by the transfers below get one block update each at the end
+        RoutingUpdateBatch.begin();
+        try {
+            routeItems(level);
+            routeFluids(level);
+        } finally {
+            RoutingUpdateBatch.end();
+        }
+    }
 
+    private void routeItems(Level level) {
         // Collect output filters by priority
         Map<Integer, List<IItemFilter>> outputMap = new TreeMap<>();
 
         for (BlockPos outputPos : outputNodeList) {
-            visitedNodes.clear();
+            if (!reachableNodes.contains(outputPos)) {
+                continue;
+            }
             BlockEntity outputTile = level.getBlockEntity(outputPos);
-            if (this.isConnectedOptimized(visitedNodes, outputPos)) {
-                if (outputTile instanceof IOutputItemRoutingNode outputNode) {
-                    for (Direction facing : Direction.values()) {
-                        if (!outputNode.isInventoryConnectedToSide(facing) || !outputNode.isOutput(facing)) {
-                            continue;
-                        }
+            if (outputTile == null) {
+                invalidateTopology();
+            } else if (outputTile instanceof IOutputItemRoutingNode outputNode) {
+                for (Direction facing : Direction.values()) {
+                    if (!outputNode.isInventoryConnectedToSide(facing) || !outputNode.isOutput(facing)) {
+                        continue;
+                    }
 
-                        IItemFilter filter = outputNode.getOutputFilterForSide(facing);
-                        if (filter != null) {
-                            int priority = outputNode.getPriority(facing);
-                            outputMap.computeIfAbsent(TREE_OFFSET - priority, k -> new ArrayList<>()).add(filter);
-                        }
+                    IItemFilter filter = outputNode.getOutputFilterForSide(facing);
+                    if (filter != null) {
+                        int priority = outputNode.getPriority(facing);
+                        outputMap.computeIfAbsent(TREE_OFFSET - priority, k -> new ArrayList<>()).add(filter);
                     }
                 }
             }
@@ -108,65 +131,57 @@ public class MasterRoutingNodeTile extends BlockEntity implements IMasterRouting
         Map<Integer, List<IItemFilter>> inputMap = new TreeMap<>();
 
         for (BlockPos inputPos : inputNodeList) {
-            visitedNodes.clear();
+            if (!reachableNodes.contains(inputPos)) {
+                continue;
+            }
             BlockEntity inputTile = level.getBlockEntity(inputPos);
-            if (this.isConnectedOptimized(visitedNodes, inputPos)) {
-                if (inputTile instanceof IInputItemRoutingNode inputNode) {
-                    for (Direction facing : Direction.values()) {
-                        if (!inputNode.isInventoryConnectedToSide(facing) || !inputNode.isInput(facing)) {
-                            continue;
-                        }
+            if (inputTile == null) {
+                invalidateTopology();
+            } else if (inputTile instanceof IInputItemRoutingNode inputNode) {
+                for (Direction facing : Direction.values()) {
+                    if (!inputNode.isInventoryConnectedToSide(facing) || !inputNode.isInput(facing)) {
+                        continue;
+                    }
 
-                        IItemFilter filter = inputNode.getInputFilterForSide(facing);
-                        if (filter != null) {
-                            int priority = inputNode.getPriority(facing);
-                            inputMap.computeIfAbsent(TREE_OFFSET - priority, k -> new ArrayList<>()).add(filter);
-                        }
+                    IItemFilter filter = inputNode.getInputFilterForSide(facing);
+                    if (filter != null) {
+                        int priority = inputNode.getPriority(facing);
+                        inputMap.computeIfAbsent(TREE_OFFSET - priority, k -> new ArrayList<>()).add(filter);
                     }
                 }
             }
         }
 
-        // Transfer items from inputs to outputs
-        int maxTransfer = getMaxTransfer();
-
-        for (Entry<Integer, List<IItemFilter>> outputEntry : outputMap.entrySet()) {
-            for (IItemFilter outputFilter : outputEntry.getValue()) {
-                for (Entry<Integer, List<IItemFilter>> inputEntry : inputMap.entrySet()) {
-                    for (IItemFilter inputFilter : inputEntry.getValue()) {
-                        int transferred = inputFilter.transferThroughInputFilter(outputFilter, maxTransfer);
-                        maxTransfer -= transferred;
+        // Transfer items from inputs to outputs, in priority order on both sides
+        List<IItemFilter> outputs = new ArrayList<>();
+        outputMap.values().forEach(outputs::addAll);
+        List<IItemFilter> inputs = new ArrayList<>();
+        inputMap.values().forEach(inputs::addAll);
 
-                        if (maxTransfer <= 0) {
-                            break;
-                        }
-                    }
-                    if (maxTransfer <= 0) break;
-                }
-                if (maxTransfer <= 0) break;
-            }
-            if (maxTransfer <= 0) break;
-        }
+        ItemRoutingSolver.route(outputs, inputs, getMaxTransfer());
+    }
 
-        // === Fluid Routing ===
+    private void routeFluids(Level level) {
         // Collect fluid output filters by priority
         Map<Integer, List<IFluidFilter>> fluidOutputMap = new TreeMap<>();
 
         for (BlockPos outputPos : fluidOutputNodeList) {
-            visitedNodes.clear();
+            if (!reachableNodes.contains(outputPos)) {
+                continue;
+            }
             BlockEntity outputTile = level.getBlockEntity(outputPos);
-            if (this.isConnectedOptimized(visitedNodes, outputPos)) {
-                if (outputTile instanceof IOutputFluidRoutingNode outputNode) {
-                    for (Direction facing : Direction.values()) {
-                        if (!outputNode.isTankConnectedToSide(facing) || !outputNode.isFluidOutput(facing)) {
-                            continue;
-                        }
+            if (outputTile == null) {
+                invalidateTopology();
+            } else if (outputTile instanceof IOutputFluidRoutingNode outputNode) {
+                for (Direction facing : Direction.values()) {
+                    if (!outputNode.isTankConnectedToSide(facing) || !outputNode.isFluidOutput(facing)) {
+                        continue;
+                    }
 
-                        IFluidFilter filter = outputNode.getOutputFluidFilterForSide(facing);
-                        if (filter != null) {
-                            int priority = outputNode.getFluidPriority(facing);
-                            fluidOutputMap.computeIfAbsent(TREE_OFFSET - priority, k -> new ArrayList<>()).add(filter);
-                        }
+                    IFluidFilter filter = outputNode.getOutputFluidFilterForSide(facing);
+                    if (filter != null) {
+                        int priority = outputNode.getFluidPriority(facing);
+                        fluidOutputMap.computeIfAbsent(TREE_OFFSET - priority, k -> new ArrayList<>()).add(filter);
                     }
                 }
             }
@@ -176,20 +191,22 @@ public class MasterRoutingNodeTile extends BlockEntity implements IMasterRouting
         Map<Integer, List<IFluidFilter>> fluidInputMap = new TreeMap<>();
 
         for (BlockPos inputPos : fluidInputNodeList) {
-            visitedNodes.clear();
+            if (!reachableNodes.contains(inputPos)) {
+                continue;
+            }
             BlockEntity inputTile = level.getBlockEntity(inputPos);
-            if (this.isConnectedOptimized(visitedNodes, inputPos)) {
-                if (inputTile instanceof IInputFluidRoutingNode inputNode) {
-                    for (Direction facing : Direction.values()) {
-                        if (!inputNode.isTankConnectedToSide(facing) || !inputNode.isFluidInput(facing)) {
-                            continue;
-                        }
+            if (inputTile == null) {
+                invalidateTopology();
+            } else if (inputTile instanceof IInputFluidRoutingNode inputNode) {
+                for (Direction facing : Direction.values()) {
+                    if (!inputNode.isTankConnectedToSide(facing) || !inputNode.isFluidInput(facing)) {
+                        continue;
+                    }
 
-                        IFluidFilter filter = inputNode.getInputFluidFilterForSide(facing);
-                        if (filter != null) {
-                            int priority = inputNode.getFluidPriority(facing);
-                            fluidInputMap.computeIfAbsent(TREE_OFFSET - priority, k -> new ArrayList<>()).add(filter);
-                        }
+                    IFluidFilter filter = inputNode.getInputFluidFilterForSide(facing);
+                    if (filter != null) {
+                        int priority = inputNode.getFluidPriority(facing);
+                        fluidInputMap.computeIfAbsent(TREE_OFFSET - priority, k -> new ArrayList<>()).add(filter);
                     }
                 }
             }
@@ -215,34 +232,74 @@ public class MasterRoutingNodeTile extends BlockEntity implements IMasterRouting
     }
 
     /**
-     * Optimized connectivity check using HashSet for O(1) visited lookups.
+     * Marks the cached reachability as stale.
      */
-    private boolean isConnectedOptimized(Set<BlockPos> visited, BlockPos nodePos) {
-        if (getLevel() == null) return false;
+    @Override
+    public void invalidateTopology() {
+        topologyDirty = true;
+    }
 
-        BlockEntity tile = getLevel().getBlockEntity(nodePos);
-        if (!(tile instanceof IRoutingNode node)) {
-            return false;
+    /**
+     * Rebuilds the set of reachable nodes if the topology changed since the last routing tick.
+     *
+     * <p>Equivalent to running the connectivity DFS from every node, but done once for the
+     * whole network: each node's block entity is read once, and the master is walked
+     * backwards along enabled links. A link from A to B is usable when A lists B, A's
+     * connection to B is enabled, and (unless B is the master) B's connection to A is enabled.</p>
+     */
+    private void updateTopology(Level level) {
+        if (!topologyDirty && !unloadedNodes.isEmpty()) {
+            for (BlockPos nodePos : unloadedNodes) {
+                if (level.isLoaded(nodePos) && level.getBlockEntity(nodePos) instanceof IRoutingNode) {
+                    topologyDirty = true;
+                    break;
+                }
+            }
+        }
+        if (!topologyDirty) {
+            return;
+        }
+        topologyDirty = false;
+        reachableNodes.clear();
+        unloadedNodes.clear();
+
+        Set<BlockPos> candidates = new LinkedHashSet<>(generalNodeList);
+        candidates.addAll(connectionMap.keySet());
+        candidates.remove(worldPosition);
+
+        Map<BlockPos, IRoutingNode> nodes = new HashMap<>();
+        Map<BlockPos, List<BlockPos>> incoming = new HashMap<>();
+        for (BlockPos nodePos : candidates) {
+            if (!level.isLoaded(nodePos) || !(level.getBlockEntity(nodePos) instanceof IRoutingNode node)) {
+                unloadedNodes.add(nodePos);
+                continue;
+            }
+            nodes.put(nodePos, node);
+            for (BlockPos target : node.getConnected()) {
+                if (node.isConnectionEnabled(target)) {
+                    incoming.computeIfAbsent(target, k -> new ArrayList<>()).add(nodePos);
+                }
+            }
         }
 
-        List<BlockPos> connectionList = node.getConnected();
-        visited.add(nodePos);
-
-        for (BlockPos testPos : connectionList) {
-            if (visited.contains(testPos)) continue;
-
-            if (testPos.equals(this.getBlockPos()) && node.isConnectionEnabled(testPos)) {
-                return true;
-            } else if (node.isConnectionEnabled(testPos)) {
-                BlockEntity testTile = getLevel().getBlockEntity(testPos);
-                if (testTile instanceof IRoutingNode testNode && testNode.isConnectionEnabled(nodePos)) {
-                    if (isConnectedOptimized(visited, testPos)) {
-                        return true;
-                    }
+        ArrayDeque<BlockPos> queue = new ArrayDeque<>();
+        queue.add(worldPosition);
+        while (!queue.isEmpty()) {
+            BlockPos target = queue.poll();
+            List<BlockPos> sources = incoming.get(target);
+            if (sources == null) {
+                continue;
+            }
+            IRoutingNode targetNode = nodes.get(target);
+            for (BlockPos source : sources) {
+                if (targetNode != null && !targetNode.isConnectionEnabled(source)) {
+                    continue;
+                }
+                if (reachableNodes.add(source)) {
+                    queue.add(source);
                 }
             }
         }
-        return false;
     }
 
     /**
@@ -368,6 +425,7 @@ public class MasterRoutingNodeTile extends BlockEntity implements IMasterRouting
         if (node instanceof IOutputFluidRoutingNode && !fluidOutputNodeList.contains(newPos)) {
             fluidOutputNodeList.add(newPos);
         }
+        invalidateTopology();
         setChanged();
     }
 
@@ -389,6 +447,7 @@ public class MasterRoutingNodeTile extends BlockEntity implements IMasterRouting
         if (!connectionMap.get(pos2).contains(pos1)) {
             connectionMap.get(pos2).add(pos1);
         }
+        invalidateTopology();
     }
 
     @Override
@@ -405,6 +464,7 @@ public class MasterRoutingNodeTile extends BlockEntity implements IMasterRouting
                 connectionMap.remove(pos2);
             }
         }
+        invalidateTopology();
     }
 
     @Override
@@ -444,6 +504,7 @@ public class MasterRoutingNodeTile extends BlockEntity implements IMasterRouting
         outputNodeList.remove(pos);
         fluidInputNodeList.remove(pos);
         fluidOutputNodeList.remove(pos);
+        invalidateTopology();
         setChanged();
     }
 
@@ -463,6 +524,7 @@ public class MasterRoutingNodeTile extends BlockEntity implements IMasterRouting
         fluidInputNodeList.clear();
         fluidOutputNodeList.clear();
         connectionMap.clear();
+        invalidateTopology();
         setChanged();
     }
 
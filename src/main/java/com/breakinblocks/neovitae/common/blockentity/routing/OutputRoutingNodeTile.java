@@ -7,17 +7,12 @@ import net.minecraft.world.MenuProvider;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
-import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
-import net.neoforged.neoforge.items.IItemHandler;
 import com.breakinblocks.neovitae.common.blockentity.BMTiles;
-import com.breakinblocks.neovitae.common.item.routing.IItemFilterProvider;
 import com.breakinblocks.neovitae.common.menu.RoutingNodeMenu;
 import com.breakinblocks.neovitae.common.routing.IItemFilter;
 import com.breakinblocks.neovitae.common.routing.IOutputItemRoutingNode;
-import com.breakinblocks.neovitae.util.Utils;
 
 /**
  * Output routing node - pushes items to connected inventories.
@@ -39,20 +34,7 @@ public class OutputRoutingNodeTile extends FilteredRoutingNodeTile implements IO
 
     @Override
     public IItemFilter getOutputFilterForSide(Direction side) {
-        BlockEntity tile = getLevel().getBlockEntity(worldPosition.relative(side));
-        if (tile != null) {
-            IItemHandler handler = Utils.getInventory(tile, side.getOpposite());
-            if (handler != null) {
-                ItemStack filterStack = this.getFilterStack(side);
-
-                if (filterStack.isEmpty() || !(filterStack.getItem() instanceof IItemFilterProvider filter)) {
-                    return null;
-                }
-
-                return filter.getOutputItemFilter(filterStack, tile, handler);
-            }
-        }
-        return null;
+        return getItemFilterForSide(side, true);
     }
 
     @Override
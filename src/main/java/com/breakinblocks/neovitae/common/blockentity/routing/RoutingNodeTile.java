@@ -37,8 +37,31 @@ public class RoutingNodeTile extends BlockEntity implements IRoutingNode, IItemR
 
     public void tick(Level level, BlockPos pos, BlockState state) {
         if (!level.isClientSide) {
-            currentInput = level.getBestNeighborSignal(pos);
+            int newInput = level.getBestNeighborSignal(pos);
+            boolean wasEnabled = currentInput <= 0;
+            currentInput = newInput;
+            if (wasEnabled != (newInput <= 0)) {
+                notifyMasterTopologyChanged();
+            }
+        }
+    }
+
+    /**
+     * Tells this node's master that reachability through this node may have changed.
+     */
+    protected void notifyMasterTopologyChanged() {
+        if (level == null || level.isClientSide || masterPos.equals(BlockPos.ZERO) || !level.isLoaded(masterPos)) {
+            return;
         }
+        if (level.getBlockEntity(masterPos) instanceof IMasterRoutingNode master) {
+            master.invalidateTopology();
+        }
+    }
+
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        notifyMasterTopologyChanged();
     }
 
     @Override
@@ -226,12 +249,14 @@ public class RoutingNodeTile extends BlockEntity implements IRoutingNode, IItemR
             getLevel().sendBlockUpdated(getBlockPos(), getLevel().getBlockState(getBlockPos()),
                     getLevel().getBlockState(getBlockPos()), 3);
             connectionList.add(pos);
+            notifyMasterTopologyChanged();
             setChanged();
         }
     }
 
     @Override
     public void removeConnection(BlockPos pos) {
+        notifyMasterTopologyChanged();
         if (connectionList.contains(pos)) {
             connectionList.remove(pos);
             getLevel().sendBlockUpdated(getBlockPos(), getLevel().getBlockState(getBlockPos()),
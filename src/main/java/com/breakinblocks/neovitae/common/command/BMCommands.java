@@ -18,12 +18,14 @@ public class BMCommands {
         RitualCommand.register(dispatcher);
         ImperfectRitualCommand.register(dispatcher);
         AuraCommand.register(dispatcher);
+        RoutingCommand.register(dispatcher);
 
         // Get the registered command nodes for redirecting
         CommandNode<CommandSourceStack> networkNode = dispatcher.getRoot().getChild("bm-network");
         CommandNode<CommandSourceStack> ritualNode = dispatcher.getRoot().getChild("bm-ritual");
         CommandNode<CommandSourceStack> imperfectRitualNode = dispatcher.getRoot().getChild("bm-imperfectritual");
         CommandNode<CommandSourceStack> auraNode = dispatcher.getRoot().getChild("bm-aura");
+        CommandNode<CommandSourceStack> routingNode = dispatcher.getRoot().getChild("bm-routing");
         CommandNode<CommandSourceStack> upgradeNode = dispatcher.getRoot().getChild("living-upgrade");
 
         // Register /bloodmagic parent command with subcommand redirects
@@ -33,6 +35,7 @@ public class BMCommands {
                         .then(Commands.literal("ritual").redirect(ritualNode))
                         .then(Commands.literal("imperfect").redirect(imperfectRitualNode))
                         .then(Commands.literal("aura").redirect(auraNode))
+                        .then(Commands.literal("routing").redirect(routingNode))
                         .then(Commands.literal("upgrade").redirect(upgradeNode))
         );
     }
@@ -21,6 +21,12 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 import com.breakinblocks.neovitae.common.blockentity.MasterRitualStoneTile;
 import com.breakinblocks.neovitae.ritual.Ritual;
 import com.breakinblocks.neovitae.ritual.RitualRegistry;
+import com.breakinblocks.neovitae.ritual.RitualScheduler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Admin command for managing rituals.
@@ -30,6 +36,8 @@ import com.breakinblocks.neovitae.ritual.RitualRegistry;
  * - /bm-ritual <pos> set <ritual_id> - Force set a ritual (without activation cost)
  * - /bm-ritual <pos> cooldown <ticks> - Set cooldown
  * - /bm-ritual list - List all registered rituals
+ * - /bm-ritual profile - Show average and max execution time per ritual
+ * - /bm-ritual profile reset - Reset the execution time statistics
  */
 public class RitualCommand {
 
@@ -78,6 +86,14 @@ public class RitualCommand {
                                 Commands.literal("list")
                                         .executes(RitualCommand::listRituals)
                         )
+                        .then(
+                                Commands.literal("profile")
+                                        .executes(RitualCommand::showProfile)
+                                        .then(
+                                                Commands.literal("reset")
+                                                        .executes(RitualCommand::resetProfile)
+                                        )
+                        )
         );
     }
 
@@ -189,4 +205,33 @@ public class RitualCommand {
 
         return Command.SINGLE_SUCCESS;
     }
+
+    private static int showProfile(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        Map<ResourceLocation, RitualScheduler.Profile> profiles = RitualScheduler.getProfiles();
+
+        source.sendSuccess(() -> Component.literal("Ritual execution times (" + RitualScheduler.getQueuedRuns()
+                + " queued, " + RitualScheduler.getDeferredRuns() + " deferred to a later tick):"), false);
+        if (profiles.isEmpty()) {
+            source.sendSuccess(() -> Component.literal(" - no rituals have run yet"), false);
+            return Command.SINGLE_SUCCESS;
+        }
+
+        List<Map.Entry<ResourceLocation, RitualScheduler.Profile>> entries = new ArrayList<>(profiles.entrySet());
+        entries.sort(Comparator.comparingLong(
+                (Map.Entry<ResourceLocation, RitualScheduler.Profile> entry) -> entry.getValue().getTotalNanos()).reversed());
+        for (Map.Entry<ResourceLocation, RitualScheduler.Profile> entry : entries) {
+            RitualScheduler.Profile profile = entry.getValue();
+            source.sendSuccess(() -> Component.literal(String.format(" - %s: %d runs, avg %.1f us, max %.1f us",
+                    entry.getKey(), profile.getRuns(), profile.getAverageNanos() / 1000.0, profile.getMaxNanos() / 1000.0)), false);
+        }
+
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int resetProfile(CommandContext<CommandSourceStack> context) {
+        RitualScheduler.resetProfiles();
+        context.getSource().sendSuccess(() -> Component.literal("Reset ritual execution time statistics"), true);
+        return Command.SINGLE_SUCCESS;
+    }
 }
@@ -0,0 +1,48 @@
+package com.breakinblocks.neovitae.common.command;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import com.breakinblocks.neovitae.common.routing.RoutingUpdateBatch;
+
+/**
+ * Admin command for inspecting the item routing system.
+ * Usage:
+ * - /bm-routing stats - Show how many block updates routing transfers requested and sent
+ * - /bm-routing stats reset - Reset the counters
+ */
+public class RoutingCommand {
+
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(
+                Commands.literal("bm-routing")
+                        .requires(source -> source.hasPermission(Commands.LEVEL_GAMEMASTERS))
+                        .then(
+                                Commands.literal("stats")
+                                        .executes(RoutingCommand::showStats)
+                                        .then(
+                                                Commands.literal("reset")
+                                                        .executes(RoutingCommand::resetStats)
+                                        )
+                        )
+        );
+    }
+
+    private static int showStats(CommandContext<CommandSourceStack> context) {
+        long requested = RoutingUpdateBatch.getRequestedUpdates();
+        long sent = RoutingUpdateBatch.getSentUpdates();
+        long saved = RoutingUpdateBatch.getSavedUpdates();
+        context.getSource().sendSuccess(() -> Component.literal(
+                "Routing block updates: " + requested + " requested, " + sent + " sent, " + saved + " saved by batching"), false);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int resetStats(CommandContext<CommandSourceStack> context) {
+        RoutingUpdateBatch.resetStats();
+        context.getSource().sendSuccess(() -> Component.literal("Reset routing block update counters"), true);
+        return Command.SINGLE_SUCCESS;
+    }
+}
@@ -44,6 +44,14 @@ public class SoulNetworkCommand {
                                                                         .executes(context -> addNetwork(context, EntityArgument.getPlayer(context, "target"), IntegerArgumentType.getInteger(context, "amount")))
                                                         )
                                         )
+                                        .then(
+                                                Commands.literal("throughput")
+                                                        .executes(context -> showThroughput(context, EntityArgument.getPlayer(context, "target")))
+                                                        .then(
+                                                                Commands.literal("reset")
+                                                                        .executes(context -> resetThroughput(context, EntityArgument.getPlayer(context, "target")))
+                                                        )
+                                        )
                         )
         );
     }
@@ -63,9 +71,33 @@ public class SoulNetworkCommand {
     }
 
     private static int showNetwork(CommandContext<CommandSourceStack> context, ServerPlayer target) {
-        SoulNetwork network = SoulNetworkHelper.getSoulNetwork(target);
-        int amount = network.getCurrentEssence();
+        int amount = SoulNetworkHelper.getCurrentEssence(target.getUUID());
         context.getSource().sendSuccess(() -> Component.literal(target.getGameProfile().getName() + " has " + amount + " LP in their Soul Network"), true);
         return 1;
     }
+
+    private static int showThroughput(CommandContext<CommandSourceStack> context, ServerPlayer target) {
+        SoulNetwork network = SoulNetworkHelper.findSoulNetwork(target.getUUID());
+        String name = target.getGameProfile().getName();
+        if (network == null) {
+            context.getSource().sendSuccess(() -> Component.literal(name + " has no Soul Network"), false);
+            return 1;
+        }
+        double seconds = Math.max(network.getMetricsSeconds(), 1.0);
+        long added = network.getTotalAdded();
+        long syphoned = network.getTotalSyphoned();
+        context.getSource().sendSuccess(() -> Component.literal(String.format(
+                "%s's Soul Network over %.0fs: %d LP added (%.1f LP/s), %d LP syphoned (%.1f LP/s)",
+                name, seconds, added, added / seconds, syphoned, syphoned / seconds)), false);
+        return 1;
+    }
+
+    private static int resetThroughput(CommandContext<CommandSourceStack> context, ServerPlayer target) {
+        SoulNetwork network = SoulNetworkHelper.findSoulNetwork(target.getUUID());
+        if (network != null) {
+            network.resetMetrics();
+        }
+        context.getSource().sendSuccess(() -> Component.literal("Reset " + target.getGameProfile().getName() + "'s Soul Network throughput"), true);
+        return 1;
+    }
 }
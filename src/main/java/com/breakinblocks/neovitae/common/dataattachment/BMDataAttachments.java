@@ -8,6 +8,7 @@ import net.neoforged.neoforge.registries.DeferredHolder;
 import net.neoforged.neoforge.registries.DeferredRegister;
 import net.neoforged.neoforge.registries.NeoForgeRegistries;
 import com.breakinblocks.neovitae.NeoVitae;
+import com.breakinblocks.neovitae.common.living.LivingSnapshot;
 import com.breakinblocks.neovitae.will.WillChunk;
 
 import java.util.HashMap;
@@ -36,6 +37,11 @@ public class BMDataAttachments {
                     .build()
     );
 
+    // Resolved living armour upgrades, rebuilt on demand and never saved
+    public static final DeferredHolder<AttachmentType<?>, AttachmentType<LivingSnapshot>> LIVING_SNAPSHOT = ATTACHMENT_TYPES.register(
+            "living_snapshot", () -> AttachmentType.builder(() -> LivingSnapshot.EMPTY).build()
+    );
+
     public static void register(IEventBus modBus) {
         ATTACHMENT_TYPES.register(modBus);
     }
@@ -10,31 +10,47 @@ import net.minecraft.world.level.Level;
 import com.breakinblocks.neovitae.api.soul.ISoulNetwork;
 import com.breakinblocks.neovitae.api.soul.SoulTicket;
 import com.breakinblocks.neovitae.api.soul.SyphonResult;
-import com.breakinblocks.neovitae.common.world.BMSavedData;
 import com.breakinblocks.neovitae.common.damagesource.BMDamageSources;
+import com.breakinblocks.neovitae.common.world.SoulNetworkShard;
 import com.breakinblocks.neovitae.util.BooleanResult;
 
 import java.util.UUID;
-
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A player's LP balance.
+ *
+ * <p>The balance is a {@code long} updated with compare-and-set, so it can be read and
+ * modified from any thread. Changes don't mark the saved data dirty directly: the network
+ * queues itself on its {@link SoulNetworkShard} at most once until the next per-tick flush.
+ * The network also counts the LP added and syphoned since it was loaded, for throughput
+ * reporting.</p>
+ */
 public class SoulNetwork implements ISoulNetwork {
     public static final Codec<SoulNetwork> CODEC = RecordCodecBuilder.create(builder -> builder.group(
             UUIDUtil.CODEC.fieldOf("id").forGetter(SoulNetwork::getPlayerId),
-            Codec.INT.fieldOf("current_essence").forGetter(SoulNetwork::getCurrentEssence)
+            Codec.LONG.fieldOf("current_essence").forGetter(SoulNetwork::getEssence)
     ).apply(builder, SoulNetwork::new));
 
-    private UUID playerId;
-    private int currentEssence;
-    private BMSavedData parent;
+    private final UUID playerId;
+    private final AtomicLong essence;
+    private final AtomicBoolean dirtyQueued = new AtomicBoolean(false);
+    private final LongAdder totalAdded = new LongAdder();
+    private final LongAdder totalSyphoned = new LongAdder();
+    private volatile long metricsSince = System.nanoTime();
+    private SoulNetworkShard parent;
 
-    public static SoulNetwork newEmpty(UUID playerId, BMSavedData parent) {
+    public static SoulNetwork newEmpty(UUID playerId, SoulNetworkShard parent) {
         SoulNetwork soulNetwork = new SoulNetwork(playerId, 0);
         soulNetwork.parent = parent;
         return soulNetwork;
     }
 
-    protected SoulNetwork(UUID playerId, int essence) {
+    protected SoulNetwork(UUID playerId, long essence) {
         this.playerId = playerId;
-        this.currentEssence = essence;
+        this.essence = new AtomicLong(Math.max(0, essence));
     }
 
     @Override
@@ -42,22 +58,34 @@ public class SoulNetwork implements ISoulNetwork {
         return this.playerId;
     }
 
+    /**
+     * Gets the balance, clamped to the int range used by {@link ISoulNetwork}.
+     */
     @Override
     public int getCurrentEssence() {
-        return currentEssence;
+        return (int) Math.min(essence.get(), Integer.MAX_VALUE);
     }
 
-    private void setCurrentEssence(int currentEssence) {
-        this.currentEssence = currentEssence;
-        markDirty();
+    /**
+     * Gets the full balance.
+     */
+    public long getEssence() {
+        return essence.get();
     }
 
     private void markDirty() {
-        if (parent != null)
-            parent.setDirty();
+        if (parent != null && dirtyQueued.compareAndSet(false, true))
+            parent.queueDirty(this);
+    }
+
+    /**
+     * Clears the queued flag before the network is written, so later changes queue it again.
+     */
+    public void clearDirtyQueued() {
+        dirtyQueued.set(false);
     }
 
-    public static SoulNetwork fromNBT(CompoundTag tag, BMSavedData parent) {
+    public static SoulNetwork fromNBT(CompoundTag tag, SoulNetworkShard parent) {
         SoulNetwork soulNetwork = CODEC.decode(NbtOps.INSTANCE, tag).getOrThrow().getFirst();
 
         soulNetwork.parent = parent;
@@ -71,14 +99,22 @@ public class SoulNetwork implements ISoulNetwork {
 
     @Override
     public int add(SoulTicket ticket, int maximum) {
-        int curr = getCurrentEssence();
-        if (curr >= maximum)
-            return 0;
-
-        int newEss = Math.min(maximum, curr + ticket.getAmount());
-        setCurrentEssence(newEss);
-
-        return newEss - curr;
+        long amount = ticket.getAmount();
+        long curr;
+        long newEss;
+        do {
+            curr = essence.get();
+            if (curr >= maximum)
+                return 0;
+            newEss = Math.min(maximum, curr + amount);
+        } while (!essence.compareAndSet(curr, newEss));
+
+        int added = (int) (newEss - curr);
+        if (added > 0)
+            totalAdded.add(added);
+        if (added != 0)
+            markDirty();
+        return added;
     }
 
     /**
@@ -92,8 +128,9 @@ public class SoulNetwork implements ISoulNetwork {
 
     @Override
     public int set(SoulTicket ticket, int maximum) {
-        int val = Math.min(maximum, ticket.getAmount());
-        setCurrentEssence(val);
+        int val = Math.max(0, Math.min(maximum, ticket.getAmount()));
+        if (essence.getAndSet(val) != val)
+            markDirty();
         return val;
     }
 
@@ -111,10 +148,45 @@ public class SoulNetwork implements ISoulNetwork {
         int amount = ticket.getAmount();
         if (amount <= 0) return 0;
 
-        int curr = getCurrentEssence();
-        int toRemove = Math.min(curr, amount);
-        setCurrentEssence(curr - toRemove);
-        return toRemove;
+        long curr;
+        long toRemove;
+        do {
+            curr = essence.get();
+            toRemove = Math.min(curr, amount);
+            if (toRemove <= 0)
+                return 0;
+        } while (!essence.compareAndSet(curr, curr - toRemove));
+
+        totalSyphoned.add(toRemove);
+        markDirty();
+        return (int) toRemove;
+    }
+
+    /**
+     * Gets the LP added to this network since it was loaded or its metrics were reset.
+     */
+    public long getTotalAdded() {
+        return totalAdded.sum();
+    }
+
+    /**
+     * Gets the LP syphoned from this network since it was loaded or its metrics were reset.
+     */
+    public long getTotalSyphoned() {
+        return totalSyphoned.sum();
+    }
+
+    /**
+     * Gets the number of seconds the throughput counters cover.
+     */
+    public double getMetricsSeconds() {
+        return (System.nanoTime() - metricsSince) / 1.0E9;
+    }
+
+    public void resetMetrics() {
+        totalAdded.reset();
+        totalSyphoned.reset();
+        metricsSince = System.nanoTime();
     }
 
     /**
@@ -0,0 +1,168 @@
+package com.breakinblocks.neovitae.common.datamap;
+
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.block.Block;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.registries.datamaps.DataMapsUpdatedEvent;
+import com.breakinblocks.neovitae.NeoVitae;
+import com.breakinblocks.neovitae.api.altar.rune.IAltarRuneType;
+import com.breakinblocks.neovitae.impl.AltarRuneRegistryImpl;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Dense snapshot of the {@code altar_rune_stats} datamap and the rune registry,
+ * indexed by block registry id.
+ *
+ * <p>Altar stat calculation reads one row per rune block instead of doing a holder
+ * lookup and a dozen {@code Optional} unwraps. Missing additive values are stored as
+ * {@code 0} and missing power values as {@code 1}, so callers can sum and multiply
+ * unconditionally.</p>
+ *
+ * <p>The snapshot is built lazily and dropped whenever the block datamaps are reloaded
+ * ({@code /reload} or a client sync) or a rune block is registered.</p>
+ */
+@EventBusSubscriber(modid = NeoVitae.MODID)
+public final class AltarRuneStatTable {
+
+    private static volatile AltarRuneStatTable instance = null;
+    private static volatile int generation = 0;
+
+    private final boolean[] hasStats;
+    private final double[] capacityMod;
+    private final double[] augmentedCapacityPower;
+    private final double[] consumptionMod;
+    private final double[] sacrificeMod;
+    private final double[] selfSacrificeMod;
+    private final double[] dislocationPower;
+    private final double[] orbCapacityMod;
+    private final int[] accelerationMod;
+    private final int[] chargeAmountMod;
+    private final boolean[] charging;
+    private final double[] efficiencyPower;
+    private final Map<IAltarRuneType, Integer>[] runes;
+
+    @SuppressWarnings("unchecked")
+    private AltarRuneStatTable(int size) {
+        hasStats = new boolean[size];
+        capacityMod = new double[size];
+        augmentedCapacityPower = new double[size];
+        consumptionMod = new double[size];
+        sacrificeMod = new double[size];
+        selfSacrificeMod = new double[size];
+        dislocationPower = new double[size];
+        orbCapacityMod = new double[size];
+        accelerationMod = new int[size];
+        chargeAmountMod = new int[size];
+        charging = new boolean[size];
+        efficiencyPower = new double[size];
+        runes = new Map[size];
+    }
+
+    /**
+     * Gets the current snapshot, building it if it was invalidated.
+     */
+    public static AltarRuneStatTable get() {
+        AltarRuneStatTable table = instance;
+        if (table == null) {
+            table = build();
+            instance = table;
+        }
+        return table;
+    }
+
+    /**
+     * Drops the current snapshot so the next {@link #get()} rebuilds it.
+     */
+    public static void invalidate() {
+        instance = null;
+        generation++;
+    }
+
+    /**
+     * Incremented on every invalidation, so altars know their computed stats may be stale.
+     */
+    public static int getGeneration() {
+        return generation;
+    }
+
+    @SubscribeEvent
+    public static void onDataMapsUpdated(DataMapsUpdatedEvent event) {
+        event.ifRegistry(Registries.BLOCK, registry -> invalidate());
+    }
+
+    private static AltarRuneStatTable build() {
+        Registry<Block> registry = BuiltInRegistries.BLOCK;
+        AltarRuneStatTable table = new AltarRuneStatTable(registry.size());
+
+        for (Map.Entry<ResourceKey<Block>, AltarRuneStats> entry : registry.getDataMap(BMDataMaps.ALTAR_RUNE_STATS).entrySet()) {
+            Block block = registry.get(entry.getKey());
+            if (block == null) {
+                continue;
+            }
+            int id = registry.getId(block);
+            AltarRuneStats stats = entry.getValue();
+            table.hasStats[id] = true;
+            table.capacityMod[id] = stats.getCapacityMod(0);
+            table.augmentedCapacityPower[id] = stats.getAugmentedCapacityPower(1.0);
+            table.consumptionMod[id] = stats.getConsumptionMod(0);
+            table.sacrificeMod[id] = stats.getSacrificeMod(0);
+            table.selfSacrificeMod[id] = stats.getSelfSacrificeMod(0);
+            table.dislocationPower[id] = stats.getDislocationPower(1.0);
+            table.orbCapacityMod[id] = stats.getOrbCapacityMod(0);
+            table.accelerationMod[id] = stats.getAccelerationMod(0);
+            table.chargeAmountMod[id] = stats.getChargeAmountMod(0);
+            table.charging[id] = stats.chargeAmountMod().isPresent();
+            table.efficiencyPower[id] = stats.getEfficiencyPower(1.0);
+        }
+
+        for (Map.Entry<Block, Map<IAltarRuneType, Integer>> entry : AltarRuneRegistryImpl.INSTANCE.getAllBlockAssociations().entrySet()) {
+            int id = registry.getId(entry.getKey());
+            if (id >= 0 && id < table.runes.length && !entry.getValue().isEmpty()) {
+                table.runes[id] = entry.getValue();
+            }
+        }
+
+        return table;
+    }
+
+    /**
+     * Gets the row index for a block, or -1 if it is not in the table.
+     */
+    public int indexOf(Block block) {
+        int id = BuiltInRegistries.BLOCK.getId(block);
+        return id >= 0 && id < hasStats.length ? id : -1;
+    }
+
+    /**
+     * Whether the block at this row has an {@code altar_rune_stats} entry.
+     */
+    public boolean hasStats(int id) {
+        return hasStats[id];
+    }
+
+    /**
+     * Gets the rune types and amounts registered for the block at this row.
+     */
+    public Map<IAltarRuneType, Integer> getRunes(int id) {
+        Map<IAltarRuneType, Integer> blockRunes = runes[id];
+        return blockRunes != null ? blockRunes : Collections.emptyMap();
+    }
+
+    public double capacityMod(int id) { return capacityMod[id]; }
+    public double augmentedCapacityPower(int id) { return augmentedCapacityPower[id]; }
+    public double consumptionMod(int id) { return consumptionMod[id]; }
+    public double sacrificeMod(int id) { return sacrificeMod[id]; }
+    public double selfSacrificeMod(int id) { return selfSacrificeMod[id]; }
+    public double dislocationPower(int id) { return dislocationPower[id]; }
+    public double orbCapacityMod(int id) { return orbCapacityMod[id]; }
+    public int accelerationMod(int id) { return accelerationMod[id]; }
+    public int chargeAmountMod(int id) { return chargeAmountMod[id]; }
+    public boolean isCharging(int id) { return charging[id]; }
+    public double efficiencyPower(int id) { return efficiencyPower[id]; }
+}
@@ -23,6 +23,19 @@ public class DemonWillGaugeItem extends Item {
         super(new Properties().stacksTo(1));
     }
 
+    /**
+     * Checks if a player carries a gauge anywhere in their inventory, which enables the HUD
+     * and will aura syncing for them.
+     */
+    public static boolean hasGauge(Player player) {
+        for (int i = 0; i < player.getInventory().getContainerSize(); i++) {
+            if (player.getInventory().getItem(i).getItem() instanceof DemonWillGaugeItem) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void appendHoverText(ItemStack stack, TooltipContext context, List<Component> tooltip, TooltipFlag flag) {
         super.appendHoverText(stack, context, tooltip, flag);
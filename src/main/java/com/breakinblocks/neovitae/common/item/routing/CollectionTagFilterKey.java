@@ -53,4 +53,8 @@ public class CollectionTagFilterKey implements IFilterKey {
     public boolean isEmpty() {
         return count == 0;
     }
+
+    public List<TagKey<Item>> getItemTags() {
+        return itemTags;
+    }
 }
@@ -5,6 +5,7 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.neoforged.neoforge.items.IItemHandler;
 import org.apache.commons.lang3.tuple.Pair;
+import com.breakinblocks.neovitae.common.routing.CompiledItemFilter;
 import com.breakinblocks.neovitae.common.routing.IItemFilter;
 
 import java.util.List;
@@ -24,6 +25,13 @@ public interface IItemFilterProvider extends IRoutingFilterProvider {
      */
     IItemFilter getOutputItemFilter(ItemStack stack, BlockEntity tile, IItemHandler handler);
 
+    /**
+     * Compiles the filter stack into an immutable matcher that routing nodes can keep
+     * until the stack's data components change.
+     * @param isFilterOutput True to use output amounts (an amount of 0 means unlimited)
+     */
+    CompiledItemFilter compileItemFilter(ItemStack stack, boolean isFilterOutput);
+
     /**
      * Gets an uninitialized filter (for filters that only check stacks without inventory context).
      */
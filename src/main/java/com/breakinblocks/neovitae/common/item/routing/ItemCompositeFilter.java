@@ -9,13 +9,12 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.TooltipFlag;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.entity.BlockEntity;
-import net.neoforged.neoforge.items.IItemHandler;
 import com.breakinblocks.neovitae.common.datacomponent.BMDataComponents;
 import com.breakinblocks.neovitae.common.datacomponent.FilterInventory;
 import com.breakinblocks.neovitae.common.datacomponent.NestedFilterInventory;
 import com.breakinblocks.neovitae.common.routing.BasicItemFilter;
 import com.breakinblocks.neovitae.common.routing.BlacklistItemFilter;
+import com.breakinblocks.neovitae.common.routing.CompiledItemFilter;
 import com.breakinblocks.neovitae.common.routing.IItemFilter;
 import com.breakinblocks.neovitae.util.GhostItemHelper;
 
@@ -97,49 +96,7 @@ public class ItemCompositeFilter extends ItemRouterFilter implements ICompositeI
     }
 
     @Override
-    public IItemFilter getInputItemFilter(ItemStack filterStack, BlockEntity tile, IItemHandler handler) {
-        IItemFilter testFilter = getFilterTypeFromConfig(filterStack);
-
-        List<IFilterKey> filteredList = new ArrayList<>();
-        FilterInventory inv = getFilterInventory(filterStack);
-
-        List<ItemStack> nestedList = getNestedFilters(filterStack);
-        for (int i = 0; i < INVENTORY_SIZE; i++) {
-            ItemStack stack = inv.getItem(i);
-            if (stack.isEmpty()) {
-                continue;
-            }
-
-            int amount = GhostItemHelper.getItemGhostAmount(stack);
-            ItemStack ghostStack = GhostItemHelper.getSingleStackFromGhost(stack);
-
-            // Create a composite key that combines all nested filter keys
-            CompositeFilterKey compositeKey = new CompositeFilterKey(amount);
-
-            // Add the basic filter key for this ghost item
-            compositeKey.addFilterKey(new BasicFilterKey(ghostStack, amount));
-
-            // Add filter keys from all nested filters
-            for (ItemStack nestedStack : nestedList) {
-                if (nestedStack.getItem() instanceof INestableItemFilterProvider nestedFilter) {
-                    IFilterKey nestedKey = nestedFilter.getFilterKey(nestedStack, i, ghostStack, amount);
-                    if (nestedKey != null) {
-                        compositeKey.addFilterKey(nestedKey);
-                    }
-                }
-            }
-
-            filteredList.add(compositeKey);
-        }
-
-        testFilter.initializeFilter(filteredList, tile, handler, false);
-        return testFilter;
-    }
-
-    @Override
-    public IItemFilter getOutputItemFilter(ItemStack filterStack, BlockEntity tile, IItemHandler handler) {
-        IItemFilter testFilter = getFilterTypeFromConfig(filterStack);
-
+    public CompiledItemFilter compileItemFilter(ItemStack filterStack, boolean isFilterOutput) {
         List<IFilterKey> filteredList = new ArrayList<>();
         FilterInventory inv = getFilterInventory(filterStack);
 
@@ -152,7 +109,7 @@ public class ItemCompositeFilter extends ItemRouterFilter implements ICompositeI
 
             int amount = GhostItemHelper.getItemGhostAmount(stack);
             ItemStack ghostStack = GhostItemHelper.getSingleStackFromGhost(stack);
-            if (amount == 0) {
+            if (isFilterOutput && amount == 0) {
                 amount = Integer.MAX_VALUE;
             }
 
@@ -175,8 +132,7 @@ public class ItemCompositeFilter extends ItemRouterFilter implements ICompositeI
             filteredList.add(compositeKey);
         }
 
-        testFilter.initializeFilter(filteredList, tile, handler, true);
-        return testFilter;
+        return new CompiledItemFilter(getBlacklistState(filterStack) == 1, filteredList);
     }
 
     protected IItemFilter getFilterTypeFromConfig(ItemStack filterStack) {
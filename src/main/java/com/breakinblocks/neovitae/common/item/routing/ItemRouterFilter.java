@@ -20,6 +20,7 @@ import com.breakinblocks.neovitae.common.datacomponent.FilterInventory;
 import com.breakinblocks.neovitae.common.menu.FilterMenu;
 import com.breakinblocks.neovitae.common.routing.BasicItemFilter;
 import com.breakinblocks.neovitae.common.routing.BlacklistItemFilter;
+import com.breakinblocks.neovitae.common.routing.CompiledItemFilter;
 import com.breakinblocks.neovitae.common.routing.IItemFilter;
 import com.breakinblocks.neovitae.util.GhostItemHelper;
 
@@ -109,18 +110,18 @@ public class ItemRouterFilter extends Item implements MenuProvider, IItemFilterP
 
     @Override
     public IItemFilter getInputItemFilter(ItemStack filterStack, BlockEntity tile, IItemHandler handler) {
-        IItemFilter testFilter = getFilterTypeFromConfig(filterStack);
-        List<IFilterKey> filteredList = buildFilterList(filterStack);
-        testFilter.initializeFilter(filteredList, tile, handler, false);
-        return testFilter;
+        return compileItemFilter(filterStack, false).createFilter(tile, handler, null, false);
     }
 
     @Override
     public IItemFilter getOutputItemFilter(ItemStack filterStack, BlockEntity tile, IItemHandler handler) {
-        IItemFilter testFilter = getFilterTypeFromConfig(filterStack);
-        List<IFilterKey> filteredList = buildFilterListForOutput(filterStack);
-        testFilter.initializeFilter(filteredList, tile, handler, true);
-        return testFilter;
+        return compileItemFilter(filterStack, true).createFilter(tile, handler, null, true);
+    }
+
+    @Override
+    public CompiledItemFilter compileItemFilter(ItemStack filterStack, boolean isFilterOutput) {
+        List<IFilterKey> filteredList = isFilterOutput ? buildFilterListForOutput(filterStack) : buildFilterList(filterStack);
+        return new CompiledItemFilter(getBlacklistState(filterStack) == 1, filteredList);
     }
 
     protected List<IFilterKey> buildFilterList(ItemStack filterStack) {
@@ -137,7 +138,9 @@ public class ItemRouterFilter extends Item implements MenuProvider, IItemFilterP
             ItemStack ghostStack = GhostItemHelper.getSingleStackFromGhost(stack);
 
             IFilterKey key = getFilterKey(filterStack, i, ghostStack, amount);
-            filteredList.add(key);
+            if (key != null) {
+                filteredList.add(key);
+            }
         }
 
         return filteredList;
@@ -160,7 +163,9 @@ public class ItemRouterFilter extends Item implements MenuProvider, IItemFilterP
             }
 
             IFilterKey key = getFilterKey(filterStack, i, ghostStack, amount);
-            filteredList.add(key);
+            if (key != null) {
+                filteredList.add(key);
+            }
         }
 
         return filteredList;
@@ -0,0 +1,76 @@
+package com.breakinblocks.neovitae.common.living;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
+import net.minecraft.world.damagesource.DamageSource;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.entity.projectile.Projectile;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.storage.loot.LootContext;
+
+import javax.annotation.Nullable;
+import java.util.function.IntFunction;
+
+/**
+ * Loot context shared by every upgrade processing a single event.
+ *
+ * <p>Contexts are built lazily, so upgrades without effects for the event never build one.
+ * The upgrade level is a required context parameter, but only conditions that read it
+ * (see {@link LivingEffectPipeline}) need a context for their own level; everything else
+ * reuses the first context built for the event.</p>
+ */
+public final class LivingEffectContext {
+    private final IntFunction<LootContext> factory;
+    @Nullable
+    private LootContext shared;
+    private int sharedLevel;
+    @Nullable
+    private Int2ObjectArrayMap<LootContext> byLevel;
+
+    private LivingEffectContext(IntFunction<LootContext> factory) {
+        this.factory = factory;
+    }
+
+    public static LivingEffectContext damageBased(Entity entity, DamageSource damageSource) {
+        return new LivingEffectContext(level -> LivingContextParamSets.damageBased(entity, damageSource, level));
+    }
+
+    public static LivingEffectContext tick(Player player) {
+        return new LivingEffectContext(level -> LivingContextParamSets.tick(player, level));
+    }
+
+    public static LivingEffectContext breakBlock(Player player, BlockState state, @Nullable ItemStack toolStack) {
+        return new LivingEffectContext(level -> LivingContextParamSets.breakBlock(player, state, toolStack, level));
+    }
+
+    public static LivingEffectContext projectile(Player player, Projectile projectile) {
+        return new LivingEffectContext(level -> LivingContextParamSets.projectile(player, projectile, level));
+    }
+
+    /**
+     * Gets a context for an upgrade level.
+     *
+     * @param level The upgrade level
+     * @param levelDependent Whether the caller reads the level parameter from the context
+     */
+    public LootContext get(int level, boolean levelDependent) {
+        if (shared == null) {
+            shared = factory.apply(level);
+            sharedLevel = level;
+        }
+        if (!levelDependent || level == sharedLevel) {
+            return shared;
+        }
+
+        if (byLevel == null) {
+            byLevel = new Int2ObjectArrayMap<>();
+        }
+        LootContext context = byLevel.get(level);
+        if (context == null) {
+            context = factory.apply(level);
+            byLevel.put(level, context);
+        }
+        return context;
+    }
+}
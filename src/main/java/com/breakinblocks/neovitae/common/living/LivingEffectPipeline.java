@@ -0,0 +1,124 @@
+package com.breakinblocks.neovitae.common.living;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.core.Registry;
+import net.minecraft.core.component.DataComponentType;
+import net.minecraft.core.component.TypedDataComponent;
+import net.minecraft.util.ProblemReporter;
+import net.minecraft.world.level.storage.loot.ValidationContext;
+import net.minecraft.world.level.storage.loot.parameters.LootContextParamSet;
+import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
+import net.minecraft.world.level.storage.loot.predicates.LootItemCondition;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.server.ServerStartingEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import com.breakinblocks.neovitae.NeoVitae;
+import com.breakinblocks.neovitae.common.living.effects.ConditionalEffect;
+import com.breakinblocks.neovitae.common.registry.BMRegistries;
+
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * Flattened form of a {@link LivingUpgrade}'s conditional effect lists.
+ *
+ * <p>Each list is turned into an array of steps once, when the server loads its living upgrade
+ * registry. Effects without requirements are marked unconditional, and each condition records
+ * whether it reads the upgrade level, so {@link LivingEffectContext} can share one loot context
+ * between all other steps of an event. Server thread only.</p>
+ */
+@EventBusSubscriber(modid = NeoVitae.MODID)
+public final class LivingEffectPipeline {
+    private static final Step<?>[] NO_STEPS = new Step<?>[0];
+    // Every parameter the living context sets provide, except the upgrade level
+    private static final LootContextParamSet WITHOUT_LEVEL = LootContextParamSet.builder()
+            .optional(LootContextParams.THIS_ENTITY)
+            .optional(LootContextParams.ORIGIN)
+            .optional(LootContextParams.DAMAGE_SOURCE)
+            .optional(LootContextParams.ATTACKING_ENTITY)
+            .optional(LootContextParams.DIRECT_ATTACKING_ENTITY)
+            .optional(LootContextParams.BLOCK_STATE)
+            .optional(LootContextParams.TOOL)
+            .build();
+    private static final Reference2ObjectOpenHashMap<LivingUpgrade, LivingEffectPipeline> COMPILED = new Reference2ObjectOpenHashMap<>();
+
+    private final Reference2ObjectOpenHashMap<DataComponentType<?>, Step<?>[]> steps = new Reference2ObjectOpenHashMap<>();
+
+    /**
+     * One effect of a conditional effect list.
+     *
+     * @param condition The requirement, or null if the effect always applies
+     * @param levelDependent Whether the requirement reads the upgrade level
+     */
+    public record Step<T>(T effect, @Nullable LootItemCondition condition, boolean levelDependent) {
+        public boolean matches(LivingEffectContext context, int level) {
+            return condition == null || condition.test(context.get(level, levelDependent));
+        }
+    }
+
+    private LivingEffectPipeline(LivingUpgrade upgrade) {
+        for (TypedDataComponent<?> component : upgrade.effects()) {
+            if (!(component.value() instanceof List<?> list) || list.isEmpty() || !(list.get(0) instanceof ConditionalEffect<?>)) {
+                continue;
+            }
+
+            Step<?>[] compiled = new Step<?>[list.size()];
+            for (int i = 0; i < compiled.length; i++) {
+                ConditionalEffect<?> effect = (ConditionalEffect<?>) list.get(i);
+                LootItemCondition condition = effect.requirements().orElse(null);
+                boolean levelDependent = condition != null && readsLevel(condition);
+                compiled[i] = new Step<>(effect.effect(), condition, levelDependent);
+            }
+            steps.put(component.type(), compiled);
+        }
+    }
+
+    /**
+     * Whether a condition may read the upgrade level.
+     *
+     * <p>Composite and inverted conditions do not report the parameters of their terms, but
+     * validation walks into them and flags every term reading a parameter the set lacks.
+     * Anything else validation cannot vouch for, such as a condition reference, counts as
+     * reading the level.</p>
+     */
+    private static boolean readsLevel(LootItemCondition condition) {
+        ProblemReporter.Collector problems = new ProblemReporter.Collector();
+        condition.validate(new ValidationContext(problems, WITHOUT_LEVEL));
+        return !problems.get().isEmpty();
+    }
+
+    /**
+     * Gets the compiled pipeline of an upgrade, compiling it on first use.
+     */
+    public static LivingEffectPipeline of(LivingUpgrade upgrade) {
+        LivingEffectPipeline pipeline = COMPILED.get(upgrade);
+        if (pipeline == null) {
+            pipeline = new LivingEffectPipeline(upgrade);
+            COMPILED.put(upgrade, pipeline);
+        }
+        return pipeline;
+    }
+
+    /**
+     * Gets the steps compiled from a conditional effect list, in list order.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Step<T>[] get(DataComponentType<List<ConditionalEffect<T>>> type) {
+        return (Step<T>[]) steps.getOrDefault(type, NO_STEPS);
+    }
+
+    @SubscribeEvent
+    public static void onServerStarting(ServerStartingEvent event) {
+        COMPILED.clear();
+        Registry<LivingUpgrade> registry = event.getServer().registryAccess().registryOrThrow(BMRegistries.Keys.LIVING_UPGRADES);
+        for (LivingUpgrade upgrade : registry) {
+            of(upgrade);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        COMPILED.clear();
+    }
+}
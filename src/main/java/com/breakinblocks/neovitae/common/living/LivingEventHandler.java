@@ -208,6 +208,7 @@ public class LivingEventHandler {
         if (!(event.getEntity() instanceof Player player)) {
             return;
         }
+        LivingHelper.invalidateSnapshot(player);
 
         ItemStack fromStack = event.getFrom();
         ItemStack toStack = event.getTo();
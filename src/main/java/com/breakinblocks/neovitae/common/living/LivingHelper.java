@@ -22,6 +22,7 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.neoforged.neoforge.common.NeoForge;
 import org.apache.commons.lang3.mutable.MutableFloat;
 import com.breakinblocks.neovitae.NeoVitae;
+import com.breakinblocks.neovitae.common.dataattachment.BMDataAttachments;
 import com.breakinblocks.neovitae.common.datacomponent.BMDataComponents;
 import com.breakinblocks.neovitae.common.datacomponent.LivingStats;
 import com.breakinblocks.neovitae.common.datacomponent.UpgradeLimits;
@@ -40,7 +41,30 @@ import java.util.function.BiConsumer;
 public class LivingHelper {
     public record UpgradeInstance(Holder<LivingUpgrade> upgrade, int level) {}
 
+    /**
+     * Gets the player's resolved living armour state, rebuilding it if their armour changed.
+     */
+    public static LivingSnapshot getSnapshot(Player player) {
+        LivingSnapshot snapshot = player.getData(BMDataAttachments.LIVING_SNAPSHOT);
+        if (!snapshot.isCurrent(player)) {
+            snapshot = LivingSnapshot.build(player);
+            player.setData(BMDataAttachments.LIVING_SNAPSHOT, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Drops the player's cached living armour state so it is rebuilt on next use.
+     */
+    public static void invalidateSnapshot(Player player) {
+        player.removeData(BMDataAttachments.LIVING_SNAPSHOT);
+    }
+
     public static boolean hasFullSet(Player player) {
+        return getSnapshot(player).hasFullSet();
+    }
+
+    static boolean computeFullSet(Player player) {
         ItemStack chestStack = getChest(player);
         TagKey<Item> set = chestStack.get(BMDataComponents.REQUIRED_SET);
         if (set == null) {
@@ -81,7 +105,7 @@ public class LivingHelper {
     }
 
     public static boolean has(Player player, DataComponentType<?> type) {
-        return has(getChest(player), type);
+        return getSnapshot(player).has(type);
     }
 
     public static int getLevel(ItemStack stack, DataComponentType<?> type) {
@@ -95,11 +119,11 @@ public class LivingHelper {
     }
 
     public static int getLevel(Player player, DataComponentType<?> type) {
-        return getLevel(getChest(player), type);
+        return getSnapshot(player).getLevel(type);
     }
 
 	public static List<UpgradeInstance> getUpgrades(Player player) {
-		return getUpgrades(getChest(player));
+		return getSnapshot(player).upgrades();
 	}
 
 	public static List<UpgradeInstance> getUpgrades(ItemStack stack) {
@@ -117,7 +141,9 @@ public class LivingHelper {
 	}
 
     public static void runIterationOnPlayer(Player player, BiConsumer<Holder<LivingUpgrade>, Integer> visitor) {
-        runIterationOnItem(getChest(player), visitor);
+        for (UpgradeInstance instance : getSnapshot(player).upgrades()) {
+            visitor.accept(instance.upgrade(), instance.level());
+        }
     }
 
     public static final Object2FloatOpenHashMap<Holder<LivingUpgrade>> EMPTY_UPGRADE_MAP = new Object2FloatOpenHashMap<>();
@@ -157,16 +183,18 @@ public class LivingHelper {
 
     public static float modifyKnockback(Player player, LivingEntity victim, DamageSource damageSource, float knockback) {
 		float finalValue = knockback;
+		LivingEffectContext context = LivingEffectContext.damageBased(victim, damageSource);
 		for (UpgradeInstance instance : getUpgrades(player)) {
-			finalValue = instance.upgrade().value().modifyKnockback(instance.level(), victim, damageSource, finalValue);
+			finalValue = instance.upgrade().value().modifyKnockback(instance.level(), context, finalValue);
 		}
 		return finalValue;
     }
 
     public static int modifyExperience(Player player, int startingValue) {
 		float finalValue = startingValue;
+		LivingEffectContext context = LivingEffectContext.tick(player);
 		for (UpgradeInstance instance : getUpgrades(player)) {
-			finalValue = instance.upgrade().value().modifyExperience(instance.level(), player, finalValue);
+			finalValue = instance.upgrade().value().modifyExperience(instance.level(), context, finalValue);
 		}
 
 		float mod = finalValue % 1;
@@ -176,46 +204,64 @@ public class LivingHelper {
 
     public static float modifyHealing(Player player, float amount) {
 		float finalValue = amount;
+		LivingEffectContext context = LivingEffectContext.tick(player);
 		for (UpgradeInstance instance : getUpgrades(player)) {
-			finalValue = instance.upgrade().value().modifyHealing(instance.level(), player, finalValue);
+			finalValue = instance.upgrade().value().modifyHealing(instance.level(), context, finalValue);
 		}
 		return finalValue;
     }
 
     public static float modifyDamageDealt(Player playerCauser, LivingEntity victim, DamageSource source, float originalDamage) {
 		float finalValue = originalDamage;
+		LivingEffectContext context = LivingEffectContext.damageBased(victim, source);
 		for (UpgradeInstance instance : getUpgrades(playerCauser)) {
-			finalValue = instance.upgrade().value().modifyDamageDealt(instance.level(), victim, source, finalValue);
+			finalValue = instance.upgrade().value().modifyDamageDealt(instance.level(), context, finalValue);
 		}
 		return finalValue;
     }
 
     public static float modifyDamageTaken(Player playerVictim, DamageSource source, float newDamage) {
 		float finalValue = newDamage;
+		LivingEffectContext context = LivingEffectContext.damageBased(playerVictim, source);
 		for (UpgradeInstance instance : getUpgrades(playerVictim)) {
-			finalValue = instance.upgrade().value().modifyDamageTaken(instance.level(), playerVictim, source, finalValue);
+			finalValue = instance.upgrade().value().modifyDamageTaken(instance.level(), context, finalValue);
 		}
 		return finalValue;
     }
 
     public static void reactToDamageDealt(Player playerCauser, LivingEntity victim, DamageSource source, float newDamage) {
-        runIterationOnPlayer(playerCauser, (holder, level) -> holder.value().reactToDamageDealt(level, victim, source, newDamage));
+        LivingEffectContext context = LivingEffectContext.damageBased(victim, source);
+        for (UpgradeInstance instance : getUpgrades(playerCauser)) {
+            instance.upgrade().value().reactToDamageDealt(instance.level(), context, newDamage);
+        }
     }
 
     public static void reactToDamageTaken(Player playerVictim, DamageSource source, float newDamage) {
-        runIterationOnPlayer(playerVictim, (holder, level) -> holder.value().reactToDamageTaken(level, playerVictim, source, newDamage));
+        LivingEffectContext context = LivingEffectContext.damageBased(playerVictim, source);
+        for (UpgradeInstance instance : getUpgrades(playerVictim)) {
+            instance.upgrade().value().reactToDamageTaken(instance.level(), context, newDamage);
+        }
     }
 
     public static void runBlockBroken(Player player, BlockState state) {
-        runIterationOnPlayer(player, (holder, level) -> holder.value().blockBroken(level, player, state));
+        LivingEffectContext context = LivingEffectContext.breakBlock(player, state, player.getMainHandItem());
+        for (UpgradeInstance instance : getUpgrades(player)) {
+            instance.upgrade().value().blockBroken(instance.level(), player, context);
+        }
     }
 
     public static void runTick(Player player) {
-        runIterationOnPlayer(player, (holder, level) -> holder.value().tick(level, player));
+        LivingEffectContext context = LivingEffectContext.tick(player);
+        for (UpgradeInstance instance : getUpgrades(player)) {
+            instance.upgrade().value().tick(instance.level(), player, context);
+        }
     }
 
     public static void runProjectile(Player player, Projectile projectile) {
-        runIterationOnPlayer(player, (holder, level) -> holder.value().modifyProjectile(level, player, projectile));
+        LivingEffectContext context = LivingEffectContext.projectile(player, projectile);
+        for (UpgradeInstance instance : getUpgrades(player)) {
+            instance.upgrade().value().modifyProjectile(instance.level(), projectile, context);
+        }
     }
 
     public static void getAttributes(ItemStack chestStack, ItemAttributeModifiers.Builder builder) {
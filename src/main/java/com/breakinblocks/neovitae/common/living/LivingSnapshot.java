@@ -0,0 +1,113 @@
+package com.breakinblocks.neovitae.common.living;
+
+import it.unimi.dsi.fastutil.objects.Object2FloatMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.core.Holder;
+import net.minecraft.core.component.DataComponentType;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import com.breakinblocks.neovitae.common.datacomponent.BMDataComponents;
+import com.breakinblocks.neovitae.common.datacomponent.LivingStats;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resolved living armour state of a player: whether the full set is worn, the upgrade levels
+ * of the chest plate, and the highest level at which each effect component is present.
+ *
+ * <p>Snapshots are immutable and kept per player by {@link LivingHelper#getSnapshot}. They are
+ * dropped when the player's armour changes, and rebuilt whenever a worn armour stack, or the
+ * chest plate's upgrade data or damage, is no longer the one the snapshot was built from.
+ * Upgrade data is only ever replaced, never mutated, so gaining XP always produces a new
+ * {@link LivingStats}.</p>
+ */
+public final class LivingSnapshot {
+    public static final LivingSnapshot EMPTY = new LivingSnapshot(
+            new ItemStack[]{ItemStack.EMPTY, ItemStack.EMPTY, ItemStack.EMPTY, ItemStack.EMPTY},
+            LivingStats.EMPTY, 0, false, Collections.emptyList(), new Reference2IntOpenHashMap<>());
+
+    private static final EquipmentSlot[] ARMOR_SLOTS = {EquipmentSlot.FEET, EquipmentSlot.LEGS, EquipmentSlot.CHEST, EquipmentSlot.HEAD};
+    private static final int CHEST_INDEX = 2;
+
+    // Worn armour stacks, by ARMOR_SLOTS index
+    private final ItemStack[] armor;
+    private final LivingStats stats;
+    private final int chestDamage;
+    private final boolean fullSet;
+    private final List<LivingHelper.UpgradeInstance> upgrades;
+    private final Reference2IntOpenHashMap<DataComponentType<?>> effectLevels;
+
+    private LivingSnapshot(ItemStack[] armor, LivingStats stats, int chestDamage, boolean fullSet,
+                           List<LivingHelper.UpgradeInstance> upgrades, Reference2IntOpenHashMap<DataComponentType<?>> effectLevels) {
+        this.armor = armor;
+        this.stats = stats;
+        this.chestDamage = chestDamage;
+        this.fullSet = fullSet;
+        this.upgrades = upgrades;
+        this.effectLevels = effectLevels;
+    }
+
+    static LivingSnapshot build(Player player) {
+        ItemStack[] armor = new ItemStack[ARMOR_SLOTS.length];
+        for (int i = 0; i < ARMOR_SLOTS.length; i++) {
+            armor[i] = player.getItemBySlot(ARMOR_SLOTS[i]);
+        }
+        ItemStack chest = armor[CHEST_INDEX];
+        LivingStats stats = chest.getOrDefault(BMDataComponents.UPGRADES, LivingStats.EMPTY);
+
+        List<LivingHelper.UpgradeInstance> upgrades = new ArrayList<>(stats.upgrades().size());
+        Reference2IntOpenHashMap<DataComponentType<?>> effectLevels = new Reference2IntOpenHashMap<>();
+        for (Object2FloatMap.Entry<Holder<LivingUpgrade>> entry : stats.upgrades().object2FloatEntrySet()) {
+            int level = LivingHelper.getLevelFromXp(entry.getKey(), entry.getFloatValue());
+            if (level < 1) {
+                continue;
+            }
+            upgrades.add(new LivingHelper.UpgradeInstance(entry.getKey(), level));
+            for (DataComponentType<?> type : entry.getKey().value().effects().keySet()) {
+                effectLevels.put(type, Math.max(effectLevels.getInt(type), level));
+            }
+        }
+
+        return new LivingSnapshot(armor, stats, chest.getDamageValue(), LivingHelper.computeFullSet(player),
+                Collections.unmodifiableList(upgrades), effectLevels);
+    }
+
+    /**
+     * Checks whether this snapshot still describes the armour the player is wearing.
+     */
+    boolean isCurrent(Player player) {
+        for (int i = 0; i < ARMOR_SLOTS.length; i++) {
+            if (player.getItemBySlot(ARMOR_SLOTS[i]) != armor[i]) {
+                return false;
+            }
+        }
+        ItemStack chest = armor[CHEST_INDEX];
+        return chest.getOrDefault(BMDataComponents.UPGRADES, LivingStats.EMPTY) == stats
+                && chest.getDamageValue() == chestDamage;
+    }
+
+    public boolean hasFullSet() {
+        return fullSet;
+    }
+
+    /**
+     * Gets the chest plate's upgrades that are at least level 1.
+     */
+    public List<LivingHelper.UpgradeInstance> upgrades() {
+        return upgrades;
+    }
+
+    public boolean has(DataComponentType<?> type) {
+        return effectLevels.containsKey(type);
+    }
+
+    /**
+     * Gets the highest level of the upgrades providing an effect component, or 0 if none do.
+     */
+    public int getLevel(DataComponentType<?> type) {
+        return effectLevels.getInt(type);
+    }
+}
@@ -15,6 +15,7 @@ import net.minecraft.resources.ResourceKey;
 import net.minecraft.util.Unit;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.damagesource.DamageSource;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EquipmentSlotGroup;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.ai.attributes.Attribute;
@@ -52,47 +53,38 @@ public record LivingUpgrade(Levels levels, DataComponentMap effects) {
 
     public static final Codec<Holder<LivingUpgrade>> HOLDER_CODEC = RegistryFixedCodec.create(BMRegistries.Keys.LIVING_UPGRADES);
 	
-	private float applyDamageFloatEffects(DataComponentType<List<ConditionalEffect<LivingValueEffect>>> type, int level, LivingEntity victim, DamageSource source, float initialValue) {
-		LootContext context = LivingContextParamSets.damageBased(victim, source, level);
+	private float applyFloatEffects(DataComponentType<List<ConditionalEffect<LivingValueEffect>>> type, int level, LivingEffectContext context, float initialValue) {
 		float currentValue = initialValue;
-		List<ConditionalEffect<LivingValueEffect>> effects = getEffects(type);
-		for (ConditionalEffect<LivingValueEffect> conditionalEffect : effects) {
-			if (conditionalEffect.matches(context)) {
-				currentValue = conditionalEffect.effect().process(level, context, currentValue);
+		for (LivingEffectPipeline.Step<LivingValueEffect> step : LivingEffectPipeline.of(this).get(type)) {
+			if (step.matches(context, level)) {
+				currentValue = step.effect().process(level, context.get(level, false), currentValue);
 			}
 		}
 		return currentValue;
 	}
 
-	private float applyFloatEffects(DataComponentType<List<ConditionalEffect<LivingValueEffect>>> type, int level, Player player, float initialValue) {
-		LootContext context = LivingContextParamSets.tick(player, level);
-		float currentValue = initialValue;
-		List<ConditionalEffect<LivingValueEffect>> effects = getEffects(type);
-		for (ConditionalEffect<LivingValueEffect> conditionalEffect : effects) {
-			if (conditionalEffect.matches(context)) {
-				currentValue = conditionalEffect.effect().process(level, context, currentValue);
+	private void applyEntityEffects(DataComponentType<List<ConditionalEffect<LivingEntityEffect>>> type, int level, LivingEffectContext context, Entity target) {
+		for (LivingEffectPipeline.Step<LivingEntityEffect> step : LivingEffectPipeline.of(this).get(type)) {
+			if (step.matches(context, level)) {
+				step.effect().apply(level, target);
 			}
 		}
-		return currentValue;
 	}
 
-	private void applyDamageReaction(DataComponentType<List<ConditionalEffect<LivingValueEffect>>> type, int level, LivingEntity victim, DamageSource source, float damage) {
-		LootContext context = LivingContextParamSets.damageBased(victim, source, level);
-		List<ConditionalEffect<LivingValueEffect>> effects = getEffects(type);
-		for (ConditionalEffect<LivingValueEffect> conditionalEffect : effects) {
-			if (conditionalEffect.matches(context)) {
-				// We don't care about the return value, just that it processes.
-				conditionalEffect.effect().process(level, context, damage);
-			}
-		}
+	public float modifyKnockback(Integer level, LivingEntity victim, DamageSource source, float initialValue) {
+		return modifyKnockback(level, LivingEffectContext.damageBased(victim, source), initialValue);
 	}
 
-	public float modifyKnockback(Integer level, LivingEntity victim, DamageSource source, float initialValue) {
-		return applyDamageFloatEffects(LivingEffectComponents.KNOCKBACK.get(), level, victim, source, initialValue);
+	public float modifyKnockback(int level, LivingEffectContext context, float initialValue) {
+		return applyFloatEffects(LivingEffectComponents.KNOCKBACK.get(), level, context, initialValue);
 	}
 
 	public float modifyExperience(Integer level, Player player, float initialValue) {
-		return applyFloatEffects(LivingEffectComponents.EXP_PICKUP.get(), level, player, initialValue);
+		return modifyExperience(level, LivingEffectContext.tick(player), initialValue);
+	}
+
+	public float modifyExperience(int level, LivingEffectContext context, float initialValue) {
+		return applyFloatEffects(LivingEffectComponents.EXP_PICKUP.get(), level, context, initialValue);
 	}
 
     public static <T> void applyEffects(List<ConditionalEffect<T>> effects, LootContext context, Consumer<T> applier) {
@@ -104,47 +96,68 @@ public record LivingUpgrade(Levels levels, DataComponentMap effects) {
     }
 
 	public float modifyHealing(Integer level, Player player, float initialValue) {
-		return applyFloatEffects(LivingEffectComponents.HEALING.get(), level, player, initialValue);
+		return modifyHealing(level, LivingEffectContext.tick(player), initialValue);
+	}
+
+	public float modifyHealing(int level, LivingEffectContext context, float initialValue) {
+		return applyFloatEffects(LivingEffectComponents.HEALING.get(), level, context, initialValue);
 	}
 
 	public float modifyDamageDealt(Integer level, LivingEntity victim, DamageSource source, float initialValue) {
-		return applyDamageFloatEffects(LivingEffectComponents.DEALING_DAMAGE.get(), level, victim, source, initialValue);
+		return modifyDamageDealt(level, LivingEffectContext.damageBased(victim, source), initialValue);
+	}
+
+	public float modifyDamageDealt(int level, LivingEffectContext context, float initialValue) {
+		return applyFloatEffects(LivingEffectComponents.DEALING_DAMAGE.get(), level, context, initialValue);
 	}
 
 	public float modifyDamageTaken(Integer level, LivingEntity victim, DamageSource source, float initialValue) {
-		return applyDamageFloatEffects(LivingEffectComponents.TAKING_DAMAGE.get(), level, victim, source, initialValue);
+		return modifyDamageTaken(level, LivingEffectContext.damageBased(victim, source), initialValue);
+	}
+
+	public float modifyDamageTaken(int level, LivingEffectContext context, float initialValue) {
+		return applyFloatEffects(LivingEffectComponents.TAKING_DAMAGE.get(), level, context, initialValue);
 	}
 
     public void reactToDamageDealt(Integer level, LivingEntity victim, DamageSource source, float damage) {
-		applyDamageReaction(LivingEffectComponents.DAMAGE_DEALT_EXP.get(), level, victim, source, damage);
+		reactToDamageDealt(level, LivingEffectContext.damageBased(victim, source), damage);
+    }
+
+    public void reactToDamageDealt(int level, LivingEffectContext context, float damage) {
+		// We don't care about the return value, just that it processes.
+		applyFloatEffects(LivingEffectComponents.DAMAGE_DEALT_EXP.get(), level, context, damage);
     }
 
     public void reactToDamageTaken(Integer level, Player victim, DamageSource source, float damage) {
-		applyDamageReaction(LivingEffectComponents.DAMAGE_TAKEN_EXP.get(), level, victim, source, damage);
+		reactToDamageTaken(level, LivingEffectContext.damageBased(victim, source), damage);
+    }
+
+    public void reactToDamageTaken(int level, LivingEffectContext context, float damage) {
+		applyFloatEffects(LivingEffectComponents.DAMAGE_TAKEN_EXP.get(), level, context, damage);
     }
 
     public void blockBroken(Integer level, Player player, BlockState state) {
-        applyEffects(
-                getEffects(LivingEffectComponents.BREAK_BLOCK.get()),
-                LivingContextParamSets.breakBlock(player, state, player.getItemInHand(InteractionHand.MAIN_HAND), level),
-                effect -> effect.apply(level, player)
-        );
+        blockBroken(level, player, LivingEffectContext.breakBlock(player, state, player.getItemInHand(InteractionHand.MAIN_HAND)));
+    }
+
+    public void blockBroken(int level, Player player, LivingEffectContext context) {
+        applyEntityEffects(LivingEffectComponents.BREAK_BLOCK.get(), level, context, player);
     }
 
     public void tick(Integer level, Player player) {
-        applyEffects(
-                getEffects(LivingEffectComponents.TICK.get()),
-                LivingContextParamSets.tick(player, level),
-                effect -> effect.apply(level, player)
-        );
+        tick(level, player, LivingEffectContext.tick(player));
+    }
+
+    public void tick(int level, Player player, LivingEffectContext context) {
+        applyEntityEffects(LivingEffectComponents.TICK.get(), level, context, player);
     }
 
     public void modifyProjectile(Integer level, Player player, Projectile projectile) {
-        applyEffects(
-                getEffects(LivingEffectComponents.PROJECTILE_SHOT.get()),
-                LivingContextParamSets.projectile(player, projectile, level),
-                effect -> effect.apply(level, projectile)
-        );
+        modifyProjectile(level, projectile, LivingEffectContext.projectile(player, projectile));
+    }
+
+    public void modifyProjectile(int level, Projectile projectile, LivingEffectContext context) {
+        applyEntityEffects(LivingEffectComponents.PROJECTILE_SHOT.get(), level, context, projectile);
     }
 
     public void collectAttributes(Integer level, TriConsumer<Holder<Attribute>, AttributeModifier, EquipmentSlotGroup> consumer) {
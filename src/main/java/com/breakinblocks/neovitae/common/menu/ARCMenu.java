@@ -19,13 +19,13 @@ public class ARCMenu extends AbstractTileMenu<ARCTile> {
     public ARCMenu(int containerId, Inventory playerInventory, ARCTile tile) {
         super(BMMenus.ARC.get(), containerId, tile, TILE_SLOTS);
 
-        this.addSlot(new SlotItemHandler(ARCTile.getItemHandler(tile, null), ARCTile.INPUT_BUCKET_SLOT, 8, 18));
-        this.addSlot(new SlotItemHandler(ARCTile.getItemHandler(tile, null), ARCTile.OUTPUT_BUCKET_SLOT, 152, 90));
-        this.addSlot(new SlotItemHandler(ARCTile.getItemHandler(tile, null), ARCTile.TOOL_SLOT, 35, 54));
-        this.addSlot(new SlotItemHandler(ARCTile.getItemHandler(tile, null), ARCTile.INPUT_SLOT, 71, 18));
+        this.addSlot(new ARCSlot(tile, ARCTile.INPUT_BUCKET_SLOT, 8, 18));
+        this.addSlot(new ARCSlot(tile, ARCTile.OUTPUT_BUCKET_SLOT, 152, 90));
+        this.addSlot(new ARCSlot(tile, ARCTile.TOOL_SLOT, 35, 54));
+        this.addSlot(new ARCSlot(tile, ARCTile.INPUT_SLOT, 71, 18));
 
         for (int i = 0; i < ARCTile.NUM_OUTPUTS; i++) {
-            this.addSlot(new SlotItemHandler(ARCTile.getItemHandler(tile, null), ARCTile.OUTPUT_SLOT + i, 116, 18 + i * 18) {
+            this.addSlot(new ARCSlot(tile, ARCTile.OUTPUT_SLOT + i, 116, 18 + i * 18) {
                 @Override
                 public boolean mayPlace(ItemStack stack) {
                     return false;
@@ -64,6 +64,25 @@ public class ARCMenu extends AbstractTileMenu<ARCTile> {
         return true;
     }
 
+    /**
+     * Menu slots grow and shrink their stacks in place and then only call {@link #setChanged},
+     * so the tile is told directly instead of through its inventory.
+     */
+    private static class ARCSlot extends SlotItemHandler {
+        private final ARCTile tile;
+
+        ARCSlot(ARCTile tile, int index, int x, int y) {
+            super(ARCTile.getItemHandler(tile, null), index, x, y);
+            this.tile = tile;
+        }
+
+        @Override
+        public void setChanged() {
+            super.setChanged();
+            tile.onSlotChanged();
+        }
+    }
+
     @Override
     public boolean stillValid(Player player) {
         return AbstractContainerMenu.stillValid(ContainerLevelAccess.NULL, player, BMBlocks.ARC_BLOCK.block().get());
@@ -22,7 +22,7 @@ import com.breakinblocks.neovitae.will.WorldDemonWillHandler;
 public class BMPayloads {
 
     public static void register(RegisterPayloadHandlersEvent event) {
-        var registrar = event.registrar("1");
+        var registrar = event.registrar("2");
 
         // Client -> Server
         registrar.playToServer(
@@ -59,11 +59,13 @@ public class BMPayloads {
 
     private static void handleWillChunkSync(WillChunkSyncPayload payload, IPayloadContext context) {
         context.enqueueWork(() -> {
-            WorldDemonWillHandler.updateClientCache(
-                    payload.chunkX(),
-                    payload.chunkZ(),
-                    payload.toWillChunk()
-            );
+            for (int i = 0; i < payload.size(); i++) {
+                WorldDemonWillHandler.updateClientCache(
+                        payload.chunkX(i),
+                        payload.chunkZ(i),
+                        payload.toWillChunk(i)
+                );
+            }
         });
     }
 
@@ -3,66 +3,88 @@ package com.breakinblocks.neovitae.common.network;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.world.level.ChunkPos;
 import com.breakinblocks.neovitae.NeoVitae;
 import com.breakinblocks.neovitae.common.datacomponent.EnumWillType;
 import com.breakinblocks.neovitae.will.WillChunk;
 
 /**
  * Payload for syncing demon will aura data from server to client.
- * Sent when a player enters a chunk or when will amounts change.
+ * Carries the will of one or more chunks; sent in batches by {@link com.breakinblocks.neovitae.will.WillChunkSync}.
+ *
+ * <p>{@code amounts} holds {@link #TYPES_PER_CHUNK} values per chunk, in the order raw, corrosive,
+ * destructive, vengeful, steadfast.</p>
  */
-public record WillChunkSyncPayload(
-        int chunkX,
-        int chunkZ,
-        double rawWill,
-        double corrosiveWill,
-        double destructiveWill,
-        double vengefulWill,
-        double steadfastWill
-) implements CustomPacketPayload {
+public record WillChunkSyncPayload(long[] chunkKeys, double[] amounts) implements CustomPacketPayload {
+
+    public static final int TYPES_PER_CHUNK = 5;
+    private static final EnumWillType[] ORDER = {
+            EnumWillType.DEFAULT,
+            EnumWillType.CORROSIVE,
+            EnumWillType.DESTRUCTIVE,
+            EnumWillType.VENGEFUL,
+            EnumWillType.STEADFAST
+    };
 
     public static final Type<WillChunkSyncPayload> TYPE = new Type<>(NeoVitae.rl("will_chunk_sync"));
 
     public static final StreamCodec<FriendlyByteBuf, WillChunkSyncPayload> STREAM_CODEC = new StreamCodec<>() {
         @Override
         public WillChunkSyncPayload decode(FriendlyByteBuf buf) {
-            return new WillChunkSyncPayload(
-                    buf.readInt(),
-                    buf.readInt(),
-                    buf.readDouble(),
-                    buf.readDouble(),
-                    buf.readDouble(),
-                    buf.readDouble(),
-                    buf.readDouble()
-            );
+            int count = buf.readVarInt();
+            long[] chunkKeys = new long[count];
+            double[] amounts = new double[count * TYPES_PER_CHUNK];
+            for (int i = 0; i < count; i++) {
+                chunkKeys[i] = buf.readLong();
+                for (int j = 0; j < TYPES_PER_CHUNK; j++) {
+                    amounts[i * TYPES_PER_CHUNK + j] = buf.readDouble();
+                }
+            }
+            return new WillChunkSyncPayload(chunkKeys, amounts);
         }
 
         @Override
         public void encode(FriendlyByteBuf buf, WillChunkSyncPayload payload) {
-            buf.writeInt(payload.chunkX);
-            buf.writeInt(payload.chunkZ);
-            buf.writeDouble(payload.rawWill);
-            buf.writeDouble(payload.corrosiveWill);
-            buf.writeDouble(payload.destructiveWill);
-            buf.writeDouble(payload.vengefulWill);
-            buf.writeDouble(payload.steadfastWill);
+            buf.writeVarInt(payload.chunkKeys.length);
+            for (int i = 0; i < payload.chunkKeys.length; i++) {
+                buf.writeLong(payload.chunkKeys[i]);
+                for (int j = 0; j < TYPES_PER_CHUNK; j++) {
+                    buf.writeDouble(payload.amounts[i * TYPES_PER_CHUNK + j]);
+                }
+            }
         }
     };
 
     public static WillChunkSyncPayload fromWillChunk(int chunkX, int chunkZ, WillChunk willChunk) {
-        return new WillChunkSyncPayload(
-                chunkX,
-                chunkZ,
-                willChunk.getWill(EnumWillType.DEFAULT),
-                willChunk.getWill(EnumWillType.CORROSIVE),
-                willChunk.getWill(EnumWillType.DESTRUCTIVE),
-                willChunk.getWill(EnumWillType.VENGEFUL),
-                willChunk.getWill(EnumWillType.STEADFAST)
-        );
+        double[] amounts = new double[TYPES_PER_CHUNK];
+        writeAmounts(willChunk, amounts, 0);
+        return new WillChunkSyncPayload(new long[]{ChunkPos.asLong(chunkX, chunkZ)}, amounts);
+    }
+
+    /**
+     * Writes the will of a chunk into {@code amounts} at {@code offset}, in payload order.
+     */
+    public static void writeAmounts(WillChunk willChunk, double[] amounts, int offset) {
+        for (int j = 0; j < TYPES_PER_CHUNK; j++) {
+            amounts[offset + j] = willChunk.getWill(ORDER[j]);
+        }
+    }
+
+    public int size() {
+        return chunkKeys.length;
+    }
+
+    public int chunkX(int index) {
+        return ChunkPos.getX(chunkKeys[index]);
+    }
+
+    public int chunkZ(int index) {
+        return ChunkPos.getZ(chunkKeys[index]);
     }
 
-    public WillChunk toWillChunk() {
-        return new WillChunk(rawWill, corrosiveWill, destructiveWill, vengefulWill, steadfastWill);
+    public WillChunk toWillChunk(int index) {
+        int offset = index * TYPES_PER_CHUNK;
+        return new WillChunk(amounts[offset], amounts[offset + 1], amounts[offset + 2], amounts[offset + 3], amounts[offset + 4]);
     }
 
     @Override
@@ -0,0 +1,190 @@
+package com.breakinblocks.neovitae.common.recipe;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeInput;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.Level;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import com.breakinblocks.neovitae.NeoVitae;
+import com.breakinblocks.neovitae.common.recipe.alchemytable.AlchemyTableInput;
+import com.breakinblocks.neovitae.common.recipe.alchemytable.AlchemyTableRecipe;
+import com.breakinblocks.neovitae.common.recipe.flask.FlaskInput;
+import com.breakinblocks.neovitae.common.recipe.flask.FlaskRecipe;
+import com.breakinblocks.neovitae.common.recipe.forge.ForgeInput;
+import com.breakinblocks.neovitae.common.recipe.forge.ForgeRecipe;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Item-keyed index of a shapeless multi-input recipe type.
+ *
+ * <p>Every ingredient of a shapeless recipe has to be matched by one of the input stacks, so a
+ * recipe can only match when the input holds one of the items of its rarest ingredient (the one
+ * accepting the fewest items). Each recipe is listed under those items only, and a lookup just
+ * tests the recipes listed under the items actually present, in recipe manager order. Recipes
+ * without a simple (item-only) ingredient cannot be keyed this way and are always tested.</p>
+ *
+ * <p>The index is rebuilt lazily whenever the recipe manager is replaced (datapack reload) and
+ * dropped when tags are reloaded. Server thread only.</p>
+ */
+@EventBusSubscriber(modid = NeoVitae.MODID)
+public final class ShapelessRecipeIndex<I extends RecipeInput, R extends Recipe<I>> {
+
+    private static final List<ShapelessRecipeIndex<?, ?>> ALL = new ArrayList<>();
+
+    public static final ShapelessRecipeIndex<ForgeInput, ForgeRecipe> FORGE =
+            new ShapelessRecipeIndex<>(BMRecipes.SOUL_FORGE_TYPE, recipe -> recipe.ingredients, 4);
+    public static final ShapelessRecipeIndex<AlchemyTableInput, AlchemyTableRecipe> ALCHEMY_TABLE =
+            new ShapelessRecipeIndex<>(BMRecipes.ALCHEMY_TABLE_TYPE, AlchemyTableRecipe::getInput, AlchemyTableRecipe.MAX_INPUTS);
+    public static final ShapelessRecipeIndex<FlaskInput, FlaskRecipe> FLASK =
+            new ShapelessRecipeIndex<>(BMRecipes.FLASK_TYPE, FlaskRecipe::getInput, FlaskRecipe.MAX_INPUTS);
+
+    private final Supplier<RecipeType<R>> type;
+    private final Function<R, List<Ingredient>> ingredients;
+    // Input slots read through RecipeInput#getItem; some inputs only count non-empty stacks in size()
+    private final int slots;
+
+    @Nullable
+    private RecipeManager indexedManager = null;
+    private List<RecipeHolder<R>> recipes = List.of();
+    // Positions in recipes, ascending
+    private final Reference2ObjectOpenHashMap<Item, IntArrayList> byItem = new Reference2ObjectOpenHashMap<>();
+    private final IntArrayList unkeyed = new IntArrayList();
+
+    private ShapelessRecipeIndex(Supplier<RecipeType<R>> type, Function<R, List<Ingredient>> ingredients, int slots) {
+        this.type = type;
+        this.ingredients = ingredients;
+        this.slots = slots;
+        ALL.add(this);
+    }
+
+    /**
+     * Finds the first recipe matching an input, as {@link RecipeManager#getRecipeFor} would.
+     */
+    public Optional<RecipeHolder<R>> find(Level level, I input) {
+        IntArrayList candidates = getCandidates(level.getRecipeManager(), input);
+        for (int i = 0; i < candidates.size(); i++) {
+            RecipeHolder<R> holder = recipes.get(candidates.getInt(i));
+            if (holder.value().matches(input, level)) {
+                return Optional.of(holder);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Finds every recipe matching an input, in recipe manager order.
+     */
+    public List<RecipeHolder<R>> findAll(Level level, I input) {
+        IntArrayList candidates = getCandidates(level.getRecipeManager(), input);
+        List<RecipeHolder<R>> matches = new ArrayList<>(1);
+        for (int i = 0; i < candidates.size(); i++) {
+            RecipeHolder<R> holder = recipes.get(candidates.getInt(i));
+            if (holder.value().matches(input, level)) {
+                matches.add(holder);
+            }
+        }
+        return matches;
+    }
+
+    private IntArrayList getCandidates(RecipeManager manager, I input) {
+        if (indexedManager != manager) {
+            rebuild(manager);
+            indexedManager = manager;
+        }
+
+        IntArrayList candidates = new IntArrayList(unkeyed);
+        Item previous = null;
+        for (int slot = 0; slot < slots; slot++) {
+            ItemStack stack = input.getItem(slot);
+            if (stack.isEmpty() || stack.getItem() == previous) {
+                continue;
+            }
+            previous = stack.getItem();
+            IntArrayList listed = byItem.get(previous);
+            if (listed != null) {
+                candidates.addAll(listed);
+            }
+        }
+
+        // Back to recipe manager order, without the recipes listed under several present items
+        IntArrays.quickSort(candidates.elements(), 0, candidates.size());
+        int size = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            int candidate = candidates.getInt(i);
+            if (size == 0 || candidates.getInt(size - 1) != candidate) {
+                candidates.set(size++, candidate);
+            }
+        }
+        candidates.size(size);
+        return candidates;
+    }
+
+    private void rebuild(RecipeManager manager) {
+        byItem.clear();
+        unkeyed.clear();
+        recipes = manager.getAllRecipesFor(type.get());
+
+        for (int index = 0; index < recipes.size(); index++) {
+            Set<Item> rarest = null;
+            for (Ingredient ingredient : ingredients.apply(recipes.get(index).value())) {
+                // Custom ingredients may accept items they do not list
+                if (!ingredient.isSimple()) {
+                    continue;
+                }
+                Set<Item> items = new ReferenceOpenHashSet<>();
+                for (ItemStack option : ingredient.getItems()) {
+                    items.add(option.getItem());
+                }
+                if (!items.isEmpty() && (rarest == null || items.size() < rarest.size())) {
+                    rarest = items;
+                }
+            }
+
+            if (rarest == null) {
+                unkeyed.add(index);
+                continue;
+            }
+            for (Item item : rarest) {
+                byItem.computeIfAbsent(item, k -> new IntArrayList(1)).add(index);
+            }
+        }
+    }
+
+    private void clear() {
+        byItem.clear();
+        unkeyed.clear();
+        recipes = List.of();
+        indexedManager = null;
+    }
+
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        if (event.getUpdateCause() == TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD) {
+            ALL.forEach(ShapelessRecipeIndex::clear);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        ALL.forEach(ShapelessRecipeIndex::clear);
+    }
+}
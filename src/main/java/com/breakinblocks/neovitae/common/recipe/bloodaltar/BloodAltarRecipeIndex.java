@@ -0,0 +1,137 @@
+package com.breakinblocks.neovitae.common.recipe.bloodaltar;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.level.Level;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import com.breakinblocks.neovitae.NeoVitae;
+import com.breakinblocks.neovitae.api.recipe.BloodAltarInput;
+import com.breakinblocks.neovitae.api.recipe.BloodAltarRecipe;
+import com.breakinblocks.neovitae.common.recipe.BMRecipes;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Item-keyed index of Blood Altar recipes.
+ *
+ * <p>Each recipe with a simple (item-only) input ingredient is listed under every item that
+ * ingredient can match, so a lookup only tests the recipes that could accept the input item.
+ * Custom ingredients may accept items they do not list, so recipes using one are always
+ * tested, merged with the listed ones in recipe manager order. When every recipe is simple,
+ * the lowest altar tier that can craft each item is precomputed, so an altar holding a
+ * non-recipe item, or one below the required tier, is rejected without testing any recipe.</p>
+ *
+ * <p>The index is rebuilt lazily whenever the recipe manager is replaced (datapack reload) and
+ * dropped when tags are reloaded. Server thread only.</p>
+ */
+@EventBusSubscriber(modid = NeoVitae.MODID)
+public final class BloodAltarRecipeIndex {
+
+    private static final Entry NO_RECIPES = new Entry();
+
+    @Nullable
+    private static RecipeManager indexedManager = null;
+    private static List<RecipeHolder<BloodAltarRecipe>> recipes = List.of();
+    private static final Reference2ObjectOpenHashMap<Item, Entry> BY_ITEM = new Reference2ObjectOpenHashMap<>();
+    // Positions in recipes of recipes with a custom ingredient, ascending
+    private static final IntArrayList UNKEYED = new IntArrayList();
+
+    private BloodAltarRecipeIndex() {
+    }
+
+    private static final class Entry {
+        // Positions in recipes, ascending
+        private final IntArrayList candidates = new IntArrayList(1);
+        // Lowest tier any candidate accepts
+        private int minTier = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Finds the first Blood Altar recipe matching an input, as
+     * {@link RecipeManager#getRecipeFor} would.
+     */
+    public static Optional<RecipeHolder<BloodAltarRecipe>> find(Level level, BloodAltarInput input) {
+        ItemStack stack = input.getItem(0);
+        if (stack.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Entry entry = getIndex(level.getRecipeManager()).getOrDefault(stack.getItem(), NO_RECIPES);
+        if (UNKEYED.isEmpty() && input.getAltarTier() < entry.minTier) {
+            return Optional.empty();
+        }
+
+        // Merge the listed and the unkeyed recipes back into recipe manager order
+        IntArrayList listed = entry.candidates;
+        int i = 0;
+        int j = 0;
+        while (i < listed.size() || j < UNKEYED.size()) {
+            int next = j >= UNKEYED.size() || (i < listed.size() && listed.getInt(i) < UNKEYED.getInt(j))
+                    ? listed.getInt(i++)
+                    : UNKEYED.getInt(j++);
+            RecipeHolder<BloodAltarRecipe> holder = recipes.get(next);
+            if (holder.value().matches(input, level)) {
+                return Optional.of(holder);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Reference2ObjectOpenHashMap<Item, Entry> getIndex(RecipeManager manager) {
+        if (indexedManager != manager) {
+            rebuild(manager);
+            indexedManager = manager;
+        }
+        return BY_ITEM;
+    }
+
+    private static void rebuild(RecipeManager manager) {
+        BY_ITEM.clear();
+        UNKEYED.clear();
+        recipes = manager.getAllRecipesFor(BMRecipes.BLOOD_ALTAR_TYPE.get());
+        for (int index = 0; index < recipes.size(); index++) {
+            BloodAltarRecipe recipe = recipes.get(index).value();
+            if (!recipe.getInput().isSimple()) {
+                UNKEYED.add(index);
+                continue;
+            }
+            for (ItemStack option : recipe.getInput().getItems()) {
+                Entry entry = BY_ITEM.computeIfAbsent(option.getItem(), k -> new Entry());
+                // An ingredient can list several stacks of the same item
+                if (!entry.candidates.isEmpty() && entry.candidates.getInt(entry.candidates.size() - 1) == index) {
+                    continue;
+                }
+                entry.candidates.add(index);
+                entry.minTier = Math.min(entry.minTier, recipe.getMinTier());
+            }
+        }
+    }
+
+    private static void clear() {
+        BY_ITEM.clear();
+        UNKEYED.clear();
+        recipes = List.of();
+        indexedManager = null;
+    }
+
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        if (event.getUpdateCause() == TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD) {
+            clear();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        clear();
+    }
+}
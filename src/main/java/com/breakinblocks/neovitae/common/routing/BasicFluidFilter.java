@@ -1,7 +1,5 @@
 package com.breakinblocks.neovitae.common.routing;
 
-import net.minecraft.core.BlockPos;
-import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.neoforged.neoforge.fluids.FluidStack;
 import net.neoforged.neoforge.fluids.capability.IFluidHandler;
@@ -119,9 +117,7 @@ public class BasicFluidFilter implements IFluidFilter {
         }
 
         if (accessedTile != null) {
-            Level level = accessedTile.getLevel();
-            BlockPos pos = accessedTile.getBlockPos();
-            level.sendBlockUpdated(pos, level.getBlockState(pos), level.getBlockState(pos), 3);
+            RoutingUpdateBatch.markUpdated(accessedTile);
         }
 
         return remainderFluid.isEmpty() ? FluidStack.EMPTY : remainderFluid;
@@ -181,9 +177,7 @@ public class BasicFluidFilter implements IFluidFilter {
             }
 
             if (accessedTile != null) {
-                Level level = accessedTile.getLevel();
-                BlockPos pos = accessedTile.getBlockPos();
-                level.sendBlockUpdated(pos, level.getBlockState(pos), level.getBlockState(pos), 3);
+                RoutingUpdateBatch.markUpdated(accessedTile);
             }
 
             maxTransfer -= changeAmount;
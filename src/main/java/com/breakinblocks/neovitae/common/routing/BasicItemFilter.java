@@ -1,85 +1,73 @@
 package com.breakinblocks.neovitae.common.routing;
 
-import net.minecraft.core.BlockPos;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.neoforged.neoforge.items.IItemHandler;
 import com.breakinblocks.neovitae.common.item.routing.IFilterKey;
 import com.breakinblocks.neovitae.util.Utils;
 
-import java.util.Iterator;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Whitelist filter implementation.
  * As an output filter, it fills until the requested amount.
  * As an input filter, it only pulls until the requested amount.
+ *
+ * <p>Request counts are kept per key index of the {@link CompiledItemFilter}; a key
+ * leaves the request list (its bit is cleared from {@code activeMask}) once its count
+ * reaches zero.</p>
  */
 public class BasicItemFilter implements IItemFilter {
 
-    protected List<IFilterKey> requestList;
+    protected CompiledItemFilter compiledFilter;
+    protected int[] counts;
+    protected int activeMask;
     protected BlockEntity accessedTile;
     protected IItemHandler itemHandler;
 
     @Override
     public void initializeFilter(List<IFilterKey> filteredList, BlockEntity tile, IItemHandler itemHandler, boolean isFilterOutput) {
+        CompiledItemFilter compiled = new CompiledItemFilter(false, filteredList);
+        InventoryCountIndex countIndex = new InventoryCountIndex();
+        countIndex.update(compiled, tile, itemHandler);
+        initializeFilter(compiled, countIndex, tile, itemHandler, isFilterOutput);
+    }
+
+    @Override
+    public void initializeFilter(CompiledItemFilter compiledFilter, InventoryCountIndex countIndex, BlockEntity tile, IItemHandler itemHandler, boolean isFilterOutput) {
+        this.compiledFilter = compiledFilter;
         this.accessedTile = tile;
         this.itemHandler = itemHandler;
-
-        if (isFilterOutput) {
-            requestList = filteredList;
-
-            // Adjust counts based on what's already in the inventory
-            for (int slot = 0; slot < itemHandler.getSlots(); slot++) {
-                ItemStack checkedStack = itemHandler.getStackInSlot(slot);
-                if (checkedStack.isEmpty()) continue;
-
-                int stackSize = checkedStack.getCount();
-
-                for (IFilterKey filterStack : requestList) {
-                    if (filterStack.getCount() == 0) continue;
-
-                    if (doStacksMatch(filterStack, checkedStack)) {
-                        filterStack.setCount(Math.max(filterStack.getCount() - stackSize, 0));
-                    }
-                }
+        this.counts = new int[compiledFilter.size()];
+
+        int active = 0;
+        for (int i = 0; i < counts.length; i++) {
+            int amount = compiledFilter.getAmount(i);
+            int total = countIndex.getTotal(i);
+            if (isFilterOutput) {
+                // Adjust counts based on what's already in the inventory
+                counts[i] = amount == 0 || total == 0 ? amount : Math.max(amount - total, 0);
+            } else {
+                // Input filter: pull everything above the requested amount
+                counts[i] = total - amount;
             }
-        } else {
-            // Input filter: invert counts
-            requestList = filteredList;
-            for (IFilterKey filterStack : requestList) {
-                filterStack.setCount(filterStack.getCount() * -1);
-            }
-
-            // Add back what's in the inventory
-            for (int slot = 0; slot < itemHandler.getSlots(); slot++) {
-                ItemStack checkedStack = itemHandler.getStackInSlot(slot);
-                if (checkedStack.isEmpty()) continue;
-
-                int stackSize = checkedStack.getCount();
-
-                for (IFilterKey filterStack : filteredList) {
-                    if (doStacksMatch(filterStack, checkedStack)) {
-                        filterStack.grow(stackSize);
-                    }
-                }
+            if (counts[i] != 0) {
+                active |= 1 << i;
             }
         }
-
-        requestList.removeIf(IFilterKey::isEmpty);
+        this.activeMask = active & compiledFilter.getMatchableMask();
     }
 
     @Override
     public ItemStack transferStackThroughOutputFilter(ItemStack inputStack) {
-        int allowedAmount = 0;
-        for (IFilterKey filterStack : requestList) {
-            if (doStacksMatch(filterStack, inputStack)) {
-                allowedAmount = Math.min(filterStack.getCount(), inputStack.getCount());
-                break;
-            }
+        int mask = compiledFilter.matchMask(inputStack) & activeMask;
+        if (mask == 0) {
+            return inputStack;
         }
 
+        int allowedAmount = Math.min(counts[Integer.numberOfTrailingZeros(mask)], inputStack.getCount());
         if (allowedAmount <= 0) {
             return inputStack;
         }
@@ -92,21 +80,10 @@ public class BasicItemFilter implements IItemFilter {
         testStack = inputStack.copy();
         testStack.shrink(changeAmount);
 
-        Iterator<IFilterKey> itr = requestList.iterator();
-        while (itr.hasNext()) {
-            IFilterKey filterStack = itr.next();
-            if (doStacksMatch(filterStack, inputStack)) {
-                filterStack.shrink(changeAmount);
-                if (filterStack.isEmpty()) {
-                    itr.remove();
-                }
-            }
-        }
+        shrinkKeys(mask, changeAmount);
 
         if (accessedTile != null) {
-            Level level = accessedTile.getLevel();
-            BlockPos pos = accessedTile.getBlockPos();
-            level.sendBlockUpdated(pos, level.getBlockState(pos), level.getBlockState(pos), 3);
+            RoutingUpdateBatch.markUpdated(accessedTile);
         }
 
         return testStack;
@@ -117,20 +94,22 @@ public class BasicItemFilter implements IItemFilter {
         int totalChange = 0;
 
         for (int slot = 0; slot < itemHandler.getSlots(); slot++) {
+            if (activeMask == 0) {
+                break;
+            }
+
             ItemStack inputStack = itemHandler.getStackInSlot(slot);
-            if (inputStack.isEmpty() || itemHandler.extractItem(slot, inputStack.getCount(), true).isEmpty()) {
+            if (inputStack.isEmpty()) {
                 continue;
             }
 
-            int allowedAmount = 0;
-            for (IFilterKey filterStack : requestList) {
-                if (doStacksMatch(filterStack, inputStack)) {
-                    allowedAmount = Math.min(maxTransfer, Math.min(filterStack.getCount(),
-                            itemHandler.extractItem(slot, inputStack.getCount(), true).getCount()));
-                    break;
-                }
+            int mask = compiledFilter.matchMask(inputStack) & activeMask;
+            if (mask == 0) {
+                continue;
             }
 
+            int extractable = itemHandler.extractItem(slot, inputStack.getCount(), true).getCount();
+            int allowedAmount = Math.min(maxTransfer, Math.min(counts[Integer.numberOfTrailingZeros(mask)], extractable));
             if (allowedAmount <= 0) {
                 continue;
             }
@@ -145,22 +124,10 @@ public class BasicItemFilter implements IItemFilter {
             }
 
             itemHandler.extractItem(slot, changeAmount, false);
-
-            Iterator<IFilterKey> itr = requestList.iterator();
-            while (itr.hasNext()) {
-                IFilterKey filterStack = itr.next();
-                if (doStacksMatch(filterStack, inputStack)) {
-                    filterStack.shrink(changeAmount);
-                    if (filterStack.isEmpty()) {
-                        itr.remove();
-                    }
-                }
-            }
+            shrinkKeys(mask, changeAmount);
 
             if (accessedTile != null) {
-                Level level = accessedTile.getLevel();
-                BlockPos pos = accessedTile.getBlockPos();
-                level.sendBlockUpdated(pos, level.getBlockState(pos), level.getBlockState(pos), 3);
+                RoutingUpdateBatch.markUpdated(accessedTile);
             }
 
             maxTransfer -= changeAmount;
@@ -173,14 +140,45 @@ public class BasicItemFilter implements IItemFilter {
         return totalChange;
     }
 
+    /**
+     * Reduces the count of every key in the mask, dropping keys that reach zero.
+     */
+    protected void shrinkKeys(int mask, int changeAmount) {
+        for (int remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            int i = Integer.numberOfTrailingZeros(remaining);
+            counts[i] -= changeAmount;
+            if (counts[i] == 0) {
+                activeMask &= ~(1 << i);
+            }
+        }
+    }
+
     @Override
-    public boolean doesStackPassFilter(ItemStack testStack) {
-        for (IFilterKey filterStack : requestList) {
-            if (doStacksMatch(filterStack, testStack)) {
-                return true;
+    public boolean collectOfferedStacks(Consumer<ItemStack> consumer) {
+        if (itemHandler == null) {
+            return false;
+        }
+        for (int slot = 0; slot < itemHandler.getSlots(); slot++) {
+            ItemStack stack = itemHandler.getStackInSlot(slot);
+            if (stack.isEmpty()) {
+                continue;
+            }
+            int mask = compiledFilter.matchMask(stack) & activeMask;
+            if (mask != 0 && counts[Integer.numberOfTrailingZeros(mask)] > 0) {
+                consumer.accept(stack);
             }
         }
-        return false;
+        return true;
+    }
+
+    @Override
+    public BlockEntity getAccessedTile() {
+        return accessedTile;
+    }
+
+    @Override
+    public boolean doesStackPassFilter(ItemStack testStack) {
+        return (compiledFilter.matchMask(testStack) & activeMask) != 0;
     }
 
     @Override
@@ -190,11 +188,24 @@ public class BasicItemFilter implements IItemFilter {
 
     @Override
     public void initializeFilter(List<IFilterKey> filteredList) {
-        this.requestList = filteredList;
+        this.compiledFilter = new CompiledItemFilter(false, filteredList);
+        this.counts = new int[compiledFilter.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = compiledFilter.getAmount(i);
+        }
+        this.activeMask = compiledFilter.size() == Integer.SIZE ? -1 : (1 << compiledFilter.size()) - 1;
     }
 
+    /**
+     * Gets the keys still in the request list. Their counts are the configured amounts,
+     * not the remaining request.
+     */
     @Override
     public List<IFilterKey> getFilterList() {
-        return this.requestList;
+        List<IFilterKey> filterList = new ArrayList<>(Integer.bitCount(activeMask));
+        for (int remaining = activeMask; remaining != 0; remaining &= remaining - 1) {
+            filterList.add(compiledFilter.getKey(Integer.numberOfTrailingZeros(remaining)));
+        }
+        return filterList;
     }
 }
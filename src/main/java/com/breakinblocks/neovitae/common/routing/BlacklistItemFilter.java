@@ -1,15 +1,14 @@
 package com.breakinblocks.neovitae.common.routing;
 
-import net.minecraft.core.BlockPos;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.neoforged.neoforge.items.IItemHandler;
 import com.breakinblocks.neovitae.common.item.routing.IFilterKey;
 import com.breakinblocks.neovitae.util.Utils;
 
-import java.util.Iterator;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Blacklist filter implementation.
@@ -17,61 +16,49 @@ import java.util.List;
  */
 public class BlacklistItemFilter implements IItemFilter {
 
-    protected List<IFilterKey> requestList;
+    protected CompiledItemFilter compiledFilter;
+    protected int[] counts;
+    protected int activeMask;
     protected BlockEntity accessedTile;
     protected IItemHandler itemHandler;
 
     @Override
     public void initializeFilter(List<IFilterKey> filteredList, BlockEntity tile, IItemHandler itemHandler, boolean isFilterOutput) {
+        CompiledItemFilter compiled = new CompiledItemFilter(true, filteredList);
+        InventoryCountIndex countIndex = new InventoryCountIndex();
+        countIndex.update(compiled, tile, itemHandler);
+        initializeFilter(compiled, countIndex, tile, itemHandler, isFilterOutput);
+    }
+
+    @Override
+    public void initializeFilter(CompiledItemFilter compiledFilter, InventoryCountIndex countIndex, BlockEntity tile, IItemHandler itemHandler, boolean isFilterOutput) {
+        this.compiledFilter = compiledFilter;
         this.accessedTile = tile;
         this.itemHandler = itemHandler;
-
-        if (isFilterOutput) {
-            requestList = filteredList;
-
-            for (int slot = 0; slot < itemHandler.getSlots(); slot++) {
-                ItemStack checkedStack = itemHandler.getStackInSlot(slot);
-                if (checkedStack.isEmpty()) continue;
-
-                int stackSize = checkedStack.getCount();
-
-                for (IFilterKey filterStack : requestList) {
-                    if (filterStack.getCount() == 0) continue;
-
-                    if (doStacksMatch(filterStack, checkedStack)) {
-                        filterStack.setCount(Math.max(filterStack.getCount() - stackSize, 0));
-                    }
-                }
-            }
-        } else {
-            requestList = filteredList;
-            for (IFilterKey filterStack : requestList) {
-                filterStack.setCount(filterStack.getCount() * -1);
-            }
-
-            for (int slot = 0; slot < itemHandler.getSlots(); slot++) {
-                ItemStack checkedStack = itemHandler.getStackInSlot(slot);
-                if (checkedStack.isEmpty()) continue;
-
-                int stackSize = checkedStack.getCount();
-
-                for (IFilterKey filterStack : filteredList) {
-                    if (doStacksMatch(filterStack, checkedStack)) {
-                        filterStack.grow(stackSize);
-                    }
-                }
+        this.counts = new int[compiledFilter.size()];
+
+        for (int i = 0; i < counts.length; i++) {
+            int amount = compiledFilter.getAmount(i);
+            int total = countIndex.getTotal(i);
+            if (isFilterOutput) {
+                counts[i] = amount == 0 || total == 0 ? amount : Math.max(amount - total, 0);
+            } else {
+                counts[i] = total - amount;
             }
         }
         // Note: Blacklist filter doesn't remove empty entries
+        this.activeMask = allKeysMask();
+    }
+
+    private int allKeysMask() {
+        return compiledFilter.size() == Integer.SIZE ? -1 : (1 << compiledFilter.size()) - 1;
     }
 
     @Override
     public ItemStack transferStackThroughOutputFilter(ItemStack inputStack) {
         // If the stack matches the blacklist, reject it
-        for (IFilterKey filterStack : requestList) {
-            if (doStacksMatch(filterStack, inputStack)) {
-                return inputStack;
-            }
+        if ((compiledFilter.matchMask(inputStack) & activeMask) != 0) {
+            return inputStack;
         }
 
         int allowedAmount = inputStack.getCount();
@@ -87,21 +74,17 @@ public class BlacklistItemFilter implements IItemFilter {
         testStack = inputStack.copy();
         testStack.shrink(changeAmount);
 
-        Iterator<IFilterKey> itr = requestList.iterator();
-        while (itr.hasNext()) {
-            IFilterKey filterStack = itr.next();
-            if (!doStacksMatch(filterStack, inputStack)) {
-                filterStack.shrink(changeAmount);
-                if (filterStack.isEmpty()) {
-                    itr.remove();
-                }
+        // Every remaining key is one the stack did not match
+        for (int remaining = activeMask; remaining != 0; remaining &= remaining - 1) {
+            int i = Integer.numberOfTrailingZeros(remaining);
+            counts[i] -= changeAmount;
+            if (counts[i] == 0) {
+                activeMask &= ~(1 << i);
             }
         }
 
         if (accessedTile != null) {
-            Level level = accessedTile.getLevel();
-            BlockPos pos = accessedTile.getBlockPos();
-            level.sendBlockUpdated(pos, level.getBlockState(pos), level.getBlockState(pos), 3);
+            RoutingUpdateBatch.markUpdated(accessedTile);
         }
 
         return testStack;
@@ -111,22 +94,22 @@ public class BlacklistItemFilter implements IItemFilter {
     public int transferThroughInputFilter(IItemFilter outputFilter, int maxTransfer) {
         int totalChange = 0;
 
-        slots:
         for (int slot = 0; slot < itemHandler.getSlots(); slot++) {
             ItemStack inputStack = itemHandler.getStackInSlot(slot);
-            if (inputStack.isEmpty() || itemHandler.extractItem(slot, inputStack.getCount(), true).isEmpty()) {
+            if (inputStack.isEmpty()) {
                 continue;
             }
 
-            int allowedAmount = Math.min(inputStack.getCount(), maxTransfer);
+            // Skip blacklisted items
+            if ((compiledFilter.matchMask(inputStack) & activeMask) != 0) {
+                continue;
+            }
 
-            // Check if it matches the blacklist
-            for (IFilterKey filterStack : requestList) {
-                if (doStacksMatch(filterStack, inputStack)) {
-                    continue slots; // Skip blacklisted items
-                }
+            if (itemHandler.extractItem(slot, inputStack.getCount(), true).isEmpty()) {
+                continue;
             }
 
+            int allowedAmount = Math.min(inputStack.getCount(), maxTransfer);
             if (allowedAmount <= 0) {
                 continue;
             }
@@ -142,18 +125,12 @@ public class BlacklistItemFilter implements IItemFilter {
 
             itemHandler.extractItem(slot, changeAmount, false);
 
-            Iterator<IFilterKey> itr = requestList.iterator();
-            while (itr.hasNext()) {
-                IFilterKey filterStack = itr.next();
-                if (!doStacksMatch(filterStack, inputStack)) {
-                    filterStack.shrink(changeAmount);
-                }
+            for (int remaining = activeMask; remaining != 0; remaining &= remaining - 1) {
+                counts[Integer.numberOfTrailingZeros(remaining)] -= changeAmount;
             }
 
             if (accessedTile != null) {
-                Level level = accessedTile.getLevel();
-                BlockPos pos = accessedTile.getBlockPos();
-                level.sendBlockUpdated(pos, level.getBlockState(pos), level.getBlockState(pos), 3);
+                RoutingUpdateBatch.markUpdated(accessedTile);
             }
 
             maxTransfer -= changeAmount;
@@ -167,16 +144,33 @@ public class BlacklistItemFilter implements IItemFilter {
     }
 
     @Override
-    public boolean doesStackPassFilter(ItemStack testStack) {
-        // Blacklist: passes if it does NOT match
-        for (IFilterKey filterStack : requestList) {
-            if (doStacksMatch(filterStack, testStack)) {
-                return false;
+    public boolean collectOfferedStacks(Consumer<ItemStack> consumer) {
+        if (itemHandler == null) {
+            return false;
+        }
+        for (int slot = 0; slot < itemHandler.getSlots(); slot++) {
+            ItemStack stack = itemHandler.getStackInSlot(slot);
+            if (stack.isEmpty()) {
+                continue;
+            }
+            if ((compiledFilter.matchMask(stack) & activeMask) == 0) {
+                consumer.accept(stack);
             }
         }
         return true;
     }
 
+    @Override
+    public BlockEntity getAccessedTile() {
+        return accessedTile;
+    }
+
+    @Override
+    public boolean doesStackPassFilter(ItemStack testStack) {
+        // Blacklist: passes if it does NOT match
+        return (compiledFilter.matchMask(testStack) & activeMask) == 0;
+    }
+
     @Override
     public boolean doStacksMatch(IFilterKey filterStack, ItemStack testStack) {
         return filterStack.doesStackMatch(testStack);
@@ -184,11 +178,24 @@ public class BlacklistItemFilter implements IItemFilter {
 
     @Override
     public void initializeFilter(List<IFilterKey> filteredList) {
-        this.requestList = filteredList;
+        this.compiledFilter = new CompiledItemFilter(true, filteredList);
+        this.counts = new int[compiledFilter.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = compiledFilter.getAmount(i);
+        }
+        this.activeMask = allKeysMask();
     }
 
+    /**
+     * Gets the keys still in the filter list. Their counts are the configured amounts,
+     * not the remaining request.
+     */
     @Override
     public List<IFilterKey> getFilterList() {
-        return this.requestList;
+        List<IFilterKey> filterList = new ArrayList<>(Integer.bitCount(activeMask));
+        for (int remaining = activeMask; remaining != 0; remaining &= remaining - 1) {
+            filterList.add(compiledFilter.getKey(Integer.numberOfTrailingZeros(remaining)));
+        }
+        return filterList;
     }
 }
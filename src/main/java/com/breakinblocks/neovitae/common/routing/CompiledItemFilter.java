@@ -0,0 +1,208 @@
+package com.breakinblocks.neovitae.common.routing;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+import net.neoforged.neoforge.items.IItemHandler;
+import com.breakinblocks.neovitae.NeoVitae;
+import com.breakinblocks.neovitae.common.item.routing.BasicFilterKey;
+import com.breakinblocks.neovitae.common.item.routing.CollectionTagFilterKey;
+import com.breakinblocks.neovitae.common.item.routing.IFilterKey;
+import com.breakinblocks.neovitae.common.item.routing.ModFilterKey;
+import com.breakinblocks.neovitae.common.item.routing.TagFilterKey;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable, pre-indexed form of a filter item's keys.
+ *
+ * <p>Routing nodes compile each filter stack once and keep the result until the stack
+ * changes, instead of rebuilding the key list from the stack's data components every
+ * routing tick. Matching a stack returns a bitmask of the keys it satisfies: item keys
+ * are looked up in an item hash map, tag and mod keys in small tag/namespace tables, and
+ * any other key type (such as composite keys) falls back to {@link IFilterKey#doesStackMatch}.</p>
+ *
+ * <p>The key objects are only used as templates and are never mutated; per-tick request
+ * counts live in the {@link IItemFilter} created by {@link #createFilter}.</p>
+ */
+@EventBusSubscriber(modid = NeoVitae.MODID)
+public final class CompiledItemFilter {
+
+    /**
+     * Upper bound on keys per filter, set by the width of the match mask.
+     */
+    public static final int MAX_KEYS = Integer.SIZE;
+
+    private static volatile int generation = 0;
+
+    private final boolean blacklist;
+    private final IFilterKey[] keys;
+    private final int[] amounts;
+    private final int matchableMask;
+    private final int generationBuilt;
+
+    private final Reference2IntOpenHashMap<Item> itemMasks = new Reference2IntOpenHashMap<>();
+    private final List<TagKey<Item>> tags = new ArrayList<>();
+    private final int[] tagMasks;
+    private final Object2IntOpenHashMap<String> namespaceMasks = new Object2IntOpenHashMap<>();
+    private final int fallbackMask;
+
+    /**
+     * @param blacklist Whether the filter blocks matching items instead of requesting them
+     * @param filterKeys The filter keys in priority order; their counts are the configured amounts
+     */
+    public CompiledItemFilter(boolean blacklist, List<IFilterKey> filterKeys) {
+        if (filterKeys.size() > MAX_KEYS) {
+            throw new IllegalArgumentException("Item filters support at most " + MAX_KEYS + " keys, got " + filterKeys.size());
+        }
+        this.blacklist = blacklist;
+        this.keys = filterKeys.toArray(new IFilterKey[0]);
+        this.amounts = new int[keys.length];
+        this.generationBuilt = generation;
+
+        List<Integer> tagMaskList = new ArrayList<>();
+        int matchable = 0;
+        int fallback = 0;
+        for (int i = 0; i < keys.length; i++) {
+            IFilterKey key = keys[i];
+            int bit = 1 << i;
+            amounts[i] = key.getCount();
+
+            if (key instanceof BasicFilterKey basicKey) {
+                // A basic key without an item never matches anything
+                if (!basicKey.getKeyStack().isEmpty()) {
+                    itemMasks.mergeInt(basicKey.getKeyStack().getItem(), bit, (a, b) -> a | b);
+                    matchable |= bit;
+                }
+            } else if (key instanceof TagFilterKey tagKey) {
+                addTag(tagKey.getItemTag(), bit, tagMaskList);
+                matchable |= bit;
+            } else if (key instanceof CollectionTagFilterKey collectionKey) {
+                for (TagKey<Item> tag : collectionKey.getItemTags()) {
+                    addTag(tag, bit, tagMaskList);
+                }
+                matchable |= bit;
+            } else if (key instanceof ModFilterKey modKey) {
+                namespaceMasks.mergeInt(modKey.getNamespace(), bit, (a, b) -> a | b);
+                matchable |= bit;
+            } else {
+                fallback |= bit;
+                matchable |= bit;
+            }
+        }
+
+        this.tagMasks = tagMaskList.stream().mapToInt(Integer::intValue).toArray();
+        this.matchableMask = matchable;
+        this.fallbackMask = fallback;
+    }
+
+    private void addTag(TagKey<Item> tag, int bit, List<Integer> tagMaskList) {
+        int index = tags.indexOf(tag);
+        if (index < 0) {
+            tags.add(tag);
+            tagMaskList.add(bit);
+        } else {
+            tagMaskList.set(index, tagMaskList.get(index) | bit);
+        }
+    }
+
+    /**
+     * Marks every compiled filter stale on tag reload, since "any tag" keys capture the
+     * ghost item's tags at compile time.
+     */
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        generation++;
+    }
+
+    /**
+     * Whether tags were reloaded since this filter was compiled.
+     */
+    public boolean isStale() {
+        return generationBuilt != generation;
+    }
+
+    /**
+     * Gets the bitmask of keys (bit {@code i} for key {@code i}) that the stack matches.
+     */
+    public int matchMask(ItemStack stack) {
+        if (stack.isEmpty()) {
+            return 0;
+        }
+
+        Item item = stack.getItem();
+        int mask = itemMasks.getInt(item);
+        for (int i = 0; i < tagMasks.length; i++) {
+            if ((mask & tagMasks[i]) != tagMasks[i] && stack.is(tags.get(i))) {
+                mask |= tagMasks[i];
+            }
+        }
+        if (!namespaceMasks.isEmpty()) {
+            mask |= namespaceMasks.getInt(BuiltInRegistries.ITEM.getKey(item).getNamespace());
+        }
+        for (int remaining = fallbackMask; remaining != 0; remaining &= remaining - 1) {
+            int i = Integer.numberOfTrailingZeros(remaining);
+            if (keys[i].doesStackMatch(stack)) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Creates the per-tick filter for an attached inventory.
+     * @param tile The block entity the filter is attached to
+     * @param itemHandler The inventory being filtered
+     * @param countIndex Index of the inventory's contents kept by the caller between ticks,
+     *                   or null to count the inventory from scratch
+     * @param isFilterOutput True if this is an output filter
+     */
+    public IItemFilter createFilter(BlockEntity tile, IItemHandler itemHandler, @Nullable InventoryCountIndex countIndex, boolean isFilterOutput) {
+        if (countIndex == null) {
+            countIndex = new InventoryCountIndex();
+        }
+        countIndex.update(this, tile, itemHandler);
+
+        IItemFilter filter = blacklist ? new BlacklistItemFilter() : new BasicItemFilter();
+        filter.initializeFilter(this, countIndex, tile, itemHandler, isFilterOutput);
+        return filter;
+    }
+
+    public boolean isBlacklist() {
+        return blacklist;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Gets the template key at the given index. Must not be modified.
+     */
+    public IFilterKey getKey(int index) {
+        return keys[index];
+    }
+
+    /**
+     * Gets the configured amount of the key at the given index.
+     */
+    public int getAmount(int index) {
+        return amounts[index];
+    }
+
+    /**
+     * Bitmask of keys that can match at least some stack.
+     */
+    public int getMatchableMask() {
+        return matchableMask;
+    }
+}
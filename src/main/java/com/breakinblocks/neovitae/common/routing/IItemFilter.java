@@ -5,7 +5,9 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 import net.neoforged.neoforge.items.IItemHandler;
 import com.breakinblocks.neovitae.common.item.routing.IFilterKey;
 
+import javax.annotation.Nullable;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Interface for item filters used in the routing system.
@@ -21,6 +23,16 @@ public interface IItemFilter extends IRoutingFilter {
      */
     void initializeFilter(List<IFilterKey> filteredList, BlockEntity tile, IItemHandler itemHandler, boolean isFilterOutput);
 
+    /**
+     * Initializes the filter from a compiled filter and an up-to-date count of the inventory.
+     * @param compiledFilter The compiled filter keys
+     * @param countIndex Per-key item totals of the inventory
+     * @param tile The block entity this filter is attached to
+     * @param itemHandler The item handler to filter
+     * @param isFilterOutput True if this is an output filter
+     */
+    void initializeFilter(CompiledItemFilter compiledFilter, InventoryCountIndex countIndex, BlockEntity tile, IItemHandler itemHandler, boolean isFilterOutput);
+
     /**
      * Initializes the filter with just the filter list (no inventory context).
      */
@@ -42,6 +54,24 @@ public interface IItemFilter extends IRoutingFilter {
      */
     int transferThroughInputFilter(IItemFilter outputFilter, int maxTransfer);
 
+    /**
+     * Reports a stack for every slot this input filter could currently pull from, so the
+     * routing solver can skip outputs that want none of them.
+     * @param consumer Receives the slot stacks; must not modify them
+     * @return False if this filter cannot enumerate its offers and should always be probed
+     */
+    default boolean collectOfferedStacks(Consumer<ItemStack> consumer) {
+        return false;
+    }
+
+    /**
+     * Gets the block entity whose inventory this filter accesses, if known.
+     */
+    @Nullable
+    default BlockEntity getAccessedTile() {
+        return null;
+    }
+
     /**
      * Checks if the given stack passes through this filter.
      */
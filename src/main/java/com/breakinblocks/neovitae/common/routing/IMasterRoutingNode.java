@@ -33,4 +33,10 @@ public interface IMasterRoutingNode extends IRoutingNode {
      * Removes a connection between two positions.
      */
     void removeConnection(BlockPos pos1, BlockPos pos2);
+
+    /**
+     * Marks the cached network topology as stale, so node reachability is
+     * recomputed before the next routing operation.
+     */
+    void invalidateTopology();
 }
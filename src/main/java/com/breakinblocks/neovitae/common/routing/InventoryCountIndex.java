@@ -0,0 +1,88 @@
+package com.breakinblocks.neovitae.common.routing;
+
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.neoforged.neoforge.items.IItemHandler;
+
+import java.util.Arrays;
+
+/**
+ * Running per-key item totals for one filtered inventory.
+ *
+ * <p>Keeps a snapshot of every slot (stack, count and the keys it matched) so that each
+ * routing tick only re-matches slots whose contents changed since the last update, rather
+ * than testing every slot against every filter key. The snapshot is discarded whenever the
+ * compiled filter, the inventory's block entity or its slot count changes.</p>
+ *
+ * <p>Slots are compared by stack identity and count, which covers every built-in key type
+ * since they only look at the item. A stack whose components are edited in place keeps
+ * its previous match until its count or identity changes.</p>
+ */
+public class InventoryCountIndex {
+
+    private CompiledItemFilter filter;
+    private BlockEntity tile;
+    private ItemStack[] slotStacks = new ItemStack[0];
+    private int[] slotCounts = new int[0];
+    private int[] slotMasks = new int[0];
+    private long[] totals = new long[0];
+
+    /**
+     * Brings the totals up to date with the inventory's current contents.
+     */
+    public void update(CompiledItemFilter filter, BlockEntity tile, IItemHandler itemHandler) {
+        int slots = itemHandler.getSlots();
+        if (filter != this.filter || tile != this.tile || slots != slotStacks.length) {
+            reset(filter, tile, slots);
+        }
+
+        for (int slot = 0; slot < slots; slot++) {
+            ItemStack stack = itemHandler.getStackInSlot(slot);
+            int count = stack.getCount();
+            if (stack == slotStacks[slot] && count == slotCounts[slot]) {
+                continue;
+            }
+
+            // Take the old contents out of the totals and add the new ones
+            addToTotals(slotMasks[slot], -slotCounts[slot]);
+            int mask = stack.isEmpty() ? 0 : filter.matchMask(stack);
+            addToTotals(mask, count);
+
+            slotStacks[slot] = stack;
+            slotCounts[slot] = stack.isEmpty() ? 0 : count;
+            slotMasks[slot] = mask;
+        }
+    }
+
+    private void reset(CompiledItemFilter filter, BlockEntity tile, int slots) {
+        this.filter = filter;
+        this.tile = tile;
+        this.slotStacks = new ItemStack[slots];
+        this.slotCounts = new int[slots];
+        this.slotMasks = new int[slots];
+        this.totals = new long[filter.size()];
+    }
+
+    private void addToTotals(int mask, int amount) {
+        for (int remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            totals[Integer.numberOfTrailingZeros(remaining)] += amount;
+        }
+    }
+
+    /**
+     * Gets the total number of items in the inventory matching the given key,
+     * clamped to the int range.
+     */
+    public int getTotal(int key) {
+        return (int) Math.min(totals[key], Integer.MAX_VALUE);
+    }
+
+    /**
+     * Forgets the snapshot so the next update re-counts every slot.
+     */
+    public void clear() {
+        filter = null;
+        tile = null;
+        Arrays.fill(slotStacks, null);
+    }
+}
@@ -0,0 +1,147 @@
+package com.breakinblocks.neovitae.common.routing;
+
+import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenCustomHashMap;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Matches a routing network's input filters against its output filters for one tick.
+ *
+ * <p>Transfers happen in the same order as a plain nested loop - every output in priority
+ * order, probing every input in priority order, until the transfer budget runs out - but
+ * input/output pairs that cannot move anything are skipped without walking the input's
+ * slots. To do that the solver indexes the distinct stacks each input currently offers,
+ * and for each output the subset of those stacks it still demands.</p>
+ *
+ * <p>Both indexes are kept conservative: an output's demand is re-evaluated after it
+ * receives items (its remaining request shrinks, but a blacklist can also open up), and an
+ * input's offers are re-collected when an output inserts into the same inventory. Inputs
+ * that cannot enumerate their offers are always probed.</p>
+ */
+public final class ItemRoutingSolver {
+
+    private static final Hash.Strategy<ItemStack> ITEM_AND_COMPONENTS = new Hash.Strategy<>() {
+        @Override
+        public int hashCode(ItemStack stack) {
+            return ItemStack.hashItemAndComponents(stack);
+        }
+
+        @Override
+        public boolean equals(ItemStack a, ItemStack b) {
+            return a == b || (a != null && b != null && ItemStack.isSameItemSameComponents(a, b));
+        }
+    };
+
+    private final List<IItemFilter> outputs;
+    private final List<IItemFilter> inputs;
+
+    // Distinct offered stacks, indexed by first appearance
+    private final Object2IntOpenCustomHashMap<ItemStack> stackIndex = new Object2IntOpenCustomHashMap<>(ITEM_AND_COMPONENTS);
+    private final List<ItemStack> offeredStacks = new ArrayList<>();
+
+    // Per input: offered stack indices, or null if the input can't enumerate its offers
+    private final BitSet[] offers;
+
+    private ItemRoutingSolver(List<IItemFilter> outputs, List<IItemFilter> inputs) {
+        this.outputs = outputs;
+        this.inputs = inputs;
+        this.offers = new BitSet[inputs.size()];
+        for (int i = 0; i < offers.length; i++) {
+            offers[i] = collectOffers(inputs.get(i));
+        }
+        stackIndex.defaultReturnValue(-1);
+    }
+
+    /**
+     * Moves items from the inputs to the outputs.
+     * @param outputs Output filters, highest priority first
+     * @param inputs Input filters, highest priority first
+     * @param maxTransfer Maximum number of items to move
+     * @return The number of items moved
+     */
+    public static int route(List<IItemFilter> outputs, List<IItemFilter> inputs, int maxTransfer) {
+        if (outputs.isEmpty() || inputs.isEmpty() || maxTransfer <= 0) {
+            return 0;
+        }
+        return new ItemRoutingSolver(outputs, inputs).run(maxTransfer);
+    }
+
+    private int run(int maxTransfer) {
+        int totalTransferred = 0;
+
+        for (IItemFilter outputFilter : outputs) {
+            BitSet wanted = collectDemand(outputFilter);
+
+            for (int i = 0; i < inputs.size(); i++) {
+                BitSet inputOffers = offers[i];
+                if (inputOffers != null && !inputOffers.intersects(wanted)) {
+                    continue;
+                }
+
+                int transferred = inputs.get(i).transferThroughInputFilter(outputFilter, maxTransfer);
+                if (transferred <= 0) {
+                    continue;
+                }
+
+                maxTransfer -= transferred;
+                totalTransferred += transferred;
+                if (maxTransfer <= 0) {
+                    return totalTransferred;
+                }
+
+                refreshOffersInto(outputFilter.getAccessedTile());
+                wanted = collectDemand(outputFilter);
+            }
+        }
+
+        return totalTransferred;
+    }
+
+    /**
+     * Indexes the stacks an input filter can currently extract.
+     */
+    private BitSet collectOffers(IItemFilter inputFilter) {
+        BitSet inputOffers = new BitSet();
+        boolean enumerated = inputFilter.collectOfferedStacks(stack -> {
+            int index = stackIndex.getInt(stack);
+            if (index < 0) {
+                index = offeredStacks.size();
+                offeredStacks.add(stack.copy());
+                stackIndex.put(offeredStacks.get(index), index);
+            }
+            inputOffers.set(index);
+        });
+        return enumerated ? inputOffers : null;
+    }
+
+    /**
+     * Gets the offered stacks that the output filter would currently accept.
+     */
+    private BitSet collectDemand(IItemFilter outputFilter) {
+        BitSet wanted = new BitSet(offeredStacks.size());
+        for (int i = 0; i < offeredStacks.size(); i++) {
+            if (outputFilter.doesStackPassFilter(offeredStacks.get(i))) {
+                wanted.set(i);
+            }
+        }
+        return wanted;
+    }
+
+    /**
+     * Re-collects the offers of inputs pulling from an inventory that just received items.
+     * @param tile The inventory that received items, or null if unknown (refreshes every input)
+     */
+    private void refreshOffersInto(BlockEntity tile) {
+        for (int i = 0; i < inputs.size(); i++) {
+            IItemFilter inputFilter = inputs.get(i);
+            if (offers[i] != null && (tile == null || inputFilter.getAccessedTile() == tile)) {
+                offers[i] = collectOffers(inputFilter);
+            }
+        }
+    }
+}
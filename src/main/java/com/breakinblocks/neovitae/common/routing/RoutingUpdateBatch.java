@@ -0,0 +1,98 @@
+package com.breakinblocks.neovitae.common.routing;
+
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * Collects the block updates routing filters request while moving items and fluids.
+ *
+ * <p>Filters used to send a block update for their inventory after every single slot
+ * move. While a batch is open (for the duration of a master node's routing tick), those
+ * requests are only recorded, and each touched inventory gets one update when the batch
+ * ends. Outside a batch, updates are sent immediately as before.</p>
+ *
+ * <p>Server thread only.</p>
+ */
+public final class RoutingUpdateBatch {
+
+    private static final ReferenceLinkedOpenHashSet<BlockEntity> PENDING = new ReferenceLinkedOpenHashSet<>();
+    private static int depth = 0;
+
+    private static long requestedUpdates = 0;
+    private static long sentUpdates = 0;
+
+    private RoutingUpdateBatch() {
+    }
+
+    /**
+     * Opens a batch. Batches nest; updates are flushed when the outermost one ends.
+     */
+    public static void begin() {
+        depth++;
+    }
+
+    /**
+     * Closes a batch, sending one update per touched block entity if it was the outermost.
+     */
+    public static void end() {
+        if (depth <= 0 || --depth > 0) {
+            return;
+        }
+        for (BlockEntity tile : PENDING) {
+            sendUpdate(tile);
+        }
+        PENDING.clear();
+    }
+
+    /**
+     * Requests a block update for an inventory touched by a routing transfer.
+     */
+    public static void markUpdated(BlockEntity tile) {
+        requestedUpdates++;
+        if (depth > 0) {
+            PENDING.add(tile);
+        } else {
+            sendUpdate(tile);
+        }
+    }
+
+    private static void sendUpdate(BlockEntity tile) {
+        Level level = tile.getLevel();
+        if (level == null || tile.isRemoved()) {
+            return;
+        }
+        BlockPos pos = tile.getBlockPos();
+        BlockState state = level.getBlockState(pos);
+        level.sendBlockUpdated(pos, state, state, 3);
+        sentUpdates++;
+    }
+
+    /**
+     * Total number of block updates routing filters asked for.
+     */
+    public static long getRequestedUpdates() {
+        return requestedUpdates;
+    }
+
+    /**
+     * Total number of block updates actually sent.
+     */
+    public static long getSentUpdates() {
+        return sentUpdates;
+    }
+
+    /**
+     * Number of block updates avoided by batching.
+     */
+    public static long getSavedUpdates() {
+        return requestedUpdates - sentUpdates;
+    }
+
+    public static void resetStats() {
+        requestedUpdates = 0;
+        sentUpdates = 0;
+    }
+}
@@ -22,6 +22,7 @@ import com.breakinblocks.neovitae.common.registry.BMRegistries;
 import com.breakinblocks.neovitae.common.tag.BMTags;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
@@ -39,6 +40,16 @@ public class BMMultiblock {
     public static AltarTier[] TIER_LIST = new AltarTier[]{};
     public static MultiblockValidator[] TIER_VALIDATORS = new MultiblockValidator[]{};
 
+    /**
+     * Incremented whenever the tier definitions are (re)loaded or cleared, so altars
+     * tracking their structure positions know to rebuild them.
+     */
+    private static int generation = 0;
+
+    public static int getGeneration() {
+        return generation;
+    }
+
     public static void onServerStarted(ServerStartedEvent event) {
         NeoVitae.LOGGER.info("BMMultiblock.onServerStarted: Loading altar tier definitions...");
 
@@ -51,36 +62,59 @@ public class BMMultiblock {
         
         ResourceLocation[] keys = new ResourceLocation[tierList.size()];
         AltarTier[] tiers = new AltarTier[tierList.size()];
-        MultiblockValidator[] validators = new MultiblockValidator[tierList.size()];
 
         for (Holder<AltarTier> holder : tierList) {
             int tier = holder.value().tier();
             keys[tier] = holder.getKey().location();
             tiers[tier] = holder.value();
-            
+        }
+
+        Registry<Block> blockRegistry = event.getServer().registryAccess().registryOrThrow(Registries.BLOCK);
+        MultiblockValidator[] validators = compile(tiers, component -> createMatcher(component, blockRegistry));
+        
+        TIER_KEYS = keys;
+        TIER_LIST = tiers;
+        TIER_VALIDATORS = validators;
+        generation++;
+    }
+
+    /**
+     * Builds the validator of every tier, indexed like {@code tiers}; missing tiers are left null.
+     */
+    static MultiblockValidator[] compile(AltarTier[] tiers, Function<AltarComponent, Predicate<BlockState>> matchers) {
+        MultiblockValidator[] validators = new MultiblockValidator[tiers.length];
+        Set<BlockPos> previousTierPositions = Set.of();
+        for (int tier = 0; tier < tiers.length; tier++) {
+            if (tiers[tier] == null) {
+                continue;
+            }
+
             // Build the multiblock validator for this tier
             MultiblockValidator.Builder builder = MultiblockValidator.builder();
-            Registry<Block> blockRegistry = event.getServer().registryAccess().registryOrThrow(Registries.BLOCK);
-            
+            Set<BlockPos> tierPositions = new HashSet<>();
+
             for (AltarComponent component : tiers[tier].components()) {
-                Predicate<BlockState> matcher = createMatcher(component, blockRegistry);
-                builder.add(component.pos(), matcher);
+                builder.add(component.pos(), matchers.apply(component));
+                tierPositions.add(component.pos());
+                // Parts added by this tier are what usually fails on a lower-tier altar, so check them first
+                if (!previousTierPositions.contains(component.pos())) {
+                    builder.priority(component.pos(), 1);
+                }
             }
-            
+
             validators[tier] = builder
                     .symmetrical(true)
                     .build();
+            previousTierPositions = tierPositions;
         }
-        
-        TIER_KEYS = keys;
-        TIER_LIST = tiers;
-        TIER_VALIDATORS = validators;
+        return validators;
     }
 
     public static void onServerStopped(ServerStoppedEvent event) {
         TIER_KEYS = new ResourceLocation[]{};
         TIER_LIST = new AltarTier[]{};
         TIER_VALIDATORS = new MultiblockValidator[]{};
+        generation++;
     }
 
     /**
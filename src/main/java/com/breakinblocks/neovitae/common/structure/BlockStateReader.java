@@ -0,0 +1,13 @@
+package com.breakinblocks.neovitae.common.structure;
+
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * Source of block states addressed by plain coordinates, so structure checks can read
+ * positions without allocating a {@code BlockPos} each time.
+ */
+@FunctionalInterface
+public interface BlockStateReader {
+
+    BlockState getBlockState(int x, int y, int z);
+}
@@ -0,0 +1,63 @@
+package com.breakinblocks.neovitae.common.structure;
+
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+
+/**
+ * Short-lived block state reader that keeps the last few {@link LevelChunk}s it touched
+ * and reads straight from their sections.
+ *
+ * <p>Structure validation reads hundreds of positions that fall into the same handful of
+ * chunks, so this skips the chunk-source lookup and {@code BlockPos} allocation that
+ * {@link Level#getBlockState} costs per read. Chunks are kept in a 2x2 direct-mapped
+ * cache indexed by coordinate parity, which covers any footprint up to 16 blocks wide
+ * without misses. Do not hold onto a reader across ticks.</p>
+ */
+public class CachedChunkReader implements BlockStateReader {
+    private static final BlockState AIR = Blocks.AIR.defaultBlockState();
+    private static final BlockState VOID_AIR = Blocks.VOID_AIR.defaultBlockState();
+
+    private final Level level;
+    private final LevelChunk[] chunks = new LevelChunk[4];
+    private final int[] chunkX = new int[4];
+    private final int[] chunkZ = new int[4];
+
+    public CachedChunkReader(Level level) {
+        this.level = level;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the block state at the given coordinates, loading the chunk like
+     * {@link Level#getBlockState} would.
+     */
+    @Override
+    public BlockState getBlockState(int x, int y, int z) {
+        if (level.isOutsideBuildHeight(y)) {
+            return VOID_AIR;
+        }
+
+        int cx = x >> 4;
+        int cz = z >> 4;
+        int slot = ((cx & 1) << 1) | (cz & 1);
+        LevelChunk chunk = chunks[slot];
+        if (chunk == null || chunkX[slot] != cx || chunkZ[slot] != cz) {
+            chunk = level.getChunk(cx, cz);
+            chunks[slot] = chunk;
+            chunkX[slot] = cx;
+            chunkZ[slot] = cz;
+        }
+
+        LevelChunkSection section = chunk.getSection(chunk.getSectionIndex(y));
+        if (section.hasOnlyAir()) {
+            return AIR;
+        }
+        return section.getBlockState(x & 15, y & 15, z & 15);
+    }
+}
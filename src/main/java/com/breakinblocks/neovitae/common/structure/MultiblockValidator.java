@@ -1,8 +1,7 @@
 package com.breakinblocks.neovitae.common.structure;
 
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.registries.Registries;
-import net.minecraft.resources.ResourceKey;
 import net.minecraft.tags.TagKey;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
@@ -10,29 +9,66 @@ import net.minecraft.world.level.block.Rotation;
 import net.minecraft.world.level.block.state.BlockState;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 
 /**
  * Custom multiblock validation system for Blood Magic.
  * Replaces Patchouli's IMultiblock.validate() functionality.
+ *
+ * <p>The matcher map is compiled once on construction: entries are ordered so the most
+ * selective checks run first (explicit priority, then distance from the anchor), and
+ * their relative positions are pre-rotated into flat {@code x, y, z} offset arrays, one
+ * per rotation. Validation is then a primitive loop with no {@code BlockPos} allocation.</p>
  */
 public class MultiblockValidator {
 
-    private final Map<BlockPos, Predicate<BlockState>> matchers;
-    private final BlockPos offset;
-    private final boolean symmetrical;
+    private static final Rotation[] ROTATIONS = Rotation.values();
+
+    // Compiled form, in check order
+    private final Predicate<BlockState>[] tests;
+    private final int[][] rotatedOffsets;
 
     public MultiblockValidator(Map<BlockPos, Predicate<BlockState>> matchers, BlockPos offset, boolean symmetrical) {
-        this.matchers = matchers;
-        this.offset = offset;
-        this.symmetrical = symmetrical;
+        this(matchers, Map.of(), offset, symmetrical);
     }
 
     public MultiblockValidator(Map<BlockPos, Predicate<BlockState>> matchers) {
         this(matchers, BlockPos.ZERO, false);
     }
 
+    /**
+     * @param priorities Optional per-position check priority; higher values are checked first.
+     *                   Positions most likely to fail (e.g. parts unique to this tier) should
+     *                   get the highest priority so invalid structures are rejected early.
+     */
+    @SuppressWarnings("unchecked")
+    public MultiblockValidator(Map<BlockPos, Predicate<BlockState>> matchers, Map<BlockPos, Integer> priorities,
+                               BlockPos offset, boolean symmetrical) {
+        List<BlockPos> order = new ArrayList<>(matchers.keySet());
+        order.sort(Comparator.<BlockPos>comparingInt(pos -> -priorities.getOrDefault(pos, 0))
+                .thenComparingInt(pos -> -pos.distManhattan(BlockPos.ZERO))
+                .thenComparing(Comparator.naturalOrder()));
+
+        int rotationCount = symmetrical ? 1 : ROTATIONS.length;
+        this.tests = new Predicate[order.size()];
+        this.rotatedOffsets = new int[rotationCount][order.size() * 3];
+        for (int i = 0; i < order.size(); i++) {
+            BlockPos relativePos = order.get(i);
+            tests[i] = matchers.get(relativePos);
+            for (int r = 0; r < rotationCount; r++) {
+                BlockPos rotatedPos = rotatePos(relativePos, ROTATIONS[r]);
+                rotatedOffsets[r][i * 3] = rotatedPos.getX() + offset.getX();
+                rotatedOffsets[r][i * 3 + 1] = rotatedPos.getY() + offset.getY();
+                rotatedOffsets[r][i * 3 + 2] = rotatedPos.getZ() + offset.getZ();
+            }
+        }
+    }
+
     /**
      * Validates the multiblock structure at the given anchor position.
      * @param level The world level
@@ -41,40 +77,63 @@ public class MultiblockValidator {
      */
     @Nullable
     public Rotation validate(Level level, BlockPos anchor) {
-        // Try each rotation
-        for (Rotation rotation : Rotation.values()) {
-            if (validateWithRotation(level, anchor, rotation)) {
-                return rotation;
-            }
-            // If symmetrical, we only need to check one rotation
-            if (symmetrical) {
-                break;
+        return validate(new CachedChunkReader(level), anchor);
+    }
+
+    /**
+     * Validates the multiblock structure using a shared block reader, typically a
+     * {@link CachedChunkReader} so several validators checked in a row (e.g. every altar
+     * tier) reuse the same chunk lookups.
+     * @param reader Block reader for the level the structure is in
+     * @param anchor The anchor position
+     * @return The rotation if valid, null if invalid
+     */
+    @Nullable
+    public Rotation validate(BlockStateReader reader, BlockPos anchor) {
+        // If symmetrical, only the first rotation was compiled
+        for (int r = 0; r < rotatedOffsets.length; r++) {
+            if (validateWithOffsets(reader, anchor.getX(), anchor.getY(), anchor.getZ(), rotatedOffsets[r])) {
+                return ROTATIONS[r];
             }
         }
         return null;
     }
 
     /**
-     * Validates the structure with a specific rotation.
+     * Validates the structure against one rotation's compiled offsets.
      */
-    private boolean validateWithRotation(Level level, BlockPos anchor, Rotation rotation) {
-        for (Map.Entry<BlockPos, Predicate<BlockState>> entry : matchers.entrySet()) {
-            BlockPos relativePos = entry.getKey();
-            BlockPos rotatedPos = rotatePos(relativePos, rotation);
-            BlockPos worldPos = anchor.offset(rotatedPos).offset(offset);
-            
-            BlockState stateAtPos = level.getBlockState(worldPos);
-            if (!entry.getValue().test(stateAtPos)) {
+    private boolean validateWithOffsets(BlockStateReader reader, int x, int y, int z, int[] offsets) {
+        for (int i = 0, j = 0; i < tests.length; i++, j += 3) {
+            BlockState stateAtPos = reader.getBlockState(x + offsets[j], y + offsets[j + 1], z + offsets[j + 2]);
+            if (!tests[i].test(stateAtPos)) {
                 return false;
             }
         }
         return true;
     }
 
+    /**
+     * Collects every world position this validator reads when anchored at the given
+     * position, across all rotations it would test.
+     * @param anchor The anchor position (typically the altar position)
+     * @param out Set receiving packed positions (see {@link BlockPos#asLong()})
+     */
+    public void collectPositions(BlockPos anchor, LongSet out) {
+        for (int[] offsets : rotatedOffsets) {
+            for (int j = 0; j < offsets.length; j += 3) {
+                out.add(BlockPos.asLong(anchor.getX() + offsets[j], anchor.getY() + offsets[j + 1], anchor.getZ() + offsets[j + 2]));
+            }
+        }
+    }
+
+    public int size() {
+        return tests.length;
+    }
+
     /**
      * Rotates a position around the Y axis.
      */
-    private BlockPos rotatePos(BlockPos pos, Rotation rotation) {
+    private static BlockPos rotatePos(BlockPos pos, Rotation rotation) {
         return switch (rotation) {
             case NONE -> pos;
             case CLOCKWISE_90 -> new BlockPos(-pos.getZ(), pos.getY(), pos.getX());
@@ -87,7 +146,8 @@ public class MultiblockValidator {
      * Builder for creating multiblock validators.
      */
     public static class Builder {
-        private final java.util.HashMap<BlockPos, Predicate<BlockState>> matchers = new java.util.HashMap<>();
+        private final HashMap<BlockPos, Predicate<BlockState>> matchers = new HashMap<>();
+        private final HashMap<BlockPos, Integer> priorities = new HashMap<>();
         private BlockPos offset = BlockPos.ZERO;
         private boolean symmetrical = false;
 
@@ -106,6 +166,14 @@ public class MultiblockValidator {
             return this;
         }
 
+        /**
+         * Sets the check priority of a position; higher values are checked first.
+         */
+        public Builder priority(BlockPos pos, int priority) {
+            priorities.put(pos, priority);
+            return this;
+        }
+
         public Builder offset(int x, int y, int z) {
             this.offset = new BlockPos(x, y, z);
             return this;
@@ -117,7 +185,7 @@ public class MultiblockValidator {
         }
 
         public MultiblockValidator build() {
-            return new MultiblockValidator(Map.copyOf(matchers), offset, symmetrical);
+            return new MultiblockValidator(Map.copyOf(matchers), Map.copyOf(priorities), offset, symmetrical);
         }
     }
 
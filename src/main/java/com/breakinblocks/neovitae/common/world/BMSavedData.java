@@ -5,46 +5,51 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.world.level.saveddata.SavedData;
-import com.breakinblocks.neovitae.common.datacomponent.SoulNetwork;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * The original single-file soul network storage.
+ *
+ * <p>Only read to move existing networks into {@link SoulNetworkShard}s; once drained it
+ * is saved back empty.</p>
+ */
 public class BMSavedData extends SavedData {
     public static final String ID = "bloodmagic";
 
-    private Map<UUID, SoulNetwork> soulNetworks = new HashMap<>();
+    private final List<CompoundTag> networkData = new ArrayList<>();
 
-    public SoulNetwork getNetwork(UUID playerId) {
-        if (!soulNetworks.containsKey(playerId))
-            soulNetworks.put(playerId, SoulNetwork.newEmpty(playerId, this));
-
-        return soulNetworks.get(playerId);
+    /**
+     * Removes and returns the stored network tags, marking this data for an empty rewrite.
+     */
+    public List<CompoundTag> drainNetworkData() {
+        if (networkData.isEmpty()) {
+            return List.of();
+        }
+        List<CompoundTag> drained = new ArrayList<>(networkData);
+        networkData.clear();
+        setDirty();
+        return drained;
     }
 
     // ==================== Serialization ====================
 
     @Override
     public CompoundTag save(CompoundTag tag, HolderLookup.Provider registries) {
-        ListTag networkData = new ListTag();
-        for (SoulNetwork soulNetwork : soulNetworks.values()) {
-            networkData.add(soulNetwork.toNBT());
-        }
-
-        tag.put("networkData", networkData);
+        ListTag networkList = new ListTag();
+        networkList.addAll(networkData);
+        tag.put("networkData", networkList);
 
         return tag;
     }
 
     public static BMSavedData load(CompoundTag tag, HolderLookup.Provider registries) {
         BMSavedData savedData = new BMSavedData();
-        ListTag networkData = tag.getList("networkData", Tag.TAG_COMPOUND);
+        ListTag networkList = tag.getList("networkData", Tag.TAG_COMPOUND);
 
-        for (int i = 0; i < networkData.size(); i++) {
-            CompoundTag data = networkData.getCompound(i);
-            SoulNetwork network = SoulNetwork.fromNBT(data, savedData);
-            savedData.soulNetworks.put(network.getPlayerId(), network);
+        for (int i = 0; i < networkList.size(); i++) {
+            savedData.networkData.add(networkList.getCompound(i));
         }
 
         return savedData;
@@ -0,0 +1,168 @@
+package com.breakinblocks.neovitae.common.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import com.breakinblocks.neovitae.NeoVitae;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-level index of block positions that block entities depend on.
+ *
+ * <p>Multiblock owners (such as the Blood Altar) register the set of positions their
+ * structure reads and get notified whenever the block state at one of them changes,
+ * instead of re-validating the whole structure on a timer. Watches are bucketed by
+ * chunk so an unrelated block change costs a single hash lookup.</p>
+ *
+ * <p>All methods must be called from the server thread. Listeners are invoked while
+ * the watch list is being iterated, so they must not register or remove watches
+ * themselves - they should only flag their owner for a recheck.</p>
+ */
+@EventBusSubscriber(modid = NeoVitae.MODID)
+public class BlockChangeTracker {
+
+    private static final Map<ResourceKey<Level>, Long2ObjectMap<List<Watch>>> WATCHES = new HashMap<>();
+
+    /**
+     * Callback fired when a watched block position changes state.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void onWatchedBlockChanged(BlockPos pos, BlockState oldState, BlockState newState);
+    }
+
+    /**
+     * Handle for a registered set of watched positions.
+     */
+    public static final class Watch {
+        private final ResourceKey<Level> dimension;
+        private final LongSet positions;
+        private final LongSet chunks;
+        private final Listener listener;
+        private boolean removed = false;
+
+        private Watch(ResourceKey<Level> dimension, LongSet positions, Listener listener) {
+            this.dimension = dimension;
+            this.positions = positions;
+            this.listener = listener;
+            this.chunks = new LongOpenHashSet();
+            LongIterator it = positions.iterator();
+            while (it.hasNext()) {
+                long pos = it.nextLong();
+                chunks.add(ChunkPos.asLong(BlockPos.getX(pos) >> 4, BlockPos.getZ(pos) >> 4));
+            }
+        }
+
+        public boolean isRemoved() {
+            return removed;
+        }
+
+        public int size() {
+            return positions.size();
+        }
+    }
+
+    /**
+     * Starts watching a set of block positions.
+     *
+     * @param level The level the positions are in
+     * @param positions Packed block positions (see {@link BlockPos#asLong()}); copied
+     * @param listener Called whenever one of the positions changes state
+     * @return A handle to pass to {@link #unwatch(Watch)}
+     */
+    public static Watch watch(ServerLevel level, LongSet positions, Listener listener) {
+        Watch watch = new Watch(level.dimension(), new LongOpenHashSet(positions), listener);
+        Long2ObjectMap<List<Watch>> byChunk = WATCHES.computeIfAbsent(level.dimension(), key -> new Long2ObjectOpenHashMap<>());
+        LongIterator it = watch.chunks.iterator();
+        while (it.hasNext()) {
+            byChunk.computeIfAbsent(it.nextLong(), key -> new ArrayList<>(2)).add(watch);
+        }
+        return watch;
+    }
+
+    /**
+     * Stops a watch. Safe to call multiple times or with null.
+     */
+    public static void unwatch(Watch watch) {
+        if (watch == null || watch.removed) {
+            return;
+        }
+        watch.removed = true;
+
+        Long2ObjectMap<List<Watch>> byChunk = WATCHES.get(watch.dimension);
+        if (byChunk == null) {
+            return;
+        }
+        LongIterator it = watch.chunks.iterator();
+        while (it.hasNext()) {
+            long chunk = it.nextLong();
+            List<Watch> watches = byChunk.get(chunk);
+            if (watches != null) {
+                watches.remove(watch);
+                if (watches.isEmpty()) {
+                    byChunk.remove(chunk);
+                }
+            }
+        }
+        if (byChunk.isEmpty()) {
+            WATCHES.remove(watch.dimension);
+        }
+    }
+
+    /**
+     * Dispatches a block state change to any watch covering the position.
+     * Called from {@code ServerLevelMixin} for every state change in a server level.
+     */
+    public static void onBlockStateChange(ServerLevel level, BlockPos pos, BlockState oldState, BlockState newState) {
+        if (WATCHES.isEmpty()) {
+            return;
+        }
+        Long2ObjectMap<List<Watch>> byChunk = WATCHES.get(level.dimension());
+        if (byChunk == null) {
+            return;
+        }
+        List<Watch> watches = byChunk.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        if (watches == null) {
+            return;
+        }
+
+        long key = pos.asLong();
+        for (int i = 0; i < watches.size(); i++) {
+            Watch watch = watches.get(i);
+            if (watch.positions.contains(key)) {
+                watch.listener.onWatchedBlockChanged(pos, oldState, newState);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            Long2ObjectMap<List<Watch>> byChunk = WATCHES.remove(serverLevel.dimension());
+            if (byChunk != null) {
+                byChunk.values().forEach(watches -> watches.forEach(watch -> watch.removed = true));
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        WATCHES.clear();
+    }
+}
@@ -0,0 +1,180 @@
+package com.breakinblocks.neovitae.common.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.EntitySelector;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import com.breakinblocks.neovitae.NeoVitae;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Per-level index of player positions, bucketed by chunk.
+ *
+ * <p>Block entities and rituals that poll for nearby players query this index instead of
+ * walking the level's entity sections. The index is rebuilt from {@link ServerLevel#players()}
+ * on the first query of each game tick, so a level without player-polling blocks never builds
+ * one. Buckets only select candidates; each candidate's current bounding box is still tested
+ * against the query area, so results match {@link Level#getEntitiesOfClass} for players who
+ * have not moved more than {@link #BUCKET_MARGIN} blocks since the index was built.</p>
+ *
+ * <p>Client levels fall back to regular entity queries. Server thread only.</p>
+ */
+@EventBusSubscriber(modid = NeoVitae.MODID)
+public class PlayerProximityIndex {
+
+    // Extra distance searched around each query, covering player width and movement within a tick
+    private static final double BUCKET_MARGIN = 4;
+
+    private static final Map<ResourceKey<Level>, PlayerProximityIndex> INDEXES = new HashMap<>();
+
+    private final Long2ObjectOpenHashMap<List<ServerPlayer>> playersByChunk = new Long2ObjectOpenHashMap<>();
+    private long builtTime = Long.MIN_VALUE;
+    private boolean empty = true;
+
+    private PlayerProximityIndex() {
+    }
+
+    private static PlayerProximityIndex get(ServerLevel level) {
+        PlayerProximityIndex index = INDEXES.computeIfAbsent(level.dimension(), k -> new PlayerProximityIndex());
+        long time = level.getGameTime();
+        if (index.builtTime != time) {
+            index.rebuild(level);
+            index.builtTime = time;
+        }
+        return index;
+    }
+
+    private void rebuild(ServerLevel level) {
+        playersByChunk.clear();
+        List<ServerPlayer> players = level.players();
+        for (ServerPlayer player : players) {
+            long chunkKey = ChunkPos.asLong(SectionPos.blockToSectionCoord(player.getX()), SectionPos.blockToSectionCoord(player.getZ()));
+            playersByChunk.computeIfAbsent(chunkKey, k -> new ArrayList<>(2)).add(player);
+        }
+        empty = players.isEmpty();
+    }
+
+    /**
+     * Checks whether any non-spectator player's bounding box intersects an area.
+     */
+    public static boolean anyPlayerWithin(Level level, AABB area) {
+        if (!(level instanceof ServerLevel serverLevel)) {
+            return !level.getEntitiesOfClass(Player.class, area).isEmpty();
+        }
+        return get(serverLevel).findFirst(serverLevel, area, EntitySelector.NO_SPECTATORS) != null;
+    }
+
+    /**
+     * Checks whether any non-spectator player is within a cubic radius of a block.
+     */
+    public static boolean anyPlayerWithin(Level level, BlockPos pos, double radius) {
+        return anyPlayerWithin(level, new AABB(pos).inflate(radius));
+    }
+
+    /**
+     * Gets the non-spectator players whose bounding box intersects an area.
+     * Equivalent to {@code level.getEntitiesOfClass(Player.class, area)}.
+     */
+    public static List<Player> getPlayers(Level level, AABB area) {
+        if (!(level instanceof ServerLevel serverLevel)) {
+            return level.getEntitiesOfClass(Player.class, area);
+        }
+        return get(serverLevel).collect(serverLevel, area, EntitySelector.NO_SPECTATORS);
+    }
+
+    /**
+     * Gets the players whose bounding box intersects an area and that match a filter.
+     * Equivalent to {@code level.getEntitiesOfClass(Player.class, area, filter)}, so
+     * spectators are included unless the filter excludes them.
+     */
+    public static List<Player> getPlayers(Level level, AABB area, Predicate<? super Player> filter) {
+        if (!(level instanceof ServerLevel serverLevel)) {
+            return level.getEntitiesOfClass(Player.class, area, filter);
+        }
+        return get(serverLevel).collect(serverLevel, area, filter);
+    }
+
+    private Player findFirst(ServerLevel level, AABB area, Predicate<? super Player> filter) {
+        if (empty) {
+            return null;
+        }
+        int minX = SectionPos.blockToSectionCoord(area.minX - BUCKET_MARGIN);
+        int maxX = SectionPos.blockToSectionCoord(area.maxX + BUCKET_MARGIN);
+        int minZ = SectionPos.blockToSectionCoord(area.minZ - BUCKET_MARGIN);
+        int maxZ = SectionPos.blockToSectionCoord(area.maxZ + BUCKET_MARGIN);
+
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                List<ServerPlayer> bucket = playersByChunk.get(ChunkPos.asLong(x, z));
+                if (bucket == null) {
+                    continue;
+                }
+                for (ServerPlayer player : bucket) {
+                    if (matches(player, level, area, filter)) {
+                        return player;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private List<Player> collect(ServerLevel level, AABB area, Predicate<? super Player> filter) {
+        List<Player> result = new ArrayList<>();
+        if (empty) {
+            return result;
+        }
+        int minX = SectionPos.blockToSectionCoord(area.minX - BUCKET_MARGIN);
+        int maxX = SectionPos.blockToSectionCoord(area.maxX + BUCKET_MARGIN);
+        int minZ = SectionPos.blockToSectionCoord(area.minZ - BUCKET_MARGIN);
+        int maxZ = SectionPos.blockToSectionCoord(area.maxZ + BUCKET_MARGIN);
+
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                List<ServerPlayer> bucket = playersByChunk.get(ChunkPos.asLong(x, z));
+                if (bucket == null) {
+                    continue;
+                }
+                for (ServerPlayer player : bucket) {
+                    if (matches(player, level, area, filter)) {
+                        result.add(player);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean matches(ServerPlayer player, ServerLevel level, AABB area, Predicate<? super Player> filter) {
+        // Players changing dimension stay in their old buckets until the next rebuild
+        return !player.isRemoved() && player.level() == level && player.getBoundingBox().intersects(area) && filter.test(player);
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            INDEXES.remove(serverLevel.dimension());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        INDEXES.clear();
+    }
+}
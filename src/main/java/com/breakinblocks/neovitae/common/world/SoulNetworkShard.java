@@ -0,0 +1,143 @@
+package com.breakinblocks.neovitae.common.world;
+
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.level.saveddata.SavedData;
+import com.breakinblocks.neovitae.NeoVitae;
+import com.breakinblocks.neovitae.common.datacomponent.SoulNetwork;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * One slice of the soul network storage (see {@link SoulNetworkStorage}).
+ *
+ * <p>Networks are kept in their saved form until first looked up, and only networks whose
+ * essence changed since the last save are re-encoded; the others are written back from
+ * their cached tags. A network created by a lookup is not saved until it changes.</p>
+ *
+ * <p>Networks report changes through {@link #queueDirty}, which any thread may call; the
+ * queue is flushed once per server tick and before every save.</p>
+ */
+public class SoulNetworkShard extends SavedData {
+    public static final String ID_PREFIX = "bloodmagic_networks_";
+
+    private final Map<UUID, SoulNetwork> networks = new HashMap<>();
+    private final Map<UUID, CompoundTag> encoded = new HashMap<>();
+    private final Set<UUID> dirtyNetworks = new HashSet<>();
+    private final Queue<SoulNetwork> pendingDirty = new ConcurrentLinkedQueue<>();
+
+    public static String getId(int shard) {
+        return ID_PREFIX + Integer.toHexString(shard);
+    }
+
+    /**
+     * Gets a network without creating it.
+     */
+    @Nullable
+    public SoulNetwork getNetwork(UUID playerId) {
+        SoulNetwork network = networks.get(playerId);
+        if (network == null) {
+            CompoundTag data = encoded.get(playerId);
+            if (data != null) {
+                network = SoulNetwork.fromNBT(data, this);
+                networks.put(playerId, network);
+            }
+        }
+        return network;
+    }
+
+    /**
+     * Gets a network, creating an empty one that is only saved once it changes.
+     */
+    public SoulNetwork getOrCreateNetwork(UUID playerId) {
+        SoulNetwork network = getNetwork(playerId);
+        if (network == null) {
+            network = SoulNetwork.newEmpty(playerId, this);
+            networks.put(playerId, network);
+        }
+        return network;
+    }
+
+    /**
+     * Queues a changed network. Safe to call from any thread; the network is flagged
+     * for saving on the next {@link #flushDirty}.
+     */
+    public void queueDirty(SoulNetwork network) {
+        pendingDirty.add(network);
+    }
+
+    /**
+     * Flags every queued network to be re-encoded on the next save. Server thread only.
+     */
+    public void flushDirty() {
+        SoulNetwork network;
+        while ((network = pendingDirty.poll()) != null) {
+            network.clearDirtyQueued();
+            dirtyNetworks.add(network.getPlayerId());
+            setDirty();
+        }
+    }
+
+    @Override
+    public boolean isDirty() {
+        return super.isDirty() || !pendingDirty.isEmpty();
+    }
+
+    /**
+     * Adds a network from the old single-file storage, unless this shard already has it.
+     */
+    void importNetwork(CompoundTag data) {
+        if (!data.hasUUID("id")) {
+            return;
+        }
+        UUID playerId = data.getUUID("id");
+        if (!networks.containsKey(playerId) && encoded.putIfAbsent(playerId, data) == null) {
+            setDirty();
+        }
+    }
+
+    // ==================== Serialization ====================
+
+    @Override
+    public CompoundTag save(CompoundTag tag, HolderLookup.Provider registries) {
+        flushDirty();
+        for (UUID playerId : dirtyNetworks) {
+            SoulNetwork network = networks.get(playerId);
+            if (network != null) {
+                encoded.put(playerId, network.toNBT());
+            }
+        }
+        dirtyNetworks.clear();
+
+        ListTag networkData = new ListTag();
+        networkData.addAll(encoded.values());
+        tag.put("networkData", networkData);
+
+        return tag;
+    }
+
+    public static SoulNetworkShard load(CompoundTag tag, HolderLookup.Provider registries) {
+        SoulNetworkShard shard = new SoulNetworkShard();
+        ListTag networkData = tag.getList("networkData", Tag.TAG_COMPOUND);
+
+        for (int i = 0; i < networkData.size(); i++) {
+            CompoundTag data = networkData.getCompound(i);
+            if (data.hasUUID("id")) {
+                shard.encoded.put(data.getUUID("id"), data);
+            } else {
+                NeoVitae.LOGGER.warn("Skipping soul network without a player id in shard data");
+            }
+        }
+
+        return shard;
+    }
+}
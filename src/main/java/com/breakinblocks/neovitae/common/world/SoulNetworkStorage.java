@@ -0,0 +1,91 @@
+package com.breakinblocks.neovitae.common.world;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.saveddata.SavedData.Factory;
+import net.minecraft.world.level.storage.DimensionDataStorage;
+import com.breakinblocks.neovitae.NeoVitae;
+import com.breakinblocks.neovitae.common.datacomponent.SoulNetwork;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Soul network storage, split by player id over {@link #SHARD_COUNT} saved data files.
+ *
+ * <p>Each shard is loaded from disk the first time one of its players is looked up, and
+ * is only rewritten on autosave when one of its networks changed. Networks stored in the
+ * old single {@link BMSavedData} file are moved into the shards on first use.</p>
+ */
+public class SoulNetworkStorage {
+    public static final int SHARD_COUNT = 16;
+
+    private static final Factory<SoulNetworkShard> SHARD_FACTORY = new Factory<>(SoulNetworkShard::new, SoulNetworkShard::load);
+    private static final Factory<BMSavedData> LEGACY_FACTORY = new Factory<>(BMSavedData::new, BMSavedData::load);
+
+    private final DimensionDataStorage dataStorage;
+    private final SoulNetworkShard[] shards = new SoulNetworkShard[SHARD_COUNT];
+
+    public SoulNetworkStorage(DimensionDataStorage dataStorage) {
+        this.dataStorage = dataStorage;
+        migrateLegacyData();
+    }
+
+    /**
+     * Gets a network without creating it.
+     *
+     * @return The network, or null if the player never had one
+     */
+    @Nullable
+    public SoulNetwork getNetwork(UUID playerId) {
+        return getShard(playerId).getNetwork(playerId);
+    }
+
+    /**
+     * Gets a network, creating an empty one if needed. A created network is only saved
+     * once its essence changes.
+     */
+    public SoulNetwork getOrCreateNetwork(UUID playerId) {
+        return getShard(playerId).getOrCreateNetwork(playerId);
+    }
+
+    /**
+     * Moves networks changed since the last call into their shard's save set.
+     */
+    public void flushDirty() {
+        for (SoulNetworkShard shard : shards) {
+            if (shard != null) {
+                shard.flushDirty();
+            }
+        }
+    }
+
+    private SoulNetworkShard getShard(UUID playerId) {
+        int index = Math.floorMod(playerId.hashCode(), SHARD_COUNT);
+        SoulNetworkShard shard = shards[index];
+        if (shard == null) {
+            shard = dataStorage.computeIfAbsent(SHARD_FACTORY, SoulNetworkShard.getId(index));
+            shards[index] = shard;
+        }
+        return shard;
+    }
+
+    private void migrateLegacyData() {
+        BMSavedData legacy = dataStorage.get(LEGACY_FACTORY, BMSavedData.ID);
+        if (legacy == null) {
+            return;
+        }
+
+        List<CompoundTag> legacyNetworks = legacy.drainNetworkData();
+        if (legacyNetworks.isEmpty()) {
+            return;
+        }
+
+        for (CompoundTag data : legacyNetworks) {
+            if (data.hasUUID("id")) {
+                getShard(data.getUUID("id")).importNetwork(data);
+            }
+        }
+        NeoVitae.LOGGER.info("Moved {} soul networks from '{}' into sharded storage", legacyNetworks.size(), BMSavedData.ID);
+    }
+}
@@ -0,0 +1,320 @@
+package com.breakinblocks.neovitae.common.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtUtils;
+import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.saveddata.SavedData;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import com.breakinblocks.neovitae.NeoVitae;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-level expiry timers for temporary blocks (phantom bridges and spectral blocks).
+ *
+ * <p>Each timed block has an entry holding the block it expects to find, the state to restore
+ * when it expires and its expiry game time. Entries are queued on a timer wheel with one slot
+ * per tick, so only the slot for the current tick is visited. Refreshing a timer just moves
+ * its expiry later: the entry stays in its slot, and is moved to the slot of its new expiry
+ * when the old one comes up. A block refreshed every tick is therefore only touched once per
+ * duration. Expiries further away than the wheel covers are carried forward a lap at a time.</p>
+ *
+ * <p>Entries are saved with the level, so timers keep running while their chunk is unloaded.
+ * Blocks that expire in an unloaded chunk are retried every few seconds until it is loaded again.
+ * Server thread only.</p>
+ */
+@EventBusSubscriber(modid = NeoVitae.MODID)
+public class TemporaryBlockTimers extends SavedData {
+    public static final String ID = "neovitae_temporary_blocks";
+
+    private static final int WHEEL_SIZE = 256;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    // How long to wait before retrying an expired block whose chunk is not loaded
+    private static final int UNLOADED_RETRY_DELAY = 100;
+
+    private static final Factory<TemporaryBlockTimers> FACTORY = new Factory<>(TemporaryBlockTimers::new, TemporaryBlockTimers::load);
+    private static final Map<ResourceKey<Level>, TemporaryBlockTimers> LOADED = new HashMap<>();
+
+    private final Long2ObjectOpenHashMap<Entry> entries = new Long2ObjectOpenHashMap<>();
+    private final LongArrayList[] wheel = new LongArrayList[WHEEL_SIZE];
+    private long lastProcessedTick = Long.MIN_VALUE;
+
+    private static final class Entry {
+        private final Block block;
+        private BlockState restoreState;
+        private long expiry;
+        // Tick whose wheel slot currently holds this entry
+        private long queuedAt;
+
+        private Entry(Block block, BlockState restoreState, long expiry) {
+            this.block = block;
+            this.restoreState = restoreState;
+            this.expiry = expiry;
+        }
+    }
+
+    public TemporaryBlockTimers() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new LongArrayList();
+        }
+    }
+
+    /**
+     * Gets the timers of a level, loading them if needed.
+     */
+    public static TemporaryBlockTimers get(ServerLevel level) {
+        return LOADED.computeIfAbsent(level.dimension(), k -> level.getDataStorage().computeIfAbsent(FACTORY, ID));
+    }
+
+    /**
+     * Starts or replaces the timer of a temporary block. When it expires, the block at
+     * {@code pos} is replaced with {@code restoreState} if it is still {@code block}.
+     */
+    public void schedule(ServerLevel level, BlockPos pos, Block block, BlockState restoreState, int duration) {
+        schedule(level.getGameTime(), pos.asLong(), block, restoreState, duration);
+    }
+
+    void schedule(long now, long key, Block block, BlockState restoreState, int duration) {
+        long expiry = now + Math.max(duration, 1);
+        Entry entry = entries.get(key);
+        if (entry == null || entry.block != block) {
+            if (entries.isEmpty()) {
+                // Levels without timers are not ticked, so the wheel position is stale; its
+                // catch-up walk could clear the new entry's slot before reaching its tick
+                lastProcessedTick = now - 1;
+            }
+            entry = new Entry(block, restoreState, expiry);
+            entries.put(key, entry);
+            queue(key, entry, now);
+        } else {
+            entry.restoreState = restoreState;
+            setExpiry(key, entry, expiry, now);
+        }
+        setDirty();
+    }
+
+    /**
+     * Resets the remaining time of an existing timer.
+     *
+     * @return false if the block has no timer
+     */
+    public boolean refresh(ServerLevel level, BlockPos pos, int duration) {
+        long key = pos.asLong();
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return false;
+        }
+        setExpiry(key, entry, level.getGameTime() + Math.max(duration, 1), level.getGameTime());
+        setDirty();
+        return true;
+    }
+
+    /**
+     * Gets the ticks left before a temporary block expires, or 0 if it has no timer.
+     */
+    public int getRemaining(ServerLevel level, BlockPos pos) {
+        Entry entry = entries.get(pos.asLong());
+        return entry == null ? 0 : (int) Math.max(entry.expiry - level.getGameTime(), 0);
+    }
+
+    public boolean has(BlockPos pos) {
+        return entries.containsKey(pos.asLong());
+    }
+
+    boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Drops the timer of a block without restoring anything. Its wheel slot is skipped lazily.
+     */
+    public void cancel(BlockPos pos) {
+        if (entries.remove(pos.asLong()) != null) {
+            setDirty();
+        }
+    }
+
+    private void setExpiry(long key, Entry entry, long expiry, long now) {
+        entry.expiry = expiry;
+        // Later expiries are picked up when the current slot comes up; earlier ones need a new slot
+        if (expiry < entry.queuedAt) {
+            queue(key, entry, now);
+        }
+    }
+
+    private void queue(long key, Entry entry, long now) {
+        long tick = Math.max(Math.min(entry.expiry, now + WHEEL_SIZE - 1), now + 1);
+        entry.queuedAt = tick;
+        wheel[(int) (tick & WHEEL_MASK)].add(key);
+    }
+
+    /**
+     * What happens to blocks whose timer runs out.
+     */
+    interface Expiry {
+        /**
+         * Whether the block can be restored now; otherwise it is retried later.
+         */
+        boolean canExpire(long key);
+
+        void expire(long key, Block block, @Nullable BlockState restoreState);
+    }
+
+    private void tick(ServerLevel level) {
+        tick(level.getGameTime(), new Expiry() {
+            @Override
+            public boolean canExpire(long key) {
+                return level.isLoaded(BlockPos.of(key));
+            }
+
+            @Override
+            public void expire(long key, Block block, @Nullable BlockState restoreState) {
+                BlockPos pos = BlockPos.of(key);
+                if (level.getBlockState(pos).is(block)) {
+                    restore(level, pos, restoreState);
+                }
+            }
+        });
+    }
+
+    void tick(long now, Expiry expiry) {
+        if (lastProcessedTick == Long.MIN_VALUE || now - lastProcessedTick > WHEEL_SIZE || now < lastProcessedTick) {
+            requeueAll(now);
+            lastProcessedTick = now - 1;
+        }
+
+        for (long tick = lastProcessedTick + 1; tick <= now; tick++) {
+            LongArrayList slot = wheel[(int) (tick & WHEEL_MASK)];
+            if (slot.isEmpty()) {
+                continue;
+            }
+            long[] keys = slot.toLongArray();
+            slot.clear();
+            for (long key : keys) {
+                Entry entry = entries.get(key);
+                // Cancelled, or since moved to another slot
+                if (entry == null || entry.queuedAt != tick) {
+                    continue;
+                }
+                if (entry.expiry > now) {
+                    queue(key, entry, now);
+                } else {
+                    expire(expiry, key, entry, now);
+                }
+            }
+        }
+        lastProcessedTick = now;
+    }
+
+    private void requeueAll(long now) {
+        for (LongArrayList slot : wheel) {
+            slot.clear();
+        }
+        for (Long2ObjectMap.Entry<Entry> mapEntry : entries.long2ObjectEntrySet()) {
+            queue(mapEntry.getLongKey(), mapEntry.getValue(), now);
+        }
+    }
+
+    private void expire(Expiry expiry, long key, Entry entry, long now) {
+        if (!expiry.canExpire(key)) {
+            entry.queuedAt = now + UNLOADED_RETRY_DELAY;
+            wheel[(int) (entry.queuedAt & WHEEL_MASK)].add(key);
+            return;
+        }
+
+        entries.remove(key);
+        setDirty();
+        expiry.expire(key, entry.block, entry.restoreState);
+    }
+
+    /**
+     * Replaces a temporary block with the state it was hiding, or air if there was none.
+     */
+    public static void restore(Level level, BlockPos pos, @Nullable BlockState restoreState) {
+        if (restoreState != null && !restoreState.isAir()) {
+            level.setBlock(pos, restoreState, Block.UPDATE_ALL);
+        } else {
+            level.removeBlock(pos, false);
+        }
+    }
+
+    @Override
+    public CompoundTag save(CompoundTag tag, HolderLookup.Provider registries) {
+        ListTag list = new ListTag();
+        for (Long2ObjectMap.Entry<Entry> mapEntry : entries.long2ObjectEntrySet()) {
+            Entry entry = mapEntry.getValue();
+            CompoundTag entryTag = new CompoundTag();
+            entryTag.putLong("pos", mapEntry.getLongKey());
+            entryTag.putString("block", BuiltInRegistries.BLOCK.getKey(entry.block).toString());
+            entryTag.put("restoreState", NbtUtils.writeBlockState(entry.restoreState));
+            entryTag.putLong("expiry", entry.expiry);
+            list.add(entryTag);
+        }
+        tag.put("timers", list);
+        return tag;
+    }
+
+    public static TemporaryBlockTimers load(CompoundTag tag, HolderLookup.Provider registries) {
+        TemporaryBlockTimers timers = new TemporaryBlockTimers();
+        ListTag list = tag.getList("timers", Tag.TAG_COMPOUND);
+        for (int i = 0; i < list.size(); i++) {
+            CompoundTag entryTag = list.getCompound(i);
+            ResourceLocation blockId = ResourceLocation.tryParse(entryTag.getString("block"));
+            if (blockId == null || !BuiltInRegistries.BLOCK.containsKey(blockId)) {
+                continue;
+            }
+            BlockState restoreState = NbtUtils.readBlockState(BuiltInRegistries.BLOCK.asLookup(), entryTag.getCompound("restoreState"));
+            timers.entries.put(entryTag.getLong("pos"), new Entry(BuiltInRegistries.BLOCK.get(blockId), restoreState, entryTag.getLong("expiry")));
+        }
+        // The wheel is rebuilt on the first tick
+        return timers;
+    }
+
+    @SubscribeEvent
+    public static void onLevelLoad(LevelEvent.Load event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            get(serverLevel);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            TemporaryBlockTimers timers = LOADED.get(serverLevel.dimension());
+            if (timers != null && !timers.isEmpty()) {
+                timers.tick(serverLevel);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            LOADED.remove(serverLevel.dimension());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        LOADED.clear();
+    }
+}
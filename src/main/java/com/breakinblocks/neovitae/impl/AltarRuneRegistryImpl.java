@@ -6,6 +6,7 @@ import com.breakinblocks.neovitae.NeoVitae;
 import com.breakinblocks.neovitae.api.altar.rune.EnumAltarRuneType;
 import com.breakinblocks.neovitae.api.altar.rune.IAltarRuneRegistry;
 import com.breakinblocks.neovitae.api.altar.rune.IAltarRuneType;
+import com.breakinblocks.neovitae.common.datamap.AltarRuneStatTable;
 
 import javax.annotation.Nullable;
 import java.util.*;
@@ -120,6 +121,7 @@ public class AltarRuneRegistryImpl implements IAltarRuneRegistry {
         }
 
         blockToRunes.computeIfAbsent(block, k -> new ConcurrentHashMap<>()).put(runeType, amount);
+        AltarRuneStatTable.invalidate();
 
         NeoVitae.LOGGER.info("Registered block {} (hash={}) as rune {} with amount {}",
                 block, System.identityHashCode(block), runeType.getId(), amount);
@@ -171,6 +173,7 @@ public class AltarRuneRegistryImpl implements IAltarRuneRegistry {
         runeTypesById.clear();
         runeTypesByName.clear();
         blockToRunes.clear();
+        AltarRuneStatTable.invalidate();
 
         for (EnumAltarRuneType builtIn : EnumAltarRuneType.values()) {
             runeTypesById.put(builtIn.getId(), builtIn);
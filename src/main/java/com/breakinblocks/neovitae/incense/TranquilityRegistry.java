@@ -1,15 +1,25 @@
 package com.breakinblocks.neovitae.incense;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
 import net.minecraft.tags.TagKey;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.CropBlock;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.material.Fluids;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+import net.neoforged.neoforge.registries.datamaps.DataMapsUpdatedEvent;
+import com.breakinblocks.neovitae.NeoVitae;
 import com.breakinblocks.neovitae.common.datamap.TranquilityHelper;
 import com.breakinblocks.neovitae.common.tag.BMTags;
 
+import java.util.Arrays;
+
 /**
  * Registry for determining tranquility values of blocks.
  *
@@ -28,8 +38,12 @@ import com.breakinblocks.neovitae.common.tag.BMTags;
  * <p>When a block matches multiple tags in the datamap, the entry with the
  * <b>highest value</b> is used.</p>
  */
+@EventBusSubscriber(modid = NeoVitae.MODID)
 public class TranquilityRegistry {
 
+    private static volatile byte[] pathLevels = null;
+    private static volatile int generation = 0;
+
     /**
      * Gets the tranquility stack for a block at a position.
      * First checks the datamap, then falls back to fluid/crop detection.
@@ -66,23 +80,56 @@ public class TranquilityRegistry {
      * Gets the incense path level for a block using tags.
      * Higher levels work at greater distances from the altar.
      *
+     * <p>Reads a table built from the {@code INCENSE_PATH_LEVEL_*} tags, indexed by block
+     * registry id. The table is rebuilt lazily after tags are reloaded.</p>
+     *
      * @param state The block state
      * @return The path level (0-10), or -1 if not a path block
      */
     public static int getPathLevel(BlockState state) {
-        // Check from highest to lowest level
-        if (state.is(BMTags.Blocks.INCENSE_PATH_LEVEL_10)) return 10;
-        if (state.is(BMTags.Blocks.INCENSE_PATH_LEVEL_9)) return 9;
-        if (state.is(BMTags.Blocks.INCENSE_PATH_LEVEL_8)) return 8;
-        if (state.is(BMTags.Blocks.INCENSE_PATH_LEVEL_7)) return 7;
-        if (state.is(BMTags.Blocks.INCENSE_PATH_LEVEL_6)) return 6;
-        if (state.is(BMTags.Blocks.INCENSE_PATH_LEVEL_5)) return 5;
-        if (state.is(BMTags.Blocks.INCENSE_PATH_LEVEL_4)) return 4;
-        if (state.is(BMTags.Blocks.INCENSE_PATH_LEVEL_3)) return 3;
-        if (state.is(BMTags.Blocks.INCENSE_PATH_LEVEL_2)) return 2;
-        if (state.is(BMTags.Blocks.INCENSE_PATH_LEVEL_1)) return 1;
-        if (state.is(BMTags.Blocks.INCENSE_PATH_LEVEL_0)) return 0;
-        return -1;
+        byte[] table = pathLevels;
+        if (table == null) {
+            table = buildPathLevels();
+            pathLevels = table;
+        }
+        int id = BuiltInRegistries.BLOCK.getId(state.getBlock());
+        return id >= 0 && id < table.length ? table[id] : -1;
+    }
+
+    /**
+     * Incremented whenever path levels or tranquility values may have changed, so altars
+     * know their cached results are stale.
+     */
+    public static int getGeneration() {
+        return generation;
+    }
+
+    private static byte[] buildPathLevels() {
+        byte[] table = new byte[BuiltInRegistries.BLOCK.size()];
+        Arrays.fill(table, (byte) -1);
+
+        // Tags are in ascending level order, so the highest matching level wins
+        TagKey<Block>[] tags = getPathLevelTags();
+        for (int level = 0; level < tags.length; level++) {
+            for (Holder<Block> holder : BuiltInRegistries.BLOCK.getTagOrEmpty(tags[level])) {
+                int id = BuiltInRegistries.BLOCK.getId(holder.value());
+                if (id >= 0 && id < table.length) {
+                    table[id] = (byte) level;
+                }
+            }
+        }
+        return table;
+    }
+
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        pathLevels = null;
+        generation++;
+    }
+
+    @SubscribeEvent
+    public static void onDataMapsUpdated(DataMapsUpdatedEvent event) {
+        event.ifRegistry(Registries.BLOCK, registry -> generation++);
     }
 
     /**
@@ -0,0 +1,25 @@
+package com.breakinblocks.neovitae.mixin;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import com.breakinblocks.neovitae.common.world.BlockChangeTracker;
+
+/**
+ * Mixin to feed block state changes into the {@link BlockChangeTracker}.
+ * <p>
+ * {@code onBlockStateChange} runs for every successful state change in a server level
+ * regardless of the update flags used, which NeoForge's neighbor-notify event does not.
+ */
+@Mixin(ServerLevel.class)
+public class ServerLevelMixin {
+
+    @Inject(method = "onBlockStateChange", at = @At("HEAD"))
+    private void neovitae$trackBlockChange(BlockPos pos, BlockState blockState, BlockState newState, CallbackInfo ci) {
+        BlockChangeTracker.onBlockStateChange((ServerLevel) (Object) this, pos, blockState, newState);
+    }
+}
@@ -11,6 +11,7 @@ import com.breakinblocks.neovitae.common.datacomponent.EnumWillType;
 import com.breakinblocks.neovitae.common.datacomponent.SoulNetwork;
 import com.breakinblocks.neovitae.util.helper.SoulNetworkHelper;
 
+import javax.annotation.Nullable;
 import java.util.Map;
 import java.util.UUID;
 
@@ -136,6 +137,21 @@ public interface IMasterRitualStone {
      */
     void setBlockRanges(Map<String, AreaDescriptor> ranges);
 
+    /**
+     * Gets where the last scan of the given range stopped, as an offset from this stone.
+     *
+     * @return The last scanned offset, or null if the next scan starts from the beginning
+     */
+    @Nullable
+    BlockPos getScanCursor(String key);
+
+    /**
+     * Records where a scan of the given range stopped so the next cycle can resume after it.
+     *
+     * @param offset The last scanned offset, or null to restart from the beginning
+     */
+    void setScanCursor(String key, @Nullable BlockPos offset);
+
     /**
      * @return The current demon will type configuration
      */
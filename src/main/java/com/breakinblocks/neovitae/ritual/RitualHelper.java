@@ -2,14 +2,18 @@ package com.breakinblocks.neovitae.ritual;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.AABB;
+import com.breakinblocks.neovitae.NeoVitae;
 import com.breakinblocks.neovitae.api.ritual.AreaDescriptor;
 import com.breakinblocks.neovitae.common.datacomponent.SoulNetwork;
+import com.breakinblocks.neovitae.common.world.PlayerProximityIndex;
 
 import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Utility class providing common operations used by rituals.
@@ -118,11 +122,94 @@ public final class RitualHelper {
         return range != null ? range.getContainedPositions(masterPos) : Collections.emptyList();
     }
 
+    /**
+     * Visits the positions of a range without building a position list, handling the
+     * fallback logic. The visited position is mutable and only valid during the call.
+     *
+     * @param masterRitualStone the master ritual stone
+     * @param ritual the ritual
+     * @param rangeKey the key identifying the range
+     * @param masterPos the position of the master ritual stone
+     * @param visitor called for each position; returns false to stop
+     * @return false if the visitor stopped early, true otherwise (including a missing range)
+     */
+    public static boolean forEachRangePosition(IMasterRitualStone masterRitualStone, Ritual ritual,
+            String rangeKey, BlockPos masterPos, AreaDescriptor.PositionVisitor visitor) {
+        AreaDescriptor range = getEffectiveRange(masterRitualStone, ritual, rangeKey);
+        return range == null || range.forEachPosition(masterPos, visitor);
+    }
+
+    /**
+     * Creates a chunk-section-ordered cursor over a range, handling the fallback logic.
+     *
+     * @param masterRitualStone the master ritual stone
+     * @param ritual the ritual
+     * @param rangeKey the key identifying the range
+     * @param masterPos the position of the master ritual stone
+     * @return a new cursor, or null if range not found
+     */
+    @Nullable
+    public static AreaDescriptor.PositionCursor getRangeCursor(IMasterRitualStone masterRitualStone, Ritual ritual,
+            String rangeKey, BlockPos masterPos) {
+        AreaDescriptor range = getEffectiveRange(masterRitualStone, ritual, rangeKey);
+        return range != null ? range.cursor(masterPos) : null;
+    }
+
+    /**
+     * Creates a cursor over a range that resumes after the position where the previous
+     * scan of that range stopped. Pair with {@link #saveRangeCursor} once the cycle's
+     * budget (see {@link #getScanBudget}) is spent.
+     *
+     * @param masterRitualStone the master ritual stone
+     * @param ritual the ritual
+     * @param rangeKey the key identifying the range
+     * @param masterPos the position of the master ritual stone
+     * @return a cursor positioned after the last scanned block, or null if range not found
+     */
+    @Nullable
+    public static AreaDescriptor.PositionCursor resumeRangeCursor(IMasterRitualStone masterRitualStone, Ritual ritual,
+            String rangeKey, BlockPos masterPos) {
+        AreaDescriptor.PositionCursor cursor = getRangeCursor(masterRitualStone, ritual, rangeKey, masterPos);
+        BlockPos lastOffset = masterRitualStone.getScanCursor(rangeKey);
+        if (cursor != null && lastOffset != null) {
+            cursor.seekAfter(lastOffset.getX(), lastOffset.getY(), lastOffset.getZ());
+        }
+        return cursor;
+    }
+
+    /**
+     * Stores where a resumed scan stopped. A finished cursor makes the next scan start over.
+     *
+     * @param masterRitualStone the master ritual stone
+     * @param rangeKey the key identifying the range
+     * @param cursor the cursor returned by {@link #resumeRangeCursor}
+     */
+    public static void saveRangeCursor(IMasterRitualStone masterRitualStone, String rangeKey,
+            AreaDescriptor.PositionCursor cursor) {
+        masterRitualStone.setScanCursor(rangeKey, cursor.getLastOffset());
+    }
+
+    /**
+     * Gets how many positions a ritual may inspect in one cycle: the configured blocks per
+     * tick times the ritual's refresh time.
+     *
+     * @param ritual the ritual
+     * @return the number of positions to scan, or Integer.MAX_VALUE if unlimited
+     */
+    public static int getScanBudget(Ritual ritual) {
+        int perTick = NeoVitae.SERVER_CONFIG.RITUAL_SCAN_BLOCKS_PER_TICK.get();
+        if (perTick <= 0) {
+            return Integer.MAX_VALUE;
+        }
+        return (int) Math.min((long) perTick * Math.max(1, ritual.getRefreshTime()), Integer.MAX_VALUE);
+    }
+
     // ENTITY OPERATIONS 
     
 
     /**
      * Gets all entities of a specific type within a ritual's range.
+     * Player lookups are served by the {@link PlayerProximityIndex}.
      *
      * @param context the ritual context
      * @param ritual the ritual
@@ -136,6 +223,11 @@ public final class RitualHelper {
         if (aabb == null) {
             return Collections.emptyList();
         }
+        if (entityClass == Player.class) {
+            @SuppressWarnings("unchecked")
+            List<T> players = (List<T>) PlayerProximityIndex.getPlayers(context.level(), aabb);
+            return players;
+        }
         return context.level().getEntitiesOfClass(entityClass, aabb);
     }
 
@@ -150,11 +242,16 @@ public final class RitualHelper {
      * @return list of filtered entities in range
      */
     public static <T extends Entity> List<T> getEntitiesInRange(RitualContext context, Ritual ritual,
-            String rangeKey, Class<T> entityClass, java.util.function.Predicate<T> filter) {
+            String rangeKey, Class<T> entityClass, Predicate<T> filter) {
         AABB aabb = getRangeAABB(context.master(), ritual, rangeKey, context.masterPos());
         if (aabb == null) {
             return Collections.emptyList();
         }
+        if (entityClass == Player.class) {
+            @SuppressWarnings("unchecked")
+            List<T> players = (List<T>) PlayerProximityIndex.getPlayers(context.level(), aabb, (Predicate<Player>) filter);
+            return players;
+        }
         return context.level().getEntitiesOfClass(entityClass, aabb, filter);
     }
 
@@ -0,0 +1,170 @@
+package com.breakinblocks.neovitae.ritual;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import com.breakinblocks.neovitae.NeoVitae;
+import com.breakinblocks.neovitae.common.blockentity.MasterRitualStoneTile;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-level scheduler for ritual refreshes.
+ *
+ * <p>Master ritual stones no longer perform their ritual directly from their tick. Each
+ * stone refreshes at a phase derived from its position, so stones activated on the same
+ * tick stop firing together, and a due stone is queued here. At the end of every level
+ * tick the queue is drained in order until the configured time budget is spent; stones
+ * that did not fit stay at the front of the queue and run first on the next tick.</p>
+ *
+ * <p>Execution times are recorded per ritual for {@code /bm-ritual profile}. Server
+ * thread only.</p>
+ */
+@EventBusSubscriber(modid = NeoVitae.MODID)
+public final class RitualScheduler {
+
+    private static final Map<ResourceKey<Level>, ReferenceLinkedOpenHashSet<MasterRitualStoneTile>> QUEUES = new HashMap<>();
+    private static final Map<ResourceLocation, Profile> PROFILES = new HashMap<>();
+    private static long deferredRuns = 0;
+
+    private RitualScheduler() {
+    }
+
+    /**
+     * Execution statistics for one ritual type.
+     */
+    public static final class Profile {
+        private long runs;
+        private long totalNanos;
+        private long maxNanos;
+
+        private void record(long nanos) {
+            runs++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        public long getRuns() {
+            return runs;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getAverageNanos() {
+            return runs > 0 ? totalNanos / runs : 0;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+    }
+
+    /**
+     * Gets the tick offset at which a stone at the given position refreshes.
+     *
+     * @param pos The master ritual stone's position
+     * @param refreshTime The ritual's refresh time
+     * @return A stable phase in [0, refreshTime)
+     */
+    public static int getPhase(BlockPos pos, int refreshTime) {
+        return refreshTime <= 1 ? 0 : (int) Math.floorMod(HashCommon.mix(pos.asLong()), (long) refreshTime);
+    }
+
+    /**
+     * Queues a ritual refresh for the end of the current level tick. A stone that is still
+     * waiting from an earlier tick is not queued twice.
+     */
+    public static void schedule(ServerLevel level, MasterRitualStoneTile tile) {
+        QUEUES.computeIfAbsent(level.dimension(), k -> new ReferenceLinkedOpenHashSet<>()).add(tile);
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (!(event.getLevel() instanceof ServerLevel serverLevel)) {
+            return;
+        }
+        ReferenceLinkedOpenHashSet<MasterRitualStoneTile> queue = QUEUES.get(serverLevel.dimension());
+        if (queue == null || queue.isEmpty()) {
+            return;
+        }
+
+        long budget = NeoVitae.SERVER_CONFIG.RITUAL_TICK_BUDGET_MICROS.get() * 1000L;
+        long tickStart = System.nanoTime();
+        boolean ranAny = false;
+
+        while (!queue.isEmpty()) {
+            // Always make progress, even if a single ritual exceeds the budget
+            if (budget > 0 && ranAny && System.nanoTime() - tickStart >= budget) {
+                deferredRuns += queue.size();
+                return;
+            }
+
+            MasterRitualStoneTile tile = queue.removeFirst();
+            ResourceLocation ritualId = tile.getCurrentRitualId();
+            if (tile.isRemoved() || tile.getLevel() != serverLevel || !tile.isActive() || ritualId == null) {
+                continue;
+            }
+
+            long start = System.nanoTime();
+            tile.performRitual();
+            PROFILES.computeIfAbsent(ritualId, k -> new Profile()).record(System.nanoTime() - start);
+            ranAny = true;
+        }
+    }
+
+    /**
+     * Gets the recorded execution statistics, keyed by ritual id.
+     */
+    public static Map<ResourceLocation, Profile> getProfiles() {
+        return Collections.unmodifiableMap(PROFILES);
+    }
+
+    /**
+     * Number of times a due ritual had to wait for a later tick because the budget was spent.
+     */
+    public static long getDeferredRuns() {
+        return deferredRuns;
+    }
+
+    /**
+     * Number of ritual refreshes currently waiting to run.
+     */
+    public static int getQueuedRuns() {
+        int queued = 0;
+        for (ReferenceLinkedOpenHashSet<MasterRitualStoneTile> queue : QUEUES.values()) {
+            queued += queue.size();
+        }
+        return queued;
+    }
+
+    public static void resetProfiles() {
+        PROFILES.clear();
+        deferredRuns = 0;
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            QUEUES.remove(serverLevel.dimension());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        QUEUES.clear();
+        resetProfiles();
+    }
+}
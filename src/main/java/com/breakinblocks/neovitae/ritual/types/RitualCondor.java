@@ -7,6 +7,7 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.AABB;
 import com.breakinblocks.neovitae.NeoVitae;
 import com.breakinblocks.neovitae.common.effect.BMMobEffects;
+import com.breakinblocks.neovitae.common.world.PlayerProximityIndex;
 import com.breakinblocks.neovitae.api.ritual.AreaDescriptor;
 import com.breakinblocks.neovitae.ritual.*;
 import com.breakinblocks.neovitae.ritual.RitualHelper.RitualContext;
@@ -60,7 +61,7 @@ public class RitualCondor extends Ritual {
 
         // Remove flight effect from players when ritual stops
         AABB aabb = range.getAABB(masterPos);
-        List<Player> players = level.getEntitiesOfClass(Player.class, aabb);
+        List<Player> players = PlayerProximityIndex.getPlayers(level, aabb);
         for (Player player : players) {
             player.removeEffect(BMMobEffects.FLIGHT);
             // Disable active flying when effect is removed (attribute modifier handles mayfly permission)
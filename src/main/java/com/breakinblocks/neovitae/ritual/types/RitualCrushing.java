@@ -11,7 +11,6 @@ import com.breakinblocks.neovitae.ritual.*;
 import com.breakinblocks.neovitae.ritual.RitualHelper.RitualContext;
 import com.breakinblocks.neovitae.util.helper.BlockProtectionHelper;
 
-import java.util.List;
 import java.util.UUID;
 import java.util.function.Consumer;
 
@@ -36,14 +35,16 @@ public class RitualCrushing extends Ritual {
 
         if (!(ctx.level() instanceof ServerLevel)) return;
 
-        List<BlockPos> positions = RitualHelper.getRangePositions(ctx.master(), this, CRUSH_RANGE, ctx.masterPos());
+        AreaDescriptor.PositionCursor cursor = RitualHelper.resumeRangeCursor(ctx.master(), this, CRUSH_RANGE, ctx.masterPos());
+        if (cursor == null) return;
+
         int blocksCrushed = 0;
         int maxBlocks = ctx.maxOperations(getRefreshCost());
+        int scanBudget = RitualHelper.getScanBudget(this);
         UUID owner = ctx.master().getOwner();
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
 
-        for (BlockPos pos : positions) {
-            if (blocksCrushed >= maxBlocks) break;
-
+        while (blocksCrushed < maxBlocks && scanBudget-- > 0 && cursor.next(pos)) {
             BlockState state = ctx.level().getBlockState(pos);
             Block block = state.getBlock();
 
@@ -51,11 +52,12 @@ public class RitualCrushing extends Ritual {
             Block result = getCrushResult(block);
             if (result != null) {
                 // Check protection before replacing block
-                if (BlockProtectionHelper.tryReplaceBlock(ctx.level(), pos, result.defaultBlockState(), owner)) {
+                if (BlockProtectionHelper.tryReplaceBlock(ctx.level(), pos.immutable(), result.defaultBlockState(), owner)) {
                     blocksCrushed++;
                 }
             }
         }
+        RitualHelper.saveRangeCursor(ctx.master(), CRUSH_RANGE, cursor);
 
         ctx.syphon(getRefreshCost() * blocksCrushed);
     }
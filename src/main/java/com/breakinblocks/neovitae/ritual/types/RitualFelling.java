@@ -3,6 +3,7 @@ package com.breakinblocks.neovitae.ritual.types;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.tags.BlockTags;
+import net.minecraft.tags.TagKey;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 import com.breakinblocks.neovitae.NeoVitae;
@@ -35,46 +36,50 @@ public class RitualFelling extends Ritual {
 
         if (!(ctx.level() instanceof ServerLevel)) return;
 
-        List<BlockPos> positions = RitualHelper.getRangePositions(ctx.master(), this, FELL_RANGE, ctx.masterPos());
+        AreaDescriptor.PositionCursor cursor = RitualHelper.resumeRangeCursor(ctx.master(), this, FELL_RANGE, ctx.masterPos());
+        if (cursor == null) return;
+
         UUID owner = ctx.master().getOwner();
-        int blocksBroken = 0;
         int maxBlocks = Math.min(ctx.maxOperations(getRefreshCost()), MAX_BLOCKS_PER_OPERATION);
+        int scanBudget = RitualHelper.getScanBudget(this);
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        List<BlockPos> logs = new ArrayList<>();
+        List<BlockPos> leaves = new ArrayList<>();
 
-        // Find and break logs first, then leaves
-        for (BlockPos pos : positions) {
-            if (blocksBroken >= maxBlocks) break;
-
+        // Collect logs and leaves, resuming where the last cycle stopped
+        while (logs.size() < maxBlocks && scanBudget-- > 0 && cursor.next(pos)) {
             BlockState state = ctx.level().getBlockState(pos);
             if (state.is(BlockTags.LOGS)) {
-                // Check protection before breaking
-                if (BlockProtectionHelper.canBreakBlock(ctx.level(), pos, owner)) {
-                    Block.dropResources(state, ctx.level(), pos);
-                    ctx.level().destroyBlock(pos, false);
-                    blocksBroken++;
-                }
+                logs.add(pos.immutable());
+            } else if (state.is(BlockTags.LEAVES) && leaves.size() < maxBlocks) {
+                leaves.add(pos.immutable());
             }
         }
+        RitualHelper.saveRangeCursor(ctx.master(), FELL_RANGE, cursor);
 
-        // If we still have capacity, break leaves
-        if (blocksBroken < maxBlocks) {
-            for (BlockPos pos : positions) {
-                if (blocksBroken >= maxBlocks) break;
-
-                BlockState state = ctx.level().getBlockState(pos);
-                if (state.is(BlockTags.LEAVES)) {
-                    // Check protection before breaking
-                    if (BlockProtectionHelper.canBreakBlock(ctx.level(), pos, owner)) {
-                        Block.dropResources(state, ctx.level(), pos);
-                        ctx.level().destroyBlock(pos, false);
-                        blocksBroken++;
-                    }
-                }
-            }
+        // Break logs first, then leaves if we still have capacity
+        int blocksBroken = fellBlocks(ctx, BlockProtectionHelper.canBreakBlocks(ctx.level(), owner, logs), BlockTags.LOGS, maxBlocks);
+        if (blocksBroken < maxBlocks && !leaves.isEmpty()) {
+            blocksBroken += fellBlocks(ctx, BlockProtectionHelper.canBreakBlocks(ctx.level(), owner, leaves), BlockTags.LEAVES, maxBlocks - blocksBroken);
         }
 
         ctx.syphon(getRefreshCost() * blocksBroken);
     }
 
+    private static int fellBlocks(RitualContext ctx, List<BlockPos> positions, TagKey<Block> tag, int maxBlocks) {
+        int blocksBroken = 0;
+        for (int i = 0; i < positions.size() && blocksBroken < maxBlocks; i++) {
+            BlockPos pos = positions.get(i);
+            BlockState state = ctx.level().getBlockState(pos);
+            if (state.is(tag)) {
+                Block.dropResources(state, ctx.level(), pos);
+                ctx.level().destroyBlock(pos, false);
+                blocksBroken++;
+            }
+        }
+        return blocksBroken;
+    }
+
     @Override
     public int getRefreshTime() {
         return 20;
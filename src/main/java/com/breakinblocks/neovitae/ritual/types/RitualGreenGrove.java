@@ -9,7 +9,6 @@ import com.breakinblocks.neovitae.api.ritual.AreaDescriptor;
 import com.breakinblocks.neovitae.ritual.*;
 import com.breakinblocks.neovitae.ritual.RitualHelper.RitualContext;
 
-import java.util.List;
 import java.util.function.Consumer;
 
 /**
@@ -35,12 +34,15 @@ public class RitualGreenGrove extends Ritual {
         int maxGrowths = ctx.maxOperations(getRefreshCost());
         int totalGrowths = 0;
 
-        List<BlockPos> positions = RitualHelper.getRangePositions(ctx.master(), this, GROWTH_RANGE, ctx.masterPos());
-        for (BlockPos pos : positions) {
-            if (totalGrowths >= maxGrowths) break;
+        AreaDescriptor.PositionCursor cursor = RitualHelper.resumeRangeCursor(ctx.master(), this, GROWTH_RANGE, ctx.masterPos());
+        if (cursor == null) return;
+        int scanBudget = RitualHelper.getScanBudget(this);
+        BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
 
-            BlockState state = ctx.level().getBlockState(pos);
+        while (totalGrowths < maxGrowths && scanBudget-- > 0 && cursor.next(mutablePos)) {
+            BlockState state = ctx.level().getBlockState(mutablePos);
             if (state.getBlock() instanceof BonemealableBlock growable) {
+                BlockPos pos = mutablePos.immutable();
                 if (growable.isValidBonemealTarget(ctx.level(), pos, state)) {
                     if (growable.isBonemealSuccess(ctx.level(), ctx.level().random, pos, state)) {
                         growable.performBonemeal(serverLevel, ctx.level().random, pos, state);
@@ -49,6 +51,7 @@ public class RitualGreenGrove extends Ritual {
                 }
             }
         }
+        RitualHelper.saveRangeCursor(ctx.master(), GROWTH_RANGE, cursor);
 
         ctx.syphon(getRefreshCost() * totalGrowths);
     }
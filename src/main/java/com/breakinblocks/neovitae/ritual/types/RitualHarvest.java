@@ -40,14 +40,20 @@ public class RitualHarvest extends Ritual {
         int maxHarvests = ctx.maxOperations(getRefreshCost());
         int totalHarvests = 0;
 
-        List<BlockPos> positions = RitualHelper.getRangePositions(ctx.master(), this, HARVEST_RANGE, ctx.masterPos());
+        AreaDescriptor.PositionCursor cursor = RitualHelper.resumeRangeCursor(ctx.master(), this, HARVEST_RANGE, ctx.masterPos());
+        if (cursor == null) return;
+        int scanBudget = RitualHelper.getScanBudget(this);
+
         List<IHarvestHandler> handlers = HarvestRegistry.getHarvestHandlers();
         UUID owner = ctx.master().getOwner();
+        BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
 
-        for (BlockPos pos : positions) {
-            if (totalHarvests >= maxHarvests) break;
-
-            BlockState state = ctx.level().getBlockState(pos);
+        while (totalHarvests < maxHarvests && scanBudget-- > 0 && cursor.next(mutablePos)) {
+            BlockState state = ctx.level().getBlockState(mutablePos);
+            if (state.isAir()) {
+                continue;
+            }
+            BlockPos pos = mutablePos.immutable();
 
             // Try each registered handler
             for (IHarvestHandler handler : handlers) {
@@ -67,6 +73,7 @@ public class RitualHarvest extends Ritual {
                 }
             }
         }
+        RitualHelper.saveRangeCursor(ctx.master(), HARVEST_RANGE, cursor);
 
         ctx.syphon(getRefreshCost() * totalHarvests);
     }
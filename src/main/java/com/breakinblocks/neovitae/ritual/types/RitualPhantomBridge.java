@@ -6,6 +6,7 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.NbtUtils;
 import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -13,6 +14,7 @@ import net.minecraft.world.level.block.state.BlockState;
 import com.breakinblocks.neovitae.NeoVitae;
 import com.breakinblocks.neovitae.common.block.BMBlocks;
 import com.breakinblocks.neovitae.common.blockentity.PhantomBridgeTile;
+import com.breakinblocks.neovitae.common.world.TemporaryBlockTimers;
 import com.breakinblocks.neovitae.api.ritual.AreaDescriptor;
 import com.breakinblocks.neovitae.ritual.*;
 import com.breakinblocks.neovitae.ritual.RitualHelper.RitualContext;
@@ -34,9 +36,12 @@ public class RitualPhantomBridge extends Ritual {
     public static final String BRIDGE_RANGE = "bridgeRange";
     private static final int BRIDGE_DEPTH = 2; // How far below players to create bridges
     private static final int BRIDGE_WIDTH = 1; // Radius around player's position
+    private static final int EXISTING_REFRESH_INTERVAL = 20; // Well within PhantomBridgeTile.DEFAULT_DURATION
 
     // Track phantom bridge blocks created by this ritual
     private final Map<BlockPos, BlockState> phantomBlocks = new HashMap<>();
+    // Game time of the last refresh of existing blocks
+    private long lastExistingRefresh = -EXISTING_REFRESH_INTERVAL;
 
     public RitualPhantomBridge() {
         super("phantom_bridge", 0, 2000, "ritual." + NeoVitae.MODID + ".phantom_bridge");
@@ -56,15 +61,15 @@ public class RitualPhantomBridge extends Ritual {
         int maxBlocks = ctx.maxOperations(getRefreshCost());
         UUID owner = ctx.master().getOwner();
 
-        // First, refresh duration on existing phantom blocks
-        for (BlockPos pos : phantomBlocks.keySet()) {
-            BlockState state = ctx.level().getBlockState(pos);
-            if (state.is(BMBlocks.PHANTOM_BRIDGE_BLOCK.get())) {
-                BlockEntity be = ctx.level().getBlockEntity(pos);
-                if (be instanceof PhantomBridgeTile phantomTile) {
-                    phantomTile.resetDuration();
-                }
-            }
+        // First, refresh duration on existing phantom blocks. Refreshing is a timer update, and
+        // blocks last DEFAULT_DURATION ticks, so this only needs to run every few cycles. The
+        // scheduler can shift runs between ticks, so this goes by elapsed time, not tick parity.
+        // Blocks whose timer is gone have expired or been replaced and are forgotten.
+        if (ctx.level() instanceof ServerLevel serverLevel
+                && serverLevel.getGameTime() - lastExistingRefresh >= EXISTING_REFRESH_INTERVAL) {
+            lastExistingRefresh = serverLevel.getGameTime();
+            TemporaryBlockTimers timers = TemporaryBlockTimers.get(serverLevel);
+            phantomBlocks.keySet().removeIf(pos -> !timers.refresh(serverLevel, pos, PhantomBridgeTile.DEFAULT_DURATION));
         }
 
         // Create bridges under each player
@@ -38,8 +38,6 @@ public class RitualPlacer extends Ritual {
             return;
         }
 
-        AreaDescriptor range = RitualHelper.getEffectiveRange(ctx.master(), this, PLACER_RANGE);
-
         // Find adjacent inventory
         IItemHandler inventory = findAdjacentInventory(ctx.level(), ctx.masterPos());
         if (inventory == null) return;
@@ -60,18 +58,25 @@ public class RitualPlacer extends Ritual {
 
         // Find next air block in range to fill
         UUID owner = ctx.master().getOwner();
-        BlockPos placePos = findNextPlaceablePosition(ctx.level(), ctx.masterPos(), range, owner);
-        if (placePos == null) return;
+        AreaDescriptor.PositionCursor cursor = RitualHelper.resumeRangeCursor(ctx.master(), this, PLACER_RANGE, ctx.masterPos());
+        if (cursor == null) return;
+        BlockPos placePos = findNextPlaceablePosition(ctx, owner, cursor);
+        if (placePos == null) {
+            RitualHelper.saveRangeCursor(ctx.master(), PLACER_RANGE, cursor);
+            return;
+        }
 
         // Place the block
         BlockItem blockItem = (BlockItem) toPlace.getItem();
         BlockState stateToPlace = blockItem.getBlock().defaultBlockState();
 
-        // Check protection before placing
+        // Check protection before placing. The cursor only moves past the position once it is
+        // filled, so a failed placement is retried next cycle.
         if (BlockProtectionHelper.tryPlaceBlock(ctx.level(), placePos, stateToPlace, owner)) {
             // Extract item from inventory
             inventory.extractItem(slotIndex, 1, false);
             ctx.syphon(getRefreshCost());
+            RitualHelper.saveRangeCursor(ctx.master(), PLACER_RANGE, cursor);
         }
     }
 
@@ -90,12 +95,29 @@ public class RitualPlacer extends Ritual {
         return null;
     }
 
-    private BlockPos findNextPlaceablePosition(Level level, BlockPos masterPos, AreaDescriptor range, UUID owner) {
-        for (BlockPos checkPos : range.getContainedPositions(masterPos)) {
+    /**
+     * Scans for the next empty position, leaving the cursor on it. A resumed scan that reaches
+     * the end of the area wraps around once, so a free position before it is still found this cycle.
+     */
+    private BlockPos findNextPlaceablePosition(RitualContext ctx, UUID owner, AreaDescriptor.PositionCursor cursor) {
+        Level level = ctx.level();
+        int scanBudget = RitualHelper.getScanBudget(this);
+        boolean canWrap = cursor.getLastOffset() != null;
+        BlockPos.MutableBlockPos checkPos = new BlockPos.MutableBlockPos();
+        while (scanBudget > 0) {
+            if (!cursor.next(checkPos)) {
+                if (!canWrap) {
+                    break;
+                }
+                canWrap = false;
+                cursor.reset();
+                continue;
+            }
+            scanBudget--;
             if (level.isEmptyBlock(checkPos)) {
                 // Only return positions where we can actually place
                 if (BlockProtectionHelper.canPlaceBlock(level, checkPos, level.getBlockState(checkPos), owner)) {
-                    return checkPos;
+                    return checkPos.immutable();
                 }
             }
         }
@@ -9,6 +9,7 @@ import com.breakinblocks.neovitae.NeoVitae;
 import com.breakinblocks.neovitae.common.datacomponent.BMDataComponents;
 import com.breakinblocks.neovitae.common.datacomponent.LivingStats;
 import com.breakinblocks.neovitae.common.tag.BMTags;
+import com.breakinblocks.neovitae.common.world.PlayerProximityIndex;
 import com.breakinblocks.neovitae.ritual.*;
 import com.breakinblocks.neovitae.ritual.RitualHelper.RitualContext;
 
@@ -36,7 +37,7 @@ public class RitualUpgradeRemove extends Ritual {
 
         // Check for player standing on the ritual
         AABB checkArea = new AABB(ctx.masterPos()).inflate(1, 2, 1);
-        List<Player> players = ctx.level().getEntitiesOfClass(Player.class, checkArea);
+        List<Player> players = PlayerProximityIndex.getPlayers(ctx.level(), checkArea);
 
         for (Player player : players) {
             // Check all armor pieces for living armor
@@ -36,6 +36,16 @@ public class ARCOutputHandler implements IItemHandler {
         this.items[slot] = stack;
     }
 
+    /**
+     * Points every slot at the stack in the matching slot of another handler, starting at
+     * {@code firstSlot}, so one output handler can be reused instead of built every tick.
+     */
+    public void loadFrom(IItemHandler handler, int firstSlot) {
+        for (int i = 0; i < items.length; i++) {
+            items[i] = handler.getStackInSlot(firstSlot + i);
+        }
+    }
+
     @Override
     public ItemStack insertItem(int slot, ItemStack stack, boolean simulate) {
         if (stack.isEmpty()) {
@@ -126,9 +136,13 @@ public class ARCOutputHandler implements IItemHandler {
     }
 
     public boolean canTransferAllItemsToSlots(List<ItemStack> stackList, boolean simulate) {
-        ItemStack[] copyList = new ItemStack[items.length];
-        for (int i = 0; i < copyList.length; i++) {
-            copyList[i] = items[i].copy();
+        // A simulation never writes to the slots, so it can read them directly
+        ItemStack[] copyList = items;
+        if (!simulate) {
+            copyList = new ItemStack[items.length];
+            for (int i = 0; i < copyList.length; i++) {
+                copyList[i] = items[i].copy();
+            }
         }
 
         boolean hasStashedAll = true;
@@ -155,22 +169,17 @@ public class ARCOutputHandler implements IItemHandler {
 
                     m = Math.min(stack.getMaxStackSize(), getSlotLimit(slot) - stackInSlot.getCount());
                     if (stack.getCount() <= m) {
-                        ItemStack copy = stack.copy();
                         if (!simulate) {
+                            ItemStack copy = stack.copy();
                             copy.grow(stackInSlot.getCount());
                             copyList[slot] = copy;
                         }
                         stack = ItemStack.EMPTY;
                         break slots;
-                    } else {
-                        ItemStack tmpStack = stack.copy();
-                        if (!simulate) {
-                            ItemStack copy = tmpStack.split(m);
-                            copy.grow(stackInSlot.getCount());
-                            copyList[slot] = copy;
-                        } else {
-                            tmpStack.shrink(m);
-                        }
+                    } else if (!simulate) {
+                        ItemStack copy = stack.copy().split(m);
+                        copy.grow(stackInSlot.getCount());
+                        copyList[slot] = copy;
                     }
                 } else {
                     if (!isItemValid(slot, stack)) {
@@ -178,11 +187,8 @@ public class ARCOutputHandler implements IItemHandler {
                     }
                     m = Math.min(stack.getMaxStackSize(), getSlotLimit(slot));
                     if (m < stack.getCount()) {
-                        ItemStack tmpStack = stack.copy();
                         if (!simulate) {
-                            copyList[slot] = tmpStack.split(m);
-                        } else {
-                            tmpStack.shrink(m);
+                            copyList[slot] = stack.copy().split(m);
                         }
                     } else {
                         if (!simulate) {
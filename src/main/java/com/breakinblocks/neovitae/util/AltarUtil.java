@@ -1,5 +1,7 @@
 package com.breakinblocks.neovitae.util;
 
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.damagesource.DamageSources;
@@ -16,10 +18,11 @@ import com.breakinblocks.neovitae.api.altar.rune.RuneInstance;
 import com.breakinblocks.neovitae.common.attribute.BMAttributes;
 import com.breakinblocks.neovitae.common.block.BMBlocks;
 import com.breakinblocks.neovitae.common.damagesource.BMDamageSources;
+import com.breakinblocks.neovitae.common.datamap.AltarRuneStatTable;
 import com.breakinblocks.neovitae.common.registry.AltarComponent;
 import com.breakinblocks.neovitae.common.structure.BMMultiblock;
+import com.breakinblocks.neovitae.common.structure.CachedChunkReader;
 import com.breakinblocks.neovitae.common.structure.MultiblockValidator;
-import com.breakinblocks.neovitae.impl.AltarRuneRegistryImpl;
 
 import java.util.*;
 
@@ -66,23 +69,45 @@ public class AltarUtil {
      * Gets the tier of the altar structure at the given position.
      * Uses custom MultiblockValidator instead of Patchouli.
      *
+     * <p>Tiers are checked from highest to lowest and the first valid one is returned,
+     * with every validator sharing one chunk reader.</p>
+     *
      * @param level The world level
      * @param altarPos The position of the blood altar block
      * @return The tier (0-indexed), or -1 if no valid structure
      */
     public static int getTier(Level level, BlockPos altarPos) {
-        int tier = -1;
-        for (int i = 0; i < BMMultiblock.TIER_VALIDATORS.length; i++) {
-            MultiblockValidator validator = BMMultiblock.TIER_VALIDATORS[i];
+        MultiblockValidator[] validators = BMMultiblock.TIER_VALIDATORS;
+        CachedChunkReader reader = new CachedChunkReader(level);
+        for (int i = validators.length - 1; i >= 0; i--) {
+            MultiblockValidator validator = validators[i];
             if (validator != null) {
                 // Pass the altar position - the validator has its own offset configured
-                Rotation rot = validator.validate(level, altarPos);
+                Rotation rot = validator.validate(reader, altarPos);
                 if (rot != null) {
-                    tier = i;
+                    return i;
                 }
             }
         }
-        return tier;
+        return -1;
+    }
+
+    /**
+     * Collects every block position the altar structure depends on, i.e. the union of the
+     * positions read by every tier validator. A change at any of these positions can alter
+     * the altar's tier or rune stats; changes anywhere else cannot.
+     *
+     * @param altarPos The position of the blood altar block
+     * @return A set of packed block positions (see {@link BlockPos#asLong()})
+     */
+    public static LongSet collectStructurePositions(BlockPos altarPos) {
+        LongSet positions = new LongOpenHashSet();
+        for (MultiblockValidator validator : BMMultiblock.TIER_VALIDATORS) {
+            if (validator != null) {
+                validator.collectPositions(altarPos, positions);
+            }
+        }
+        return positions;
     }
 
     /**
@@ -125,48 +150,34 @@ public class AltarUtil {
             return AltarScanResult.empty();
         }
 
-        AltarRuneRegistryImpl registry = AltarRuneRegistryImpl.INSTANCE;
-        NeoVitae.LOGGER.info("scanForRunes: Scanning tier {} with {} components",
-                tier, BMMultiblock.TIER_LIST[tier].components().size());
+        AltarRuneStatTable table = AltarRuneStatTable.get();
+        CachedChunkReader reader = new CachedChunkReader(level);
+        BlockPos.MutableBlockPos runePos = new BlockPos.MutableBlockPos();
 
-        int upgradeCount = 0;
-        int foundRunes = 0;
         for (AltarComponent component : BMMultiblock.TIER_LIST[tier].components()) {
             if (component.isUpgrade()) {
-                upgradeCount++;
-                BlockPos runePos = altarPos.offset(component.pos());
-                BlockState state = level.getBlockState(runePos);
+                runePos.setWithOffset(altarPos, component.pos());
+                BlockState state = reader.getBlockState(runePos.getX(), runePos.getY(), runePos.getZ());
                 Block block = state.getBlock();
+                int id = table.indexOf(block);
 
-                // Get all runes for this block from the unified registry
-                Map<IAltarRuneType, Integer> blockRunes = registry.getRunesForBlock(block);
+                // Get all runes for this block from the registry snapshot
+                Map<IAltarRuneType, Integer> blockRunes = id >= 0 ? table.getRunes(id) : Collections.emptyMap();
                 if (!blockRunes.isEmpty()) {
-                    foundRunes++;
-                    // Log each block's rune contributions
                     for (Map.Entry<IAltarRuneType, Integer> entry : blockRunes.entrySet()) {
-                        NeoVitae.LOGGER.debug("scanForRunes: Block {} contributes {} {} runes",
-                                block, entry.getValue(), entry.getKey().getSerializedName());
                         upgrades.merge(entry.getKey(), entry.getValue(), Integer::sum);
                     }
 
                     // Create rune instance with block entity (may be null)
-                    BlockEntity blockEntity = level.getBlockEntity(runePos);
-                    instances.add(new RuneInstance(runePos, block, blockEntity));
-                } else {
-                    NeoVitae.LOGGER.warn("scanForRunes: Block {} (hash={}) at {} has no runes registered (hasRunes={})",
-                            block, System.identityHashCode(block), runePos, registry.hasRunes(block));
+                    BlockPos immutablePos = runePos.immutable();
+                    BlockEntity blockEntity = state.hasBlockEntity() ? level.getBlockEntity(immutablePos) : null;
+                    instances.add(new RuneInstance(immutablePos, block, blockEntity));
                 }
             }
         }
 
-        NeoVitae.LOGGER.info("scanForRunes: Found {} runes out of {} upgrade positions, total rune types: {}",
-                foundRunes, upgradeCount, upgrades.size());
-
-        // Log each rune type's total count
-        for (Map.Entry<IAltarRuneType, Integer> entry : upgrades.entrySet()) {
-            NeoVitae.LOGGER.info("scanForRunes: Total {} = {} (amounts accumulated)",
-                    entry.getKey().getSerializedName(), entry.getValue());
-        }
+        NeoVitae.LOGGER.debug("scanForRunes: Found {} runes in tier {}, total rune types: {}",
+                instances.size(), tier, upgrades.size());
 
         return new AltarScanResult(upgrades, instances);
     }
@@ -0,0 +1,143 @@
+package com.breakinblocks.neovitae.util.helper;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import com.breakinblocks.neovitae.NeoVitae;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Short-lived cache of break permission decisions made by protection mods, per owner and chunk.
+ *
+ * <p>Posting a {@code BlockEvent.BreakEvent} is the most expensive part of a ritual's per-block
+ * work when claim mods are installed, and their answer is almost always the same for every block
+ * of a chunk. {@link BlockProtectionHelper} stores each owner-based decision here for
+ * {@code block_protection.permission_cache_ttl} ticks of game time.</p>
+ *
+ * <p>Decisions are dropped when their owner logs in or out. Mods that change claims can call
+ * {@link #invalidateOwner}, {@link #invalidateChunk} or {@link #invalidateAll} to drop them
+ * sooner. Server thread only.</p>
+ */
+@EventBusSubscriber(modid = NeoVitae.MODID)
+public final class BlockPermissionCache {
+
+    public static final int UNKNOWN = -1;
+    public static final int DENIED = 0;
+    public static final int ALLOWED = 1;
+
+    private static final long NO_ENTRY = Long.MIN_VALUE;
+    private static final int CLEANUP_THRESHOLD = 1024;
+
+    // Per dimension and owner: chunk -> (expiry game time << 1) | allowed
+    private static final Map<ResourceKey<Level>, Map<UUID, Long2LongOpenHashMap>> DECISIONS = new HashMap<>();
+
+    private BlockPermissionCache() {
+    }
+
+    /**
+     * Gets the cached break decision for an owner in a chunk.
+     *
+     * @return {@link #ALLOWED}, {@link #DENIED} or {@link #UNKNOWN} if not cached or expired
+     */
+    public static int get(ServerLevel level, UUID owner, int chunkX, int chunkZ) {
+        Map<UUID, Long2LongOpenHashMap> byOwner = DECISIONS.get(level.dimension());
+        if (byOwner == null) {
+            return UNKNOWN;
+        }
+        Long2LongOpenHashMap byChunk = byOwner.get(owner);
+        if (byChunk == null) {
+            return UNKNOWN;
+        }
+        long entry = byChunk.get(ChunkPos.asLong(chunkX, chunkZ));
+        if (entry == NO_ENTRY || (entry >> 1) <= level.getGameTime()) {
+            return UNKNOWN;
+        }
+        return (int) (entry & 1);
+    }
+
+    /**
+     * Stores a break decision for an owner in a chunk. Does nothing if caching is disabled.
+     */
+    public static void put(ServerLevel level, UUID owner, int chunkX, int chunkZ, boolean allowed) {
+        int ttl = NeoVitae.SERVER_CONFIG.PROTECTION_CACHE_TTL.get();
+        if (ttl <= 0) {
+            return;
+        }
+
+        Long2LongOpenHashMap byChunk = DECISIONS
+                .computeIfAbsent(level.dimension(), k -> new HashMap<>())
+                .computeIfAbsent(owner, k -> {
+                    Long2LongOpenHashMap map = new Long2LongOpenHashMap();
+                    map.defaultReturnValue(NO_ENTRY);
+                    return map;
+                });
+
+        long now = level.getGameTime();
+        if (byChunk.size() >= CLEANUP_THRESHOLD) {
+            byChunk.long2LongEntrySet().removeIf(e -> (e.getLongValue() >> 1) <= now);
+        }
+        byChunk.put(ChunkPos.asLong(chunkX, chunkZ), ((now + ttl) << 1) | (allowed ? 1 : 0));
+    }
+
+    /**
+     * Drops every cached decision for an owner, in all dimensions.
+     */
+    public static void invalidateOwner(UUID owner) {
+        for (Map<UUID, Long2LongOpenHashMap> byOwner : DECISIONS.values()) {
+            byOwner.remove(owner);
+        }
+    }
+
+    /**
+     * Drops every cached decision for a chunk, for all owners.
+     */
+    public static void invalidateChunk(Level level, ChunkPos chunk) {
+        Map<UUID, Long2LongOpenHashMap> byOwner = DECISIONS.get(level.dimension());
+        if (byOwner != null) {
+            long key = chunk.toLong();
+            for (Long2LongMap byChunk : byOwner.values()) {
+                byChunk.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Drops every cached decision.
+     */
+    public static void invalidateAll() {
+        DECISIONS.clear();
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLogin(PlayerEvent.PlayerLoggedInEvent event) {
+        invalidateOwner(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        invalidateOwner(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            DECISIONS.remove(serverLevel.dimension());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        invalidateAll();
+    }
+}
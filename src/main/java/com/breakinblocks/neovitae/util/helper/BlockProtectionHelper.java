@@ -1,10 +1,12 @@
 package com.breakinblocks.neovitae.util.helper;
 
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -16,6 +18,7 @@ import org.jetbrains.annotations.Nullable;
 
 import net.minecraft.world.entity.Entity;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -379,6 +382,9 @@ public class BlockProtectionHelper {
      * Checks if an owner can break a block at the given position.
      * If owner is offline, defaults to allowing the operation.
      * Use {@link #canBreakBlockStrict} if you want to deny when owner is offline.
+     * <p>
+     * The decision is cached per owner and chunk (see {@link BlockPermissionCache}), so
+     * repeated checks in the same chunk don't post a new break event.
      *
      * @param level     The level
      * @param pos       The block position
@@ -386,7 +392,71 @@ public class BlockProtectionHelper {
      * @return true if allowed (or owner is offline, which defaults to allowing)
      */
     public static boolean canBreakBlock(Level level, BlockPos pos, @Nullable UUID ownerUUID) {
-        return canBreakBlock(level, pos, getPlayerFromUUID(level, ownerUUID));
+        if (level.isClientSide() || ownerUUID == null || !(level instanceof ServerLevel serverLevel)) {
+            return true;
+        }
+
+        int cached = BlockPermissionCache.get(serverLevel, ownerUUID, pos.getX() >> 4, pos.getZ() >> 4);
+        if (cached != BlockPermissionCache.UNKNOWN) {
+            return cached == BlockPermissionCache.ALLOWED;
+        }
+
+        Player player = getPlayerFromUUID(level, ownerUUID);
+        if (player == null) {
+            return true; // Owner offline - not cached, they may log in
+        }
+        boolean allowed = canBreakBlock(level, pos, player);
+        BlockPermissionCache.put(serverLevel, ownerUUID, pos.getX() >> 4, pos.getZ() >> 4, allowed);
+        return allowed;
+    }
+
+    /**
+     * Checks which of the given positions an owner can break, resolving the owner once and
+     * posting at most one break event per chunk (fewer if decisions are already cached).
+     * If owner is offline, defaults to allowing every position.
+     *
+     * @param level     The level
+     * @param ownerUUID The owner's UUID
+     * @param positions The block positions to check
+     * @return The positions that may be broken, in the given order
+     */
+    public static List<BlockPos> canBreakBlocks(Level level, @Nullable UUID ownerUUID, List<BlockPos> positions) {
+        if (level.isClientSide() || ownerUUID == null || !(level instanceof ServerLevel serverLevel)) {
+            return positions;
+        }
+
+        List<BlockPos> allowedPositions = new ArrayList<>(positions.size());
+        Long2IntOpenHashMap decisions = new Long2IntOpenHashMap();
+        decisions.defaultReturnValue(BlockPermissionCache.UNKNOWN);
+        Player player = null;
+        boolean playerResolved = false;
+        for (BlockPos pos : positions) {
+            int chunkX = pos.getX() >> 4;
+            int chunkZ = pos.getZ() >> 4;
+            long chunkKey = ChunkPos.asLong(chunkX, chunkZ);
+            int decision = decisions.get(chunkKey);
+            if (decision == BlockPermissionCache.UNKNOWN) {
+                decision = BlockPermissionCache.get(serverLevel, ownerUUID, chunkX, chunkZ);
+            }
+            if (decision == BlockPermissionCache.UNKNOWN) {
+                if (!playerResolved) {
+                    player = getPlayerFromUUID(level, ownerUUID);
+                    playerResolved = true;
+                }
+                if (player == null) {
+                    decision = BlockPermissionCache.ALLOWED; // Owner offline
+                } else {
+                    boolean allowed = canBreakBlock(level, pos, player);
+                    BlockPermissionCache.put(serverLevel, ownerUUID, chunkX, chunkZ, allowed);
+                    decision = allowed ? BlockPermissionCache.ALLOWED : BlockPermissionCache.DENIED;
+                }
+                decisions.put(chunkKey, decision);
+            }
+            if (decision == BlockPermissionCache.ALLOWED) {
+                allowedPositions.add(pos);
+            }
+        }
+        return allowedPositions;
     }
 
     /**
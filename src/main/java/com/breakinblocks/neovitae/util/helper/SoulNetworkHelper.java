@@ -7,11 +7,12 @@ import net.minecraft.world.level.storage.DimensionDataStorage;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
 import net.neoforged.neoforge.server.ServerLifecycleHooks;
 import com.breakinblocks.neovitae.common.datacomponent.Binding;
 import com.breakinblocks.neovitae.common.datacomponent.SoulNetwork;
-import com.breakinblocks.neovitae.common.world.BMSavedData;
 import com.breakinblocks.neovitae.common.world.DungeonSavedData;
+import com.breakinblocks.neovitae.common.world.SoulNetworkStorage;
 
 import javax.annotation.Nullable;
 import java.util.UUID;
@@ -20,7 +21,7 @@ import java.util.UUID;
 @EventBusSubscriber
 public class SoulNetworkHelper {
     @Nullable
-    private static BMSavedData SD_INSTANCE;
+    private static SoulNetworkStorage SD_INSTANCE;
 
     @Nullable
     private static DungeonSavedData DUNGEON_SD_INSTANCE;
@@ -31,13 +32,20 @@ public class SoulNetworkHelper {
         DUNGEON_SD_INSTANCE = null;
     }
 
-    private static BMSavedData getSavedData() {
+    @SubscribeEvent
+    public static void flushDirtyNetworks(ServerTickEvent.Post event) {
+        if (SD_INSTANCE != null) {
+            SD_INSTANCE.flushDirty();
+        }
+    }
+
+    private static SoulNetworkStorage getSavedData() {
         if (SD_INSTANCE == null) {
             if (ServerLifecycleHooks.getCurrentServer() == null)
                 return null;
 
             DimensionDataStorage dimData = ServerLifecycleHooks.getCurrentServer().overworld().getDataStorage();
-            SD_INSTANCE = dimData.computeIfAbsent(new Factory<>(BMSavedData::new, BMSavedData::load), BMSavedData.ID);
+            SD_INSTANCE = new SoulNetworkStorage(dimData);
         }
         return SD_INSTANCE;
     }
@@ -54,13 +62,36 @@ public class SoulNetworkHelper {
     }
 
     public static SoulNetwork getSoulNetwork(UUID uuid) {
-        BMSavedData savedData = getSavedData();
+        SoulNetworkStorage savedData = getSavedData();
+        if (savedData == null)
+            return null;
+
+        return savedData.getOrCreateNetwork(uuid);
+    }
+
+    /**
+     * Gets a soul network without creating one for players that never had one.
+     * Use this for read-only lookups.
+     * @return The network, or null if it doesn't exist or the server is not available
+     */
+    @Nullable
+    public static SoulNetwork findSoulNetwork(UUID uuid) {
+        SoulNetworkStorage savedData = getSavedData();
         if (savedData == null)
             return null;
 
         return savedData.getNetwork(uuid);
     }
 
+    /**
+     * Gets the essence in a soul network without creating the network.
+     * @return The current essence, or 0 if the network doesn't exist
+     */
+    public static int getCurrentEssence(UUID uuid) {
+        SoulNetwork network = findSoulNetwork(uuid);
+        return network != null ? network.getCurrentEssence() : 0;
+    }
+
     public static SoulNetwork getSoulNetwork(Binding binding) {
         return getSoulNetwork(binding.uuid());
     }
@@ -5,9 +5,6 @@ import com.mojang.serialization.codecs.RecordCodecBuilder;
 import com.breakinblocks.neovitae.NeoVitae;
 import com.breakinblocks.neovitae.common.datacomponent.EnumWillType;
 
-import java.util.EnumMap;
-import java.util.Map;
-
 /**
  * Stores demon will amounts for a chunk.
  *
@@ -43,16 +40,13 @@ public class WillChunk {
             Codec.DOUBLE.optionalFieldOf("bonus_steadfast", 0.0).forGetter(w -> w.getMaxBonus(EnumWillType.STEADFAST))
     ).apply(instance, WillChunk::new));
 
-    private final EnumMap<EnumWillType, Double> willAmounts;
-    private final EnumMap<EnumWillType, Double> maxBonuses;
+    private static final int TYPE_COUNT = EnumWillType.values().length;
+
+    // Indexed by EnumWillType ordinal
+    private final double[] willAmounts = new double[TYPE_COUNT];
+    private final double[] maxBonuses = new double[TYPE_COUNT];
 
     public WillChunk() {
-        this.willAmounts = new EnumMap<>(EnumWillType.class);
-        this.maxBonuses = new EnumMap<>(EnumWillType.class);
-        for (EnumWillType type : EnumWillType.values()) {
-            willAmounts.put(type, DEFAULT_WILL);
-            maxBonuses.put(type, 0.0);
-        }
     }
 
     /**
@@ -67,25 +61,23 @@ public class WillChunk {
      */
     public WillChunk(double raw, double corrosive, double destructive, double vengeful, double steadfast,
                      double bonusRaw, double bonusCorrosive, double bonusDestructive, double bonusVengeful, double bonusSteadfast) {
-        this.willAmounts = new EnumMap<>(EnumWillType.class);
-        this.maxBonuses = new EnumMap<>(EnumWillType.class);
-        willAmounts.put(EnumWillType.DEFAULT, raw);
-        willAmounts.put(EnumWillType.CORROSIVE, corrosive);
-        willAmounts.put(EnumWillType.DESTRUCTIVE, destructive);
-        willAmounts.put(EnumWillType.VENGEFUL, vengeful);
-        willAmounts.put(EnumWillType.STEADFAST, steadfast);
-        maxBonuses.put(EnumWillType.DEFAULT, bonusRaw);
-        maxBonuses.put(EnumWillType.CORROSIVE, bonusCorrosive);
-        maxBonuses.put(EnumWillType.DESTRUCTIVE, bonusDestructive);
-        maxBonuses.put(EnumWillType.VENGEFUL, bonusVengeful);
-        maxBonuses.put(EnumWillType.STEADFAST, bonusSteadfast);
+        willAmounts[EnumWillType.DEFAULT.ordinal()] = raw;
+        willAmounts[EnumWillType.CORROSIVE.ordinal()] = corrosive;
+        willAmounts[EnumWillType.DESTRUCTIVE.ordinal()] = destructive;
+        willAmounts[EnumWillType.VENGEFUL.ordinal()] = vengeful;
+        willAmounts[EnumWillType.STEADFAST.ordinal()] = steadfast;
+        maxBonuses[EnumWillType.DEFAULT.ordinal()] = bonusRaw;
+        maxBonuses[EnumWillType.CORROSIVE.ordinal()] = bonusCorrosive;
+        maxBonuses[EnumWillType.DESTRUCTIVE.ordinal()] = bonusDestructive;
+        maxBonuses[EnumWillType.VENGEFUL.ordinal()] = bonusVengeful;
+        maxBonuses[EnumWillType.STEADFAST.ordinal()] = bonusSteadfast;
     }
 
     /**
      * Gets the amount of will of the specified type in this chunk.
      */
     public double getWill(EnumWillType type) {
-        return willAmounts.getOrDefault(type, DEFAULT_WILL);
+        return willAmounts[type.ordinal()];
     }
 
     /**
@@ -94,7 +86,7 @@ public class WillChunk {
      */
     public void setWill(EnumWillType type, double amount) {
         double max = getMaxWill(type);
-        willAmounts.put(type, Math.max(0, Math.min(max, amount)));
+        willAmounts[type.ordinal()] = Math.max(0, Math.min(max, amount));
     }
 
     /**
@@ -112,15 +104,10 @@ public class WillChunk {
 
     /**
      * Gets the base maximum will from server config.
-     * Falls back to 100.0 if config is not yet loaded.
+     * The config caches these values, using 100.0 until it is loaded.
      */
     private double getBaseMaxWill(EnumWillType type) {
-        try {
-            return NeoVitae.SERVER_CONFIG.getBaseMaxWill(type);
-        } catch (Exception e) {
-            // Config may not be loaded yet during deserialization
-            return 100.0;
-        }
+        return NeoVitae.SERVER_CONFIG.getBaseMaxWill(type);
     }
 
     /**
@@ -131,7 +118,7 @@ public class WillChunk {
      * @return The bonus capacity (0 if none)
      */
     public double getMaxBonus(EnumWillType type) {
-        return maxBonuses.getOrDefault(type, 0.0);
+        return maxBonuses[type.ordinal()];
     }
 
     /**
@@ -141,7 +128,7 @@ public class WillChunk {
      * @param bonus The new bonus value (must be >= 0)
      */
     public void setMaxBonus(EnumWillType type, double bonus) {
-        maxBonuses.put(type, Math.max(0, bonus));
+        maxBonuses[type.ordinal()] = Math.max(0, bonus);
     }
 
     /**
@@ -163,7 +150,7 @@ public class WillChunk {
      * @return true if any will type has a bonus
      */
     public boolean hasMaxBonuses() {
-        for (double bonus : maxBonuses.values()) {
+        for (double bonus : maxBonuses) {
             if (bonus > 0) {
                 return true;
             }
@@ -180,7 +167,7 @@ public class WillChunk {
         double max = getMaxWill(type);
         double toAdd = Math.min(amount, max - current);
         if (toAdd > 0) {
-            willAmounts.put(type, current + toAdd);
+            willAmounts[type.ordinal()] = current + toAdd;
         }
         return toAdd;
     }
@@ -193,7 +180,7 @@ public class WillChunk {
         double current = getWill(type);
         double toDrain = Math.min(amount, current);
         if (toDrain > 0) {
-            willAmounts.put(type, current - toDrain);
+            willAmounts[type.ordinal()] = current - toDrain;
         }
         return toDrain;
     }
@@ -203,7 +190,7 @@ public class WillChunk {
      */
     public double getTotalWill() {
         double total = 0;
-        for (double amount : willAmounts.values()) {
+        for (double amount : willAmounts) {
             total += amount;
         }
         return total;
@@ -215,10 +202,10 @@ public class WillChunk {
     public EnumWillType getDominantType() {
         EnumWillType dominant = EnumWillType.DEFAULT;
         double maxAmount = 0;
-        for (Map.Entry<EnumWillType, Double> entry : willAmounts.entrySet()) {
-            if (entry.getValue() > maxAmount) {
-                maxAmount = entry.getValue();
-                dominant = entry.getKey();
+        for (EnumWillType type : EnumWillType.values()) {
+            if (willAmounts[type.ordinal()] > maxAmount) {
+                maxAmount = willAmounts[type.ordinal()];
+                dominant = type;
             }
         }
         return dominant;
@@ -236,10 +223,8 @@ public class WillChunk {
      */
     public WillChunk copy() {
         WillChunk copy = new WillChunk();
-        for (EnumWillType type : EnumWillType.values()) {
-            copy.willAmounts.put(type, getWill(type));
-            copy.maxBonuses.put(type, getMaxBonus(type));
-        }
+        System.arraycopy(willAmounts, 0, copy.willAmounts, 0, TYPE_COUNT);
+        System.arraycopy(maxBonuses, 0, copy.maxBonuses, 0, TYPE_COUNT);
         return copy;
     }
 
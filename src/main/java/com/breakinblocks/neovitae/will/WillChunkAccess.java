@@ -0,0 +1,234 @@
+package com.breakinblocks.neovitae.will;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import com.breakinblocks.neovitae.NeoVitae;
+import com.breakinblocks.neovitae.common.dataattachment.BMDataAttachments;
+import com.breakinblocks.neovitae.common.datacomponent.EnumWillType;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolved handle to the demon will of one loaded chunk.
+ *
+ * <p>{@link WorldDemonWillHandler} looks the chunk and its {@code WILL_CHUNK} attachment up on
+ * every call. Block entities that read or move will every tick hold a handle instead: it is
+ * resolved once and shared by everything in the same chunk, and stays valid until the chunk
+ * unloads. Callers check {@link #isValid()} and fetch a new handle when it returns false.</p>
+ *
+ * <p>Handles are only given out for chunks that are already loaded, so looking up a far away
+ * chunk never loads it. Writes flag the chunk for saving and for client sync exactly like
+ * {@link WorldDemonWillHandler}. Server thread only.</p>
+ */
+@EventBusSubscriber(modid = NeoVitae.MODID)
+public final class WillChunkAccess {
+
+    public static final int TYPE_COUNT = EnumWillType.values().length;
+    private static final EnumWillType[] TYPES = EnumWillType.values();
+
+    private static final Map<ResourceKey<Level>, Long2ObjectOpenHashMap<WillChunkAccess>> HANDLES = new HashMap<>();
+
+    private final ServerLevel level;
+    private final LevelChunk chunk;
+    private final WillChunk will;
+    private boolean valid = true;
+
+    private WillChunkAccess(ServerLevel level, LevelChunk chunk) {
+        this.level = level;
+        this.chunk = chunk;
+        this.will = chunk.getData(BMDataAttachments.WILL_CHUNK);
+    }
+
+    /**
+     * Gets the handle of the chunk containing a position, or null if the chunk is not loaded
+     * or the level is client side.
+     */
+    @Nullable
+    public static WillChunkAccess get(Level level, BlockPos pos) {
+        return get(level, SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+    }
+
+    /**
+     * Gets the handle of a chunk, or null if the chunk is not loaded or the level is client side.
+     */
+    @Nullable
+    public static WillChunkAccess get(Level level, int chunkX, int chunkZ) {
+        if (!(level instanceof ServerLevel serverLevel)) {
+            return null;
+        }
+
+        Long2ObjectOpenHashMap<WillChunkAccess> handles = HANDLES.computeIfAbsent(serverLevel.dimension(), k -> new Long2ObjectOpenHashMap<>());
+        long key = ChunkPos.asLong(chunkX, chunkZ);
+        WillChunkAccess handle = handles.get(key);
+        if (handle != null) {
+            return handle;
+        }
+
+        LevelChunk chunk = serverLevel.getChunkSource().getChunkNow(chunkX, chunkZ);
+        if (chunk == null) {
+            return null;
+        }
+        handle = new WillChunkAccess(serverLevel, chunk);
+        handles.put(key, handle);
+        return handle;
+    }
+
+    /**
+     * Returns a handle that is still valid, fetching a new one for the same position if needed.
+     */
+    @Nullable
+    public static WillChunkAccess refresh(@Nullable WillChunkAccess handle, Level level, BlockPos pos) {
+        return handle != null && handle.valid ? handle : get(level, pos);
+    }
+
+    /**
+     * Whether the chunk is still loaded. Invalid handles must not be used.
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    public ChunkPos getPos() {
+        return chunk.getPos();
+    }
+
+    ServerLevel getLevel() {
+        return level;
+    }
+
+    public double get(EnumWillType type) {
+        return will.getWill(type);
+    }
+
+    public double getMax(EnumWillType type) {
+        return will.getMaxWill(type);
+    }
+
+    /**
+     * Reads the will of every type into {@code out}, indexed by {@link EnumWillType#ordinal()}.
+     */
+    public void readAll(double[] out) {
+        for (int i = 0; i < TYPE_COUNT; i++) {
+            out[i] = will.getWill(TYPES[i]);
+        }
+    }
+
+    /**
+     * Adds will to the chunk, up to its maximum.
+     * @return The amount actually added
+     */
+    public double add(EnumWillType type, double amount) {
+        if (amount <= 0) {
+            return 0;
+        }
+        double added = will.addWill(type, amount);
+        if (added > 0) {
+            markChanged();
+        }
+        return added;
+    }
+
+    /**
+     * Drains will from the chunk.
+     * @return The amount actually drained
+     */
+    public double drain(EnumWillType type, double amount) {
+        if (amount <= 0) {
+            return 0;
+        }
+        double drained = will.drainWill(type, amount);
+        if (drained > 0) {
+            markChanged();
+        }
+        return drained;
+    }
+
+    /**
+     * Sets will without flagging the chunk; callers batch that through {@link #markChanged()}.
+     */
+    void set(EnumWillType type, double amount) {
+        will.setWill(type, amount);
+    }
+
+    /**
+     * Moves will of every type from {@code from} into {@code to}. Each type moves at most
+     * {@code amounts[type.ordinal()]}; whatever is drained but does not fit in {@code to} is lost,
+     * as with a separate drain and add. The amounts actually drained are written back into
+     * {@code amounts}.
+     *
+     * @return The total amount drained
+     */
+    public static double transferAll(WillChunkAccess from, WillChunkAccess to, double[] amounts) {
+        double total = 0;
+        boolean drainedAny = false;
+        boolean addedAny = false;
+        for (int i = 0; i < TYPE_COUNT; i++) {
+            if (amounts[i] <= 0) {
+                amounts[i] = 0;
+                continue;
+            }
+            double drained = from.will.drainWill(TYPES[i], amounts[i]);
+            amounts[i] = drained;
+            if (drained > 0) {
+                drainedAny = true;
+                total += drained;
+                addedAny |= to.will.addWill(TYPES[i], drained) > 0;
+            }
+        }
+        if (drainedAny) {
+            from.markChanged();
+        }
+        if (addedAny) {
+            to.markChanged();
+        }
+        return total;
+    }
+
+    void markChanged() {
+        // Mutated in place; only the chunk needs to be flagged for saving
+        chunk.setUnsaved(true);
+        WillChunkSync.markChanged(level, chunk.getPos());
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            Long2ObjectOpenHashMap<WillChunkAccess> handles = HANDLES.get(serverLevel.dimension());
+            if (handles != null) {
+                WillChunkAccess handle = handles.remove(event.getChunk().getPos().toLong());
+                if (handle != null) {
+                    handle.valid = false;
+                }
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            Long2ObjectOpenHashMap<WillChunkAccess> handles = HANDLES.remove(serverLevel.dimension());
+            if (handles != null) {
+                handles.values().forEach(handle -> handle.valid = false);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        HANDLES.values().forEach(handles -> handles.values().forEach(handle -> handle.valid = false));
+        HANDLES.clear();
+    }
+}
@@ -9,6 +9,7 @@ import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.event.level.ChunkWatchEvent;
 import com.breakinblocks.neovitae.NeoVitae;
 import com.breakinblocks.neovitae.common.dataattachment.BMDataAttachments;
+import com.breakinblocks.neovitae.common.item.DemonWillGaugeItem;
 
 /**
  * Handles chunk watch events to sync demon will data to players.
@@ -19,6 +20,11 @@ public class WillChunkEvents {
     @SubscribeEvent
     public static void onChunkWatch(ChunkWatchEvent.Watch event) {
         ServerPlayer player = event.getPlayer();
+        // Only gauge holders display the aura; the gauge resyncs their chunk when picked up
+        if (!DemonWillGaugeItem.hasGauge(player)) {
+            return;
+        }
+
         ServerLevel level = (ServerLevel) event.getLevel();
         ChunkPos chunkPos = event.getPos();
 
@@ -26,7 +32,7 @@ public class WillChunkEvents {
         LevelChunk chunk = level.getChunk(chunkPos.x, chunkPos.z);
         WillChunk willChunk = chunk.getData(BMDataAttachments.WILL_CHUNK);
 
-        // Only sync if the chunk has any will
+        // Only sync if the chunk has any will; sent with the player's next batch
         if (willChunk.hasWill()) {
             WorldDemonWillHandler.syncChunkToPlayer(player, chunkPos, willChunk);
         }
@@ -0,0 +1,239 @@
+package com.breakinblocks.neovitae.will;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import net.neoforged.neoforge.network.PacketDistributor;
+import com.breakinblocks.neovitae.NeoVitae;
+import com.breakinblocks.neovitae.common.dataattachment.BMDataAttachments;
+import com.breakinblocks.neovitae.common.item.DemonWillGaugeItem;
+import com.breakinblocks.neovitae.common.network.WillChunkSyncPayload;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Batches demon will aura updates sent to clients.
+ *
+ * <p>Will changes only mark their chunk here. At the end of each level tick the changed chunks
+ * are compared with what was last sent, and chunks that moved by at least
+ * {@code demon_will.sync_epsilon} are queued for the players tracking them. Each player then
+ * receives at most one {@link WillChunkSyncPayload} per {@code demon_will.sync_interval} ticks,
+ * holding the current will of every chunk queued for them.</p>
+ *
+ * <p>Only players carrying a Demon Will Gauge are sent updates, since the gauge HUD is the only
+ * client-side reader of the aura. Server thread only.</p>
+ */
+@EventBusSubscriber(modid = NeoVitae.MODID)
+public final class WillChunkSync {
+
+    private static final int MAX_CHUNKS_PER_PAYLOAD = 512;
+
+    private static final Map<ResourceKey<Level>, LevelQueue> QUEUES = new HashMap<>();
+
+    private WillChunkSync() {
+    }
+
+    private static final class LevelQueue {
+        private final LongOpenHashSet changedChunks = new LongOpenHashSet();
+        // Will last broadcast for each chunk, in payload order
+        private final Long2ObjectOpenHashMap<double[]> lastSent = new Long2ObjectOpenHashMap<>();
+        private final Map<UUID, LongOpenHashSet> pendingByPlayer = new HashMap<>();
+        private final Object2LongOpenHashMap<UUID> nextSendTime = new Object2LongOpenHashMap<>();
+
+        private void queueForPlayer(UUID playerId, long chunkKey) {
+            pendingByPlayer.computeIfAbsent(playerId, k -> new LongOpenHashSet()).add(chunkKey);
+        }
+    }
+
+    private static LevelQueue getQueue(ServerLevel level) {
+        return QUEUES.computeIfAbsent(level.dimension(), k -> new LevelQueue());
+    }
+
+    /**
+     * Marks a chunk's will as changed. Tracking players are updated at the end of the tick.
+     */
+    public static void markChanged(Level level, ChunkPos chunkPos) {
+        if (level instanceof ServerLevel serverLevel) {
+            getQueue(serverLevel).changedChunks.add(chunkPos.toLong());
+        }
+    }
+
+    /**
+     * Queues the full will of a chunk for one player, regardless of what was sent before.
+     */
+    public static void queueForPlayer(ServerPlayer player, ChunkPos chunkPos) {
+        if (player.level() instanceof ServerLevel serverLevel) {
+            getQueue(serverLevel).queueForPlayer(player.getUUID(), chunkPos.toLong());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (!(event.getLevel() instanceof ServerLevel serverLevel)) {
+            return;
+        }
+        LevelQueue queue = QUEUES.get(serverLevel.dimension());
+        if (queue == null) {
+            return;
+        }
+
+        if (!queue.changedChunks.isEmpty()) {
+            collectChanges(serverLevel, queue);
+        }
+        if (!queue.pendingByPlayer.isEmpty()) {
+            sendPending(serverLevel, queue);
+        }
+    }
+
+    private static void collectChanges(ServerLevel level, LevelQueue queue) {
+        double epsilon = NeoVitae.SERVER_CONFIG.WILL_SYNC_EPSILON.get();
+        double[] current = new double[WillChunkSyncPayload.TYPES_PER_CHUNK];
+        Reference2BooleanOpenHashMap<ServerPlayer> viewers = new Reference2BooleanOpenHashMap<>();
+
+        LongIterator iterator = queue.changedChunks.iterator();
+        while (iterator.hasNext()) {
+            long chunkKey = iterator.nextLong();
+            LevelChunk chunk = level.getChunkSource().getChunkNow(ChunkPos.getX(chunkKey), ChunkPos.getZ(chunkKey));
+            if (chunk == null) {
+                continue;
+            }
+
+            WillChunkSyncPayload.writeAmounts(chunk.getData(BMDataAttachments.WILL_CHUNK), current, 0);
+            double[] sent = queue.lastSent.get(chunkKey);
+            if (sent != null && !differs(sent, current, epsilon)) {
+                continue;
+            }
+            if (sent == null) {
+                sent = new double[WillChunkSyncPayload.TYPES_PER_CHUNK];
+                queue.lastSent.put(chunkKey, sent);
+            }
+            System.arraycopy(current, 0, sent, 0, current.length);
+
+            List<ServerPlayer> players = level.getChunkSource().chunkMap.getPlayers(chunk.getPos(), false);
+            for (ServerPlayer player : players) {
+                if (!viewers.containsKey(player)) {
+                    viewers.put(player, DemonWillGaugeItem.hasGauge(player));
+                }
+                if (viewers.getBoolean(player)) {
+                    queue.queueForPlayer(player.getUUID(), chunkKey);
+                }
+            }
+        }
+        queue.changedChunks.clear();
+    }
+
+    private static boolean differs(double[] sent, double[] current, double epsilon) {
+        for (int i = 0; i < current.length; i++) {
+            if (Math.abs(current[i] - sent[i]) >= epsilon && current[i] != sent[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void sendPending(ServerLevel level, LevelQueue queue) {
+        long now = level.getGameTime();
+        int interval = NeoVitae.SERVER_CONFIG.WILL_SYNC_INTERVAL.get();
+
+        for (ServerPlayer player : level.players()) {
+            UUID playerId = player.getUUID();
+            LongOpenHashSet pending = queue.pendingByPlayer.get(playerId);
+            if (pending == null || now < queue.nextSendTime.getLong(playerId)) {
+                continue;
+            }
+
+            send(level, player, pending);
+            queue.pendingByPlayer.remove(playerId);
+            queue.nextSendTime.put(playerId, now + interval);
+        }
+    }
+
+    private static void send(ServerLevel level, ServerPlayer player, LongOpenHashSet chunkKeys) {
+        long[] keys = new long[Math.min(chunkKeys.size(), MAX_CHUNKS_PER_PAYLOAD)];
+        double[] amounts = new double[keys.length * WillChunkSyncPayload.TYPES_PER_CHUNK];
+        int count = 0;
+
+        LongIterator iterator = chunkKeys.iterator();
+        while (iterator.hasNext()) {
+            long chunkKey = iterator.nextLong();
+            LevelChunk chunk = level.getChunkSource().getChunkNow(ChunkPos.getX(chunkKey), ChunkPos.getZ(chunkKey));
+            if (chunk == null) {
+                continue;
+            }
+
+            keys[count] = chunkKey;
+            WillChunkSyncPayload.writeAmounts(chunk.getData(BMDataAttachments.WILL_CHUNK), amounts,
+                    count * WillChunkSyncPayload.TYPES_PER_CHUNK);
+            if (++count == keys.length) {
+                PacketDistributor.sendToPlayer(player, new WillChunkSyncPayload(keys.clone(), amounts.clone()));
+                count = 0;
+            }
+        }
+
+        if (count > 0) {
+            PacketDistributor.sendToPlayer(player, new WillChunkSyncPayload(
+                    Arrays.copyOf(keys, count),
+                    Arrays.copyOf(amounts, count * WillChunkSyncPayload.TYPES_PER_CHUNK)));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            LevelQueue queue = QUEUES.get(serverLevel.dimension());
+            if (queue != null) {
+                long chunkKey = event.getChunk().getPos().toLong();
+                queue.changedChunks.remove(chunkKey);
+                queue.lastSent.remove(chunkKey);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerChangedDimension(PlayerEvent.PlayerChangedDimensionEvent event) {
+        forgetPlayer(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        forgetPlayer(event.getEntity().getUUID());
+    }
+
+    private static void forgetPlayer(UUID playerId) {
+        for (LevelQueue queue : QUEUES.values()) {
+            queue.pendingByPlayer.remove(playerId);
+            queue.nextSendTime.removeLong(playerId);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            QUEUES.remove(serverLevel.dimension());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        QUEUES.clear();
+    }
+}
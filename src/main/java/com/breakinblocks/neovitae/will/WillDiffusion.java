@@ -0,0 +1,248 @@
+package com.breakinblocks.neovitae.will;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+
+/**
+ * One step of chunk-to-chunk will movement, collected from every source and applied at once.
+ *
+ * <p>Sources {@link #request} transfers during the tick; {@link #apply} then settles them all
+ * against the amounts the chunks hold when the step runs. Will only ever flows from a chunk with
+ * more of a type to one with less, and never so far that the levels cross:</p>
+ * <ul>
+ *     <li>All requests between the same two chunks share one budget of half the difference,
+ *     so several pylons in one chunk even the levels out instead of swapping them.</li>
+ *     <li>A chunk never sends out more in total than the largest of those budgets among its
+ *     destinations, nor receives more than the largest among its sources. Where the requests
+ *     exceed that, they are scaled down by one shared factor.</li>
+ *     <li>Each chunk then receives the sum of its incoming transfers minus its outgoing ones.
+ *     Will that does not fit under the chunk's maximum is lost, as with a separate drain and
+ *     add.</li>
+ *     <li>Transfers are summed in a fixed order (by source, destination and amounts) and chunks
+ *     are updated in key order, so the floating point result is reproducible too.</li>
+ * </ul>
+ *
+ * <p>This class only depends on fastutil and a {@link Store}, so it can be driven without a
+ * running game. {@link WillDiffusionStep} connects it to the levels.</p>
+ */
+public final class WillDiffusion {
+
+    private final int typeCount;
+    private final LongArrayList sources = new LongArrayList();
+    private final LongArrayList destinations = new LongArrayList();
+    // typeCount requested amounts per transfer
+    private final DoubleArrayList amounts = new DoubleArrayList();
+
+    /**
+     * Chunk will storage the step reads from and writes to.
+     */
+    public interface Store {
+        /**
+         * Whether a chunk can still be read and written. Transfers touching unavailable chunks are dropped.
+         */
+        boolean isAvailable(long chunk);
+
+        double get(long chunk, int type);
+
+        double getMax(long chunk, int type);
+
+        void set(long chunk, int type, double amount);
+
+        /**
+         * Called once per chunk whose will changed during {@link #apply}.
+         */
+        void changed(long chunk);
+    }
+
+    public WillDiffusion(int typeCount) {
+        this.typeCount = typeCount;
+    }
+
+    public boolean isEmpty() {
+        return sources.isEmpty();
+    }
+
+    public int size() {
+        return sources.size();
+    }
+
+    /**
+     * Requests moving will from one chunk to another. The amounts are upper bounds; see the
+     * class description for how they are limited.
+     *
+     * @param requested Amount per type, indexed by type; copied
+     * @return false if the request was dropped because it cannot move anything
+     */
+    public boolean request(long source, long destination, double[] requested) {
+        if (source == destination) {
+            return false;
+        }
+        boolean any = false;
+        for (int type = 0; type < typeCount; type++) {
+            any |= requested[type] > 0;
+        }
+        if (!any) {
+            return false;
+        }
+
+        sources.add(source);
+        destinations.add(destination);
+        for (int type = 0; type < typeCount; type++) {
+            amounts.add(Math.max(requested[type], 0));
+        }
+        return true;
+    }
+
+    /**
+     * Settles every requested transfer against the store and clears the requests.
+     */
+    public void apply(Store store) {
+        int count = sources.size();
+        if (count == 0) {
+            return;
+        }
+
+        int[] order = sortedOrder(count);
+
+        // Requests between the same two chunks are adjacent in order; merge them into one
+        // flow per pair, capped at half the difference between the chunks
+        LongArrayList pairSources = new LongArrayList();
+        LongArrayList pairDestinations = new LongArrayList();
+        DoubleArrayList pairBudgets = new DoubleArrayList();
+        DoubleArrayList pairFlows = new DoubleArrayList();
+        for (int start = 0; start < count; ) {
+            long source = sources.getLong(order[start]);
+            long destination = destinations.getLong(order[start]);
+            int end = start + 1;
+            while (end < count && sources.getLong(order[end]) == source && destinations.getLong(order[end]) == destination) {
+                end++;
+            }
+
+            if (store.isAvailable(source) && store.isAvailable(destination)) {
+                pairSources.add(source);
+                pairDestinations.add(destination);
+                for (int type = 0; type < typeCount; type++) {
+                    double requested = 0;
+                    for (int i = start; i < end; i++) {
+                        requested += amounts.getDouble(order[i] * typeCount + type);
+                    }
+                    double budget = Math.max(store.get(source, type) - store.get(destination, type), 0) / 2;
+                    pairBudgets.add(budget);
+                    pairFlows.add(Math.min(requested, budget));
+                }
+            }
+            start = end;
+        }
+
+        int pairs = pairSources.size();
+        if (pairs == 0) {
+            clear();
+            return;
+        }
+
+        // Total flow out of and into each chunk, and the largest budget it may use
+        Long2ObjectOpenHashMap<double[]> outScale = new Long2ObjectOpenHashMap<>();
+        Long2ObjectOpenHashMap<double[]> inScale = new Long2ObjectOpenHashMap<>();
+        for (int pair = 0; pair < pairs; pair++) {
+            double[] out = outScale.computeIfAbsent(pairSources.getLong(pair), k -> new double[typeCount * 2]);
+            double[] in = inScale.computeIfAbsent(pairDestinations.getLong(pair), k -> new double[typeCount * 2]);
+            for (int type = 0; type < typeCount; type++) {
+                double flow = pairFlows.getDouble(pair * typeCount + type);
+                double budget = pairBudgets.getDouble(pair * typeCount + type);
+                out[type] += flow;
+                out[typeCount + type] = Math.max(out[typeCount + type], budget);
+                in[type] += flow;
+                in[typeCount + type] = Math.max(in[typeCount + type], budget);
+            }
+        }
+        toScale(outScale);
+        toScale(inScale);
+
+        // Net change of every touched chunk
+        Long2ObjectOpenHashMap<double[]> deltas = new Long2ObjectOpenHashMap<>();
+        for (int pair = 0; pair < pairs; pair++) {
+            long source = pairSources.getLong(pair);
+            long destination = pairDestinations.getLong(pair);
+            double[] out = outScale.get(source);
+            double[] in = inScale.get(destination);
+            double[] sourceDelta = deltas.computeIfAbsent(source, k -> new double[typeCount]);
+            double[] destinationDelta = deltas.computeIfAbsent(destination, k -> new double[typeCount]);
+            for (int type = 0; type < typeCount; type++) {
+                double moved = pairFlows.getDouble(pair * typeCount + type) * Math.min(out[type], in[type]);
+                sourceDelta[type] -= moved;
+                destinationDelta[type] += moved;
+            }
+        }
+
+        long[] chunks = deltas.keySet().toLongArray();
+        LongArrays.quickSort(chunks);
+        for (long chunk : chunks) {
+            double[] delta = deltas.get(chunk);
+            boolean changed = false;
+            for (int type = 0; type < typeCount; type++) {
+                if (delta[type] == 0) {
+                    continue;
+                }
+                double current = store.get(chunk, type);
+                // Clamped like WillChunk#setWill
+                double updated = Math.max(0, Math.min(current + delta[type], store.getMax(chunk, type)));
+                if (updated != current) {
+                    store.set(chunk, type, updated);
+                    changed = true;
+                }
+            }
+            if (changed) {
+                store.changed(chunk);
+            }
+        }
+
+        clear();
+    }
+
+    /**
+     * Turns per-chunk {total flow, largest budget} pairs into the factor the flows are scaled by.
+     */
+    private void toScale(Long2ObjectOpenHashMap<double[]> totals) {
+        for (double[] values : totals.values()) {
+            for (int type = 0; type < typeCount; type++) {
+                double total = values[type];
+                double limit = values[typeCount + type];
+                values[type] = total <= limit ? 1 : limit / total;
+            }
+        }
+    }
+
+    public void clear() {
+        sources.clear();
+        destinations.clear();
+        amounts.clear();
+    }
+
+    private int[] sortedOrder(int count) {
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        IntArrays.quickSort(order, (a, b) -> {
+            int result = Long.compare(sources.getLong(a), sources.getLong(b));
+            if (result != 0) {
+                return result;
+            }
+            result = Long.compare(destinations.getLong(a), destinations.getLong(b));
+            if (result != 0) {
+                return result;
+            }
+            for (int type = 0; type < typeCount; type++) {
+                result = Double.compare(amounts.getDouble(a * typeCount + type), amounts.getDouble(b * typeCount + type));
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        });
+        return order;
+    }
+}
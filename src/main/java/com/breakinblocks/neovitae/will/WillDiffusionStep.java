@@ -0,0 +1,103 @@
+package com.breakinblocks.neovitae.will;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import com.breakinblocks.neovitae.NeoVitae;
+import com.breakinblocks.neovitae.common.datacomponent.EnumWillType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Runs a {@link WillDiffusion} step for each level at the end of its tick.
+ *
+ * <p>Chunk-to-chunk will movement (currently the Demon Pylon) is requested here instead of being
+ * applied on the spot. All requests of a tick are settled together against the will the chunks
+ * hold at the end of the tick, each touched chunk is saved and synced once, and the outcome no
+ * longer depends on which block entity ticked first. Server thread only.</p>
+ */
+@EventBusSubscriber(modid = NeoVitae.MODID)
+public final class WillDiffusionStep implements WillDiffusion.Store {
+
+    private static final EnumWillType[] TYPES = EnumWillType.values();
+    private static final Map<ResourceKey<Level>, WillDiffusionStep> STEPS = new HashMap<>();
+
+    private final WillDiffusion diffusion = new WillDiffusion(WillChunkAccess.TYPE_COUNT);
+    // Handles of every chunk named in this tick's requests
+    private final Long2ObjectOpenHashMap<WillChunkAccess> handles = new Long2ObjectOpenHashMap<>();
+
+    private WillDiffusionStep() {
+    }
+
+    /**
+     * Requests moving will from one chunk to another at the end of the tick.
+     *
+     * @param amounts Amount per type, indexed by {@link EnumWillType#ordinal()}; copied
+     */
+    public static void request(WillChunkAccess from, WillChunkAccess to, double[] amounts) {
+        WillDiffusionStep step = STEPS.computeIfAbsent(from.getLevel().dimension(), k -> new WillDiffusionStep());
+        long fromKey = from.getPos().toLong();
+        long toKey = to.getPos().toLong();
+        if (step.diffusion.request(fromKey, toKey, amounts)) {
+            step.handles.put(fromKey, from);
+            step.handles.put(toKey, to);
+        }
+    }
+
+    @Override
+    public boolean isAvailable(long chunk) {
+        WillChunkAccess handle = handles.get(chunk);
+        return handle != null && handle.isValid();
+    }
+
+    @Override
+    public double get(long chunk, int type) {
+        return handles.get(chunk).get(TYPES[type]);
+    }
+
+    @Override
+    public double getMax(long chunk, int type) {
+        return handles.get(chunk).getMax(TYPES[type]);
+    }
+
+    @Override
+    public void set(long chunk, int type, double amount) {
+        handles.get(chunk).set(TYPES[type], amount);
+    }
+
+    @Override
+    public void changed(long chunk) {
+        handles.get(chunk).markChanged();
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            WillDiffusionStep step = STEPS.get(serverLevel.dimension());
+            if (step != null) {
+                step.diffusion.apply(step);
+                // Handles must not outlive the tick, or unloaded chunks would be kept reachable
+                step.handles.clear();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            STEPS.remove(serverLevel.dimension());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        STEPS.clear();
+    }
+}
@@ -6,12 +6,9 @@ import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.LevelChunk;
-import net.neoforged.neoforge.network.PacketDistributor;
 import com.breakinblocks.neovitae.common.dataattachment.BMDataAttachments;
 import com.breakinblocks.neovitae.common.datacomponent.EnumWillType;
-import com.breakinblocks.neovitae.common.network.WillChunkSyncPayload;
 
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -58,7 +55,8 @@ public class WorldDemonWillHandler {
 
         if (level.isClientSide()) {
             // Client side - read from cache
-            return clientCache.getOrDefault(chunkKey(chunkPos.x, chunkPos.z), new WillChunk());
+            WillChunk cached = clientCache.get(chunkKey(chunkPos.x, chunkPos.z));
+            return cached != null ? cached : new WillChunk();
         }
 
         LevelChunk chunk = level.getChunkAt(pos);
@@ -74,7 +72,8 @@ public class WorldDemonWillHandler {
         }
 
         if (level.isClientSide()) {
-            return clientCache.getOrDefault(chunkKey(chunkPos.x, chunkPos.z), new WillChunk());
+            WillChunk cached = clientCache.get(chunkKey(chunkPos.x, chunkPos.z));
+            return cached != null ? cached : new WillChunk();
         }
 
         LevelChunk chunk = level.getChunk(chunkPos.x, chunkPos.z);
@@ -90,7 +89,7 @@ public class WorldDemonWillHandler {
 
     /**
      * Adds will to the chunk at the given position.
-     * Note: This does NOT sync to clients immediately. Client sync happens via ItemDemonWillGauge.
+     * Note: Clients are updated at the end of the tick, see {@link WillChunkSync}.
      * @return The amount actually added
      */
     public static double addWillToChunk(Level level, BlockPos pos, EnumWillType type, double amount) {
@@ -103,10 +102,9 @@ public class WorldDemonWillHandler {
         double added = willChunk.addWill(type, amount);
 
         if (added > 0) {
-            // Create a copy to ensure NeoForge detects the change
-            WillChunk newWillChunk = willChunk.copy();
-            chunk.setData(BMDataAttachments.WILL_CHUNK, newWillChunk);
+            // Mutated in place; only the chunk needs to be flagged for saving
             chunk.setUnsaved(true);
+            WillChunkSync.markChanged(level, chunk.getPos());
         }
 
         return added;
@@ -114,7 +112,7 @@ public class WorldDemonWillHandler {
 
     /**
      * Drains will from the chunk at the given position.
-     * Note: This does NOT sync to clients immediately. Client sync happens via ItemDemonWillGauge.
+     * Note: Clients are updated at the end of the tick, see {@link WillChunkSync}.
      * @return The amount actually drained
      */
     public static double drainWillFromChunk(Level level, BlockPos pos, EnumWillType type, double amount) {
@@ -127,55 +125,43 @@ public class WorldDemonWillHandler {
         double drained = willChunk.drainWill(type, amount);
 
         if (drained > 0) {
-            // Create a copy to ensure NeoForge detects the change
-            WillChunk newWillChunk = willChunk.copy();
-            chunk.setData(BMDataAttachments.WILL_CHUNK, newWillChunk);
+            // Mutated in place; only the chunk needs to be flagged for saving
             chunk.setUnsaved(true);
+            WillChunkSync.markChanged(level, chunk.getPos());
         }
 
         return drained;
     }
 
     /**
-     * Syncs will chunk data to all players tracking that chunk.
-     * @return The number of players synced to
+     * Queues will chunk data for all players tracking that chunk that can see the aura.
+     * The update is sent at the end of the tick, batched with other changes (see {@link WillChunkSync}).
+     * @return The number of players tracking the chunk
      */
     public static int syncChunkToTrackingPlayers(ServerLevel level, ChunkPos chunkPos, WillChunk willChunk) {
-        WillChunkSyncPayload payload = WillChunkSyncPayload.fromWillChunk(chunkPos.x, chunkPos.z, willChunk);
-
-        // Count players tracking this chunk
-        List<ServerPlayer> trackingPlayers = level.getChunkSource().chunkMap.getPlayers(chunkPos, false);
-        int playerCount = trackingPlayers.size();
-
-        PacketDistributor.sendToPlayersTrackingChunk(level, chunkPos, payload);
-
-        return playerCount;
+        WillChunkSync.markChanged(level, chunkPos);
+        return level.getChunkSource().chunkMap.getPlayers(chunkPos, false).size();
     }
 
     /**
-     * Syncs will chunk data to a specific player.
+     * Queues will chunk data for a specific player.
      * Used when a player starts tracking a chunk.
      */
     public static void syncChunkToPlayer(ServerPlayer player, ChunkPos chunkPos, WillChunk willChunk) {
-        WillChunkSyncPayload payload = WillChunkSyncPayload.fromWillChunk(chunkPos.x, chunkPos.z, willChunk);
-        PacketDistributor.sendToPlayer(player, payload);
+        WillChunkSync.queueForPlayer(player, chunkPos);
     }
 
     /**
      * Sends the demon will aura at the player's current position to the player.
-     * Called periodically by the Demon Will Gauge item (every 50 ticks like 1.20.1).
-     * This is the primary way clients receive will updates.
+     * Called periodically by the Demon Will Gauge item (every 50 ticks like 1.20.1),
+     * which keeps the HUD correct even when smaller changes were held back.
      */
     public static void sendPlayerDemonWillAura(ServerPlayer player) {
         if (player == null || player.level().isClientSide()) {
             return;
         }
 
-        BlockPos pos = player.blockPosition();
-        ChunkPos chunkPos = new ChunkPos(pos);
-        WillChunk willChunk = getWillChunk(player.level(), pos);
-
-        syncChunkToPlayer(player, chunkPos, willChunk);
+        WillChunkSync.queueForPlayer(player, new ChunkPos(player.blockPosition()));
     }
 
     /**
@@ -214,7 +200,7 @@ public class WorldDemonWillHandler {
     /**
      * Transfers will from one chunk to an adjacent chunk.
      * Used by demon pylons.
-     * Note: This does NOT sync to clients immediately. Client sync happens via ItemDemonWillGauge.
+     * Note: Clients are updated at the end of the tick, see {@link WillChunkSync}.
      * @return The amount actually transferred
      */
     public static double transferWill(Level level, ChunkPos fromChunk, ChunkPos toChunk, EnumWillType type, double maxTransfer) {
@@ -254,14 +240,11 @@ public class WorldDemonWillHandler {
         fromWill.drainWill(type, toTransfer);
         toWill.addWill(type, toTransfer);
 
-        // Create copies to ensure NeoForge detects the changes
-        WillChunk newFromWill = fromWill.copy();
-        WillChunk newToWill = toWill.copy();
-
-        from.setData(BMDataAttachments.WILL_CHUNK, newFromWill);
-        to.setData(BMDataAttachments.WILL_CHUNK, newToWill);
+        // Mutated in place; only the chunks need to be flagged for saving
         from.setUnsaved(true);
         to.setUnsaved(true);
+        WillChunkSync.markChanged(level, fromChunk);
+        WillChunkSync.markChanged(level, toChunk);
 
         return toTransfer;
     }
@@ -311,9 +294,7 @@ public class WorldDemonWillHandler {
         WillChunk willChunk = chunk.getData(BMDataAttachments.WILL_CHUNK);
         willChunk.setMaxBonus(type, bonus);
 
-        // Create a copy to ensure NeoForge detects the change
-        WillChunk newWillChunk = willChunk.copy();
-        chunk.setData(BMDataAttachments.WILL_CHUNK, newWillChunk);
+        // Mutated in place; only the chunk needs to be flagged for saving
         chunk.setUnsaved(true);
     }
 
@@ -338,9 +319,7 @@ public class WorldDemonWillHandler {
         WillChunk willChunk = chunk.getData(BMDataAttachments.WILL_CHUNK);
         double newBonus = willChunk.addMaxBonus(type, amount);
 
-        // Create a copy to ensure NeoForge detects the change
-        WillChunk newWillChunk = willChunk.copy();
-        chunk.setData(BMDataAttachments.WILL_CHUNK, newWillChunk);
+        // Mutated in place; only the chunk needs to be flagged for saving
         chunk.setUnsaved(true);
 
         return newBonus;
@@ -0,0 +1,31 @@
+package com.breakinblocks.neovitae;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs the JMH benchmarks in this source set when the build asks for them
+ * ({@code -PrunBenchmarks}, optionally with a regex selecting benchmarks).
+ *
+ * <p>Benchmarks run in the test JVM rather than forked ones, since that is where the
+ * game and the mod have been loaded.</p>
+ */
+class BenchmarkTest {
+
+    @Test
+    void runBenchmarks() throws RunnerException {
+        String include = System.getProperty("neovitae.benchmarks");
+        assumeTrue(include != null, "Benchmarks only run with -PrunBenchmarks");
+
+        Options options = new OptionsBuilder()
+                .include(include.isBlank() ? "Benchmark" : include)
+                .forks(0)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,161 @@
+package com.breakinblocks.neovitae.common.routing;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.ChestBlockEntity;
+import net.neoforged.neoforge.items.ItemStackHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.breakinblocks.neovitae.common.item.routing.BasicFilterKey;
+import com.breakinblocks.neovitae.common.item.routing.IFilterKey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One master node routing tick over a synthetic network of 50 filtered outputs and 50
+ * filtered inputs: {@link ItemRoutingSolver} against the previous outputs x inputs loop.
+ *
+ * <p>Every input offers {@value #ITEMS_PER_NODE} items of its own. Only the last
+ * {@code matchingOutputs} outputs ask for items an input offers; the others wait on items
+ * nobody has, which is what most filtered outputs of a large network do on a given tick.
+ * The network is rebuilt before every invocation, since routing moves its items.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ItemRoutingBenchmark {
+
+    private static final int NODES = 50;
+    private static final int SLOTS = 9;
+    private static final int ITEMS_PER_NODE = 4;
+
+    @Param({"0", "5", "50"})
+    public int matchingOutputs;
+
+    @Param({"64", "512"})
+    public int maxTransfer;
+
+    private List<Item> items;
+    private List<IItemFilter> outputs;
+    private List<IItemFilter> inputs;
+
+    @Setup(Level.Trial)
+    public void checkSameTransfers() {
+        items = new ArrayList<>();
+        for (Item item : BuiltInRegistries.ITEM) {
+            if (item != Items.AIR && new ItemStack(item).getMaxStackSize() == 64) {
+                items.add(item);
+            }
+            if (items.size() == 2 * NODES * ITEMS_PER_NODE) {
+                break;
+            }
+        }
+
+        buildNetwork();
+        int solvedMoved = ItemRoutingSolver.route(outputs, inputs, maxTransfer);
+        List<String> solvedContents = contents(outputs, inputs);
+
+        buildNetwork();
+        int loopMoved = nestedLoop();
+        List<String> loopContents = contents(outputs, inputs);
+
+        if (solvedMoved != loopMoved || !solvedContents.equals(loopContents)) {
+            throw new IllegalStateException("Solver moved " + solvedMoved + " items, nested loop " + loopMoved);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void buildNetwork() {
+        outputs = new ArrayList<>(NODES);
+        inputs = new ArrayList<>(NODES);
+        for (int node = 0; node < NODES; node++) {
+            // Inputs offer the first half of the items, unmatched outputs want the second half
+            ItemStackHandler input = new ItemStackHandler(SLOTS);
+            List<IFilterKey> inputKeys = new ArrayList<>(ITEMS_PER_NODE);
+            for (int i = 0; i < ITEMS_PER_NODE; i++) {
+                Item item = items.get(node * ITEMS_PER_NODE + i);
+                input.setStackInSlot(i * 2, new ItemStack(item, 64));
+                inputKeys.add(new BasicFilterKey(new ItemStack(item), 0));
+            }
+            inputs.add(filter(inputKeys, node, input, false));
+
+            boolean matching = node >= NODES - matchingOutputs;
+            List<IFilterKey> outputKeys = new ArrayList<>(ITEMS_PER_NODE);
+            for (int i = 0; i < ITEMS_PER_NODE; i++) {
+                // Matching outputs want items of some other input, so most pairs still miss
+                int wanted = matching ? ((node * 7) % NODES) * ITEMS_PER_NODE + i : (NODES + node) * ITEMS_PER_NODE + i;
+                // An output filter slot without an amount asks for as many as fit
+                outputKeys.add(new BasicFilterKey(new ItemStack(items.get(wanted)), Integer.MAX_VALUE));
+            }
+            outputs.add(filter(outputKeys, NODES + node, new ItemStackHandler(SLOTS), true));
+        }
+    }
+
+    @Benchmark
+    public int solver() {
+        RoutingUpdateBatch.begin();
+        try {
+            return ItemRoutingSolver.route(outputs, inputs, maxTransfer);
+        } finally {
+            RoutingUpdateBatch.end();
+        }
+    }
+
+    @Benchmark
+    public int nestedLoop() {
+        RoutingUpdateBatch.begin();
+        try {
+            // MasterRoutingNodeTile#routeItems before the solver
+            int remaining = maxTransfer;
+            for (IItemFilter outputFilter : outputs) {
+                for (IItemFilter inputFilter : inputs) {
+                    remaining -= inputFilter.transferThroughInputFilter(outputFilter, remaining);
+                    if (remaining <= 0) {
+                        return maxTransfer - remaining;
+                    }
+                }
+            }
+            return maxTransfer - remaining;
+        } finally {
+            RoutingUpdateBatch.end();
+        }
+    }
+
+    private static IItemFilter filter(List<IFilterKey> keys, int node, ItemStackHandler handler, boolean isOutput) {
+        // Distinct inventories, so the solver only refreshes the inputs an output shares one with
+        ChestBlockEntity tile = new ChestBlockEntity(new BlockPos(node, 0, 0), Blocks.CHEST.defaultBlockState());
+        IItemFilter filter = new BasicItemFilter();
+        filter.initializeFilter(keys, tile, handler, isOutput);
+        return filter;
+    }
+
+    private static List<String> contents(List<IItemFilter> outputs, List<IItemFilter> inputs) {
+        List<String> contents = new ArrayList<>();
+        for (List<IItemFilter> filters : List.of(outputs, inputs)) {
+            for (IItemFilter filter : filters) {
+                BasicItemFilter basic = (BasicItemFilter) filter;
+                for (int slot = 0; slot < basic.itemHandler.getSlots(); slot++) {
+                    contents.add(basic.itemHandler.getStackInSlot(slot).toString());
+                }
+            }
+        }
+        return contents;
+    }
+}
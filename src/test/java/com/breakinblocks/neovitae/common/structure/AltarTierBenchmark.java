@@ -0,0 +1,231 @@
+package com.breakinblocks.neovitae.common.structure;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.mojang.serialization.JsonOps;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.Rotation;
+import net.minecraft.world.level.block.state.BlockState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.breakinblocks.neovitae.common.registry.AltarComponent;
+import com.breakinblocks.neovitae.common.registry.AltarTier;
+import com.breakinblocks.neovitae.common.tag.BMTags;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Altar tier detection on the generated altar tier definitions, up to the tier-6
+ * (transcendent) structure: the compiled {@link MultiblockValidator}s checked from the
+ * highest tier down, against the previous matcher-map walk over every tier.
+ *
+ * <p>Both sides read the same in-memory world, so this measures the matchers only; the
+ * chunk lookups {@link CachedChunkReader} saves over {@code Level#getBlockState} are not
+ * included. Tag components match the blocks listed in the generated block tags.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AltarTierBenchmark {
+
+    private static final String[] TIER_NAMES = {"weak", "apprentice", "mage", "master", "archmage", "transcendent"};
+    private static final BlockPos ALTAR = BlockPos.ZERO;
+
+    /**
+     * Tier of the structure built around the altar, 0-indexed; 5 is the tier-6 altar.
+     */
+    @Param({"5", "4", "0"})
+    public int builtTier;
+
+    private MultiblockValidator[] validators;
+    private MapWalkValidator[] mapWalkValidators;
+    private ArrayBlockStateReader world;
+
+    @Setup
+    public void setup() {
+        AltarTier[] tiers = new AltarTier[TIER_NAMES.length];
+        for (int tier = 0; tier < TIER_NAMES.length; tier++) {
+            tiers[tier] = AltarTier.CODEC.parse(JsonOps.INSTANCE, readJson("data/neovitae/neovitae/altar_tier/" + TIER_NAMES[tier] + ".json"))
+                    .getOrThrow();
+        }
+
+        Map<ResourceLocation, Material> materials = new HashMap<>();
+        validators = BMMultiblock.compile(tiers, component -> material(materials, component).matcher);
+        mapWalkValidators = new MapWalkValidator[tiers.length];
+        for (int tier = 0; tier < tiers.length; tier++) {
+            Map<BlockPos, Predicate<BlockState>> matchers = new HashMap<>();
+            for (AltarComponent component : tiers[tier].components()) {
+                matchers.put(component.pos(), material(materials, component).matcher);
+            }
+            mapWalkValidators[tier] = new MapWalkValidator(Map.copyOf(matchers));
+        }
+
+        world = new ArrayBlockStateReader(tiers[tiers.length - 1].components());
+        for (AltarComponent component : tiers[builtTier].components()) {
+            world.set(ALTAR.offset(component.pos()), material(materials, component).placed);
+        }
+
+        int compiled = compiledTier();
+        int mapWalk = mapWalkTier();
+        if (compiled != builtTier || mapWalk != builtTier) {
+            throw new IllegalStateException("Expected tier " + builtTier + ", got " + compiled + " (compiled) and " + mapWalk + " (map walk)");
+        }
+    }
+
+    @Benchmark
+    public int compiledTier() {
+        // AltarUtil#getTier, with the world standing in for the chunk reader
+        for (int i = validators.length - 1; i >= 0; i--) {
+            if (validators[i] != null && validators[i].validate(world, ALTAR) != null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int mapWalkTier() {
+        // AltarUtil#getTier before the validators were compiled: every tier, lowest first
+        int tier = -1;
+        for (int i = 0; i < mapWalkValidators.length; i++) {
+            if (mapWalkValidators[i].validate(world, ALTAR) != null) {
+                tier = i;
+            }
+        }
+        return tier;
+    }
+
+    /**
+     * What a component accepts, and the block placed for it.
+     */
+    private record Material(Predicate<BlockState> matcher, BlockState placed) {
+    }
+
+    private static Material material(Map<ResourceLocation, Material> materials, AltarComponent component) {
+        ResourceLocation id = component.material().id();
+        if (!component.material().tag()) {
+            return materials.computeIfAbsent(id, key -> {
+                Block block = BuiltInRegistries.BLOCK.get(key);
+                return new Material(state -> state.is(block), block.defaultBlockState());
+            });
+        }
+        // Block tags are only bound on a running server, so match the members the tag file lists
+        return materials.computeIfAbsent(id.withPrefix("#"), key -> {
+            Set<Block> members = new ReferenceOpenHashSet<>();
+            for (JsonElement value : readJson("data/" + id.getNamespace() + "/tags/block/" + id.getPath() + ".json").getAsJsonObject().getAsJsonArray("values")) {
+                members.add(BuiltInRegistries.BLOCK.get(ResourceLocation.parse(value.getAsString())));
+            }
+            // Same fallbacks as BMMultiblock for an empty pillar tag
+            if (members.isEmpty() && id.equals(BMTags.Blocks.PILLARS.location())) {
+                return new Material(BlockState::canOcclude, Blocks.STONE_BRICKS.defaultBlockState());
+            }
+            return new Material(state -> members.contains(state.getBlock()), members.iterator().next().defaultBlockState());
+        });
+    }
+
+    private static JsonElement readJson(String path) {
+        try (InputStream stream = AltarTierBenchmark.class.getClassLoader().getResourceAsStream(path)) {
+            if (stream == null) {
+                throw new IllegalStateException("Missing resource " + path);
+            }
+            return JsonParser.parseReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read " + path, e);
+        }
+    }
+
+    /**
+     * Block states in a flat array covering a structure's bounds around {@link #ALTAR}; air elsewhere.
+     */
+    private static final class ArrayBlockStateReader implements BlockStateReader {
+        private static final BlockState AIR = Blocks.AIR.defaultBlockState();
+
+        private final int minX, minY, minZ;
+        private final int sizeX, sizeY, sizeZ;
+        private final BlockState[] states;
+
+        ArrayBlockStateReader(List<AltarComponent> bounds) {
+            int minX = 0, minY = 0, minZ = 0, maxX = 0, maxY = 0, maxZ = 0;
+            for (AltarComponent component : bounds) {
+                BlockPos pos = component.pos();
+                // Tiers are symmetrical around the altar, but cover every rotation anyway
+                int horizontal = Math.max(Math.abs(pos.getX()), Math.abs(pos.getZ()));
+                minX = Math.min(minX, -horizontal);
+                maxX = Math.max(maxX, horizontal);
+                minZ = Math.min(minZ, -horizontal);
+                maxZ = Math.max(maxZ, horizontal);
+                minY = Math.min(minY, pos.getY());
+                maxY = Math.max(maxY, pos.getY());
+            }
+            this.minX = ALTAR.getX() + minX;
+            this.minY = ALTAR.getY() + minY;
+            this.minZ = ALTAR.getZ() + minZ;
+            this.sizeX = maxX - minX + 1;
+            this.sizeY = maxY - minY + 1;
+            this.sizeZ = maxZ - minZ + 1;
+            this.states = new BlockState[sizeX * sizeY * sizeZ];
+        }
+
+        void set(BlockPos pos, BlockState state) {
+            states[index(pos.getX(), pos.getY(), pos.getZ())] = state;
+        }
+
+        private int index(int x, int y, int z) {
+            int dx = x - minX, dy = y - minY, dz = z - minZ;
+            if (dx < 0 || dy < 0 || dz < 0 || dx >= sizeX || dy >= sizeY || dz >= sizeZ) {
+                return -1;
+            }
+            return (dy * sizeZ + dz) * sizeX + dx;
+        }
+
+        @Override
+        public BlockState getBlockState(int x, int y, int z) {
+            int index = index(x, y, z);
+            BlockState state = index < 0 ? null : states[index];
+            return state == null ? AIR : state;
+        }
+    }
+
+    /**
+     * The matcher-map walk {@link MultiblockValidator} used before it was compiled, for a
+     * symmetrical structure with no offset (as every altar tier is built).
+     */
+    private record MapWalkValidator(Map<BlockPos, Predicate<BlockState>> matchers) {
+
+        @Nullable
+        Rotation validate(BlockStateReader reader, BlockPos anchor) {
+            for (Map.Entry<BlockPos, Predicate<BlockState>> entry : matchers.entrySet()) {
+                BlockPos worldPos = anchor.offset(entry.getKey()).offset(BlockPos.ZERO);
+                if (!entry.getValue().test(reader.getBlockState(worldPos.getX(), worldPos.getY(), worldPos.getZ()))) {
+                    return null;
+                }
+            }
+            return Rotation.NONE;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.breakinblocks.neovitae.common.world;
+
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the {@link TemporaryBlockTimers} wheel tick by tick, without a level.
+ */
+class TemporaryBlockTimersTest {
+
+    private static final long FIRST = 1;
+    private static final long SECOND = 2;
+
+    /**
+     * Records when each block expired. Ticks are only run while timers exist, like the level tick does.
+     */
+    private static final class Clock implements TemporaryBlockTimers.Expiry {
+        private final TemporaryBlockTimers timers = new TemporaryBlockTimers();
+        private final Long2LongOpenHashMap expiredAt = new Long2LongOpenHashMap();
+        private long now = 0;
+
+        Clock() {
+            expiredAt.defaultReturnValue(-1);
+        }
+
+        void schedule(long key, int duration) {
+            timers.schedule(now, key, null, null, duration);
+        }
+
+        /**
+         * Ends every tick up to and including {@code time}; later schedules happen in the tick after it.
+         */
+        void tickThrough(long time) {
+            for (; now <= time; now++) {
+                if (!timers.isEmpty()) {
+                    timers.tick(now, this);
+                }
+            }
+        }
+
+        @Override
+        public boolean canExpire(long key) {
+            return true;
+        }
+
+        @Override
+        public void expire(long key, Block block, @Nullable BlockState restoreState) {
+            expiredAt.put(key, now);
+        }
+    }
+
+    @Test
+    void expiresAfterItsDuration() {
+        Clock clock = new Clock();
+
+        clock.schedule(FIRST, 40);
+        clock.tickThrough(100);
+
+        assertEquals(40, clock.expiredAt.get(FIRST));
+        assertTrue(clock.timers.isEmpty());
+    }
+
+    @Test
+    void refreshMovesExpiryLater() {
+        Clock clock = new Clock();
+
+        clock.schedule(FIRST, 40);
+        clock.tickThrough(29);
+        clock.schedule(FIRST, 40);
+        clock.tickThrough(100);
+
+        assertEquals(70, clock.expiredAt.get(FIRST));
+    }
+
+    @Test
+    void expiriesBeyondTheWheelAreCarriedForward() {
+        Clock clock = new Clock();
+
+        clock.schedule(FIRST, 1000);
+        clock.tickThrough(1200);
+
+        assertEquals(1000, clock.expiredAt.get(FIRST));
+    }
+
+    @Test
+    void scheduleAfterAnIdleGapOf200TicksStillExpires() {
+        Clock clock = new Clock();
+
+        clock.schedule(FIRST, 1);
+        clock.tickThrough(1);
+        // Nothing ticks the wheel while no timers exist
+        clock.tickThrough(200);
+        clock.schedule(SECOND, 80);
+        clock.tickThrough(400);
+
+        assertEquals(1, clock.expiredAt.get(FIRST));
+        assertEquals(281, clock.expiredAt.get(SECOND));
+        assertTrue(clock.timers.isEmpty());
+    }
+
+    @Test
+    void scheduleAfterAnyIdleGapStillExpires() {
+        for (int gap = 1; gap <= 600; gap++) {
+            for (int duration : new int[]{1, 40, 80, 255, 256, 300}) {
+                Clock clock = new Clock();
+                clock.schedule(FIRST, 1);
+                clock.tickThrough(gap);
+                clock.schedule(SECOND, duration);
+                clock.tickThrough(1 + gap + duration + 10);
+
+                assertEquals(1 + gap + duration, clock.expiredAt.get(SECOND), "gap " + gap + ", duration " + duration);
+            }
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.breakinblocks.neovitae.will;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives {@link WillDiffusion} against an in-memory store, without a running game.
+ */
+class WillDiffusionTest {
+
+    private static final int TYPES = 2;
+    private static final double MAX = 100;
+    private static final double EPSILON = 1e-9;
+
+    private static final long A = 1;
+    private static final long B = 2;
+    private static final long C = 3;
+
+    /**
+     * Chunk will kept in maps; every chunk holds {@link #TYPES} types.
+     */
+    private static final class MapStore implements WillDiffusion.Store {
+        private final Long2ObjectOpenHashMap<double[]> will = new Long2ObjectOpenHashMap<>();
+        private final Long2ObjectOpenHashMap<double[]> max = new Long2ObjectOpenHashMap<>();
+        private final LongOpenHashSet unavailable = new LongOpenHashSet();
+        private final Long2IntOpenHashMap changes = new Long2IntOpenHashMap();
+
+        MapStore chunk(long chunk, double... amounts) {
+            will.put(chunk, amounts.clone());
+            max.put(chunk, new double[]{MAX, MAX});
+            return this;
+        }
+
+        MapStore max(long chunk, double... amounts) {
+            max.put(chunk, amounts.clone());
+            return this;
+        }
+
+        MapStore unavailable(long chunk) {
+            unavailable.add(chunk);
+            return this;
+        }
+
+        double total(int type) {
+            double total = 0;
+            for (double[] amounts : will.values()) {
+                total += amounts[type];
+            }
+            return total;
+        }
+
+        @Override
+        public boolean isAvailable(long chunk) {
+            return will.containsKey(chunk) && !unavailable.contains(chunk);
+        }
+
+        @Override
+        public double get(long chunk, int type) {
+            return will.get(chunk)[type];
+        }
+
+        @Override
+        public double getMax(long chunk, int type) {
+            return max.get(chunk)[type];
+        }
+
+        @Override
+        public void set(long chunk, int type, double amount) {
+            will.get(chunk)[type] = amount;
+        }
+
+        @Override
+        public void changed(long chunk) {
+            changes.addTo(chunk, 1);
+        }
+    }
+
+    private static double[] amounts(double... amounts) {
+        return amounts;
+    }
+
+    @Test
+    void movesRequestedAmountAndConservesWill() {
+        MapStore store = new MapStore().chunk(A, 80, 10).chunk(B, 20, 10);
+        WillDiffusion diffusion = new WillDiffusion(TYPES);
+
+        diffusion.request(A, B, amounts(5, 0));
+        diffusion.apply(store);
+
+        assertEquals(75, store.get(A, 0), EPSILON);
+        assertEquals(25, store.get(B, 0), EPSILON);
+        assertEquals(100, store.total(0), EPSILON);
+        assertEquals(20, store.total(1), EPSILON);
+    }
+
+    @Test
+    void requestIsCappedAtHalfTheDifference() {
+        MapStore store = new MapStore().chunk(A, 80, 0).chunk(B, 20, 0);
+        WillDiffusion diffusion = new WillDiffusion(TYPES);
+
+        diffusion.request(A, B, amounts(1000, 0));
+        diffusion.apply(store);
+
+        assertEquals(50, store.get(A, 0), EPSILON);
+        assertEquals(50, store.get(B, 0), EPSILON);
+    }
+
+    @Test
+    void pylonsSharingAChunkEvenLevelsInsteadOfSwapping() {
+        MapStore store = new MapStore().chunk(A, 80, 0).chunk(B, 20, 0);
+        WillDiffusion diffusion = new WillDiffusion(TYPES);
+
+        // Two pylons in B, each asking for half the difference they saw
+        diffusion.request(A, B, amounts(30, 0));
+        diffusion.request(A, B, amounts(30, 0));
+        diffusion.apply(store);
+
+        assertEquals(50, store.get(A, 0), EPSILON);
+        assertEquals(50, store.get(B, 0), EPSILON);
+    }
+
+    @Test
+    void pylonsSharingAChunkMatchSequentialTransfersWhenRateLimited() {
+        MapStore store = new MapStore().chunk(A, 80, 0).chunk(B, 20, 0);
+        WillDiffusion diffusion = new WillDiffusion(TYPES);
+
+        // Applied one after the other, each pylon would move 5
+        diffusion.request(A, B, amounts(5, 0));
+        diffusion.request(A, B, amounts(5, 0));
+        diffusion.apply(store);
+
+        assertEquals(70, store.get(A, 0), EPSILON);
+        assertEquals(30, store.get(B, 0), EPSILON);
+    }
+
+    @Test
+    void sourceFeedingSeveralChunksStaysAboveThem() {
+        MapStore store = new MapStore().chunk(A, 100, 0).chunk(B, 0, 0).chunk(C, 0, 0);
+        WillDiffusion diffusion = new WillDiffusion(TYPES);
+
+        diffusion.request(A, B, amounts(50, 0));
+        diffusion.request(A, C, amounts(50, 0));
+        diffusion.apply(store);
+
+        assertEquals(50, store.get(A, 0), EPSILON);
+        assertEquals(25, store.get(B, 0), EPSILON);
+        assertEquals(25, store.get(C, 0), EPSILON);
+        assertEquals(100, store.total(0), EPSILON);
+    }
+
+    @Test
+    void destinationPullingFromSeveralSourcesStaysBelowThem() {
+        MapStore store = new MapStore().chunk(A, 100, 0).chunk(B, 100, 0).chunk(C, 0, 0);
+        WillDiffusion diffusion = new WillDiffusion(TYPES);
+
+        diffusion.request(A, C, amounts(50, 0));
+        diffusion.request(B, C, amounts(50, 0));
+        diffusion.apply(store);
+
+        assertEquals(75, store.get(A, 0), EPSILON);
+        assertEquals(75, store.get(B, 0), EPSILON);
+        assertEquals(50, store.get(C, 0), EPSILON);
+        assertEquals(200, store.total(0), EPSILON);
+    }
+
+    @Test
+    void willAboveTheDestinationMaximumIsLost() {
+        MapStore store = new MapStore().chunk(A, 100, 0).chunk(B, 0, 0).max(B, 10, MAX);
+        WillDiffusion diffusion = new WillDiffusion(TYPES);
+
+        diffusion.request(A, B, amounts(50, 0));
+        diffusion.apply(store);
+
+        assertEquals(50, store.get(A, 0), EPSILON);
+        assertEquals(10, store.get(B, 0), EPSILON);
+    }
+
+    @Test
+    void willOnlyFlowsDownhill() {
+        MapStore store = new MapStore().chunk(A, 10, 60).chunk(B, 50, 20);
+        WillDiffusion diffusion = new WillDiffusion(TYPES);
+
+        diffusion.request(A, B, amounts(10, 10));
+        diffusion.apply(store);
+
+        // Type 0 would flow uphill and is dropped; type 1 moves as requested
+        assertEquals(10, store.get(A, 0), EPSILON);
+        assertEquals(50, store.get(B, 0), EPSILON);
+        assertEquals(50, store.get(A, 1), EPSILON);
+        assertEquals(30, store.get(B, 1), EPSILON);
+    }
+
+    @Test
+    void unavailableChunksDropTheirTransfers() {
+        MapStore store = new MapStore().chunk(A, 100, 0).chunk(B, 0, 0).chunk(C, 0, 0).unavailable(C);
+        WillDiffusion diffusion = new WillDiffusion(TYPES);
+
+        diffusion.request(A, B, amounts(10, 0));
+        diffusion.request(A, C, amounts(10, 0));
+        diffusion.apply(store);
+
+        assertEquals(90, store.get(A, 0), EPSILON);
+        assertEquals(10, store.get(B, 0), EPSILON);
+        assertEquals(0, store.get(C, 0), EPSILON);
+    }
+
+    @Test
+    void resultDoesNotDependOnRequestOrder() {
+        double[][] requests = {
+                {A, B, 7.3, 1.1}, {B, C, 3.7, 0.2}, {A, C, 11.9, 4.4}, {C, A, 2.2, 9.9}, {A, B, 0.7, 0.3}
+        };
+
+        MapStore forward = new MapStore().chunk(A, 61.7, 13.3).chunk(B, 33.1, 47.9).chunk(C, 12.9, 71.3);
+        MapStore backward = new MapStore().chunk(A, 61.7, 13.3).chunk(B, 33.1, 47.9).chunk(C, 12.9, 71.3);
+        WillDiffusion diffusion = new WillDiffusion(TYPES);
+
+        for (double[] request : requests) {
+            diffusion.request((long) request[0], (long) request[1], amounts(request[2], request[3]));
+        }
+        diffusion.apply(forward);
+        for (int i = requests.length - 1; i >= 0; i--) {
+            double[] request = requests[i];
+            diffusion.request((long) request[0], (long) request[1], amounts(request[2], request[3]));
+        }
+        diffusion.apply(backward);
+
+        for (long chunk : new long[]{A, B, C}) {
+            for (int type = 0; type < TYPES; type++) {
+                assertEquals(Double.doubleToLongBits(forward.get(chunk, type)), Double.doubleToLongBits(backward.get(chunk, type)));
+            }
+        }
+    }
+
+    @Test
+    void eachChangedChunkIsReportedOnce() {
+        MapStore store = new MapStore().chunk(A, 100, 100).chunk(B, 0, 0).chunk(C, 0, 0);
+        WillDiffusion diffusion = new WillDiffusion(TYPES);
+
+        diffusion.request(A, B, amounts(5, 5));
+        diffusion.request(A, C, amounts(5, 5));
+        diffusion.request(A, B, amounts(5, 5));
+        diffusion.apply(store);
+
+        assertEquals(1, store.changes.get(A));
+        assertEquals(1, store.changes.get(B));
+        assertEquals(1, store.changes.get(C));
+    }
+
+    @Test
+    void applyClearsRequests() {
+        MapStore store = new MapStore().chunk(A, 100, 0).chunk(B, 0, 0);
+        WillDiffusion diffusion = new WillDiffusion(TYPES);
+
+        assertFalse(diffusion.request(A, A, amounts(5, 0)));
+        assertFalse(diffusion.request(A, B, amounts(0, -1)));
+        assertTrue(diffusion.request(A, B, amounts(5, 0)));
+        diffusion.apply(store);
+
+        assertTrue(diffusion.isEmpty());
+        diffusion.apply(store);
+        assertEquals(95, store.get(A, 0), EPSILON);
+    }
+}